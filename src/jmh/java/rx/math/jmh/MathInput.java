@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+/**
+ * Prepares the numeric sources shared by the math operator benchmarks.
+ * <p>
+ * The {@code source} parameter selects between {@code Observable.range}
+ * (Integer only, other types fall back to the array), {@code Observable.from}
+ * over a prebuilt array, and the array source hopping threads via
+ * {@code observeOn(Schedulers.computation())}.
+ */
+@State(Scope.Thread)
+public class MathInput {
+
+    public static final int CHUNK = 256;
+
+    @Param({ "1", "1000", "1000000" })
+    public int size;
+
+    @Param({ "range", "array", "async" })
+    public String source;
+
+    public Observable<Integer> integers;
+
+    public Observable<Long> longs;
+
+    /** Distinct Longs, one per element, for the cardinality benchmarks. */
+    public Observable<Long> ids;
+
+    public Observable<Float> floats;
+
+    public Observable<Double> doubles;
+
+    /** The doubles in arrays of {@link #CHUNK} elements. */
+    public Observable<double[]> doubleChunks;
+
+    /** Wrapped values for the extractor based operators. */
+    public Observable<Holder> holders;
+
+    Blackhole bh;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        this.bh = bh;
+
+        Integer[] ia = new Integer[size];
+        Long[] la = new Long[size];
+        Long[] ida = new Long[size];
+        Float[] fa = new Float[size];
+        Double[] da = new Double[size];
+        Holder[] ha = new Holder[size];
+
+        for (int i = 0; i < size; i++) {
+            int v = (i * 31) % 1024;
+            ia[i] = v;
+            la[i] = (long) v;
+            ida[i] = i * 0x9E3779B97F4A7C15L;
+            fa[i] = (float) v;
+            da[i] = (double) v;
+            ha[i] = new Holder(v);
+        }
+
+        double[][] ca = new double[(size + CHUNK - 1) / CHUNK][];
+        for (int i = 0; i < ca.length; i++) {
+            int n = Math.min(CHUNK, size - i * CHUNK);
+            ca[i] = new double[n];
+            for (int j = 0; j < n; j++) {
+                ca[i][j] = da[i * CHUNK + j];
+            }
+        }
+
+        if ("range".equals(source)) {
+            integers = Observable.range(0, size);
+        } else {
+            integers = Observable.from(ia);
+        }
+        longs = Observable.from(la);
+        ids = Observable.from(ida);
+        floats = Observable.from(fa);
+        doubles = Observable.from(da);
+        doubleChunks = Observable.from(ca);
+        holders = Observable.from(ha);
+
+        if ("async".equals(source)) {
+            integers = integers.observeOn(Schedulers.computation());
+            longs = longs.observeOn(Schedulers.computation());
+            ids = ids.observeOn(Schedulers.computation());
+            floats = floats.observeOn(Schedulers.computation());
+            doubles = doubles.observeOn(Schedulers.computation());
+            doubleChunks = doubleChunks.observeOn(Schedulers.computation());
+            holders = holders.observeOn(Schedulers.computation());
+        }
+    }
+
+    /**
+     * Subscribes to the given aggregate and waits for it to terminate.
+     * @param o the Observable to consume
+     */
+    public void consume(Observable<?> o) {
+        PerfSubscriber<Object> ps = new PerfSubscriber<Object>(bh);
+        o.subscribe(ps);
+        ps.await();
+    }
+
+    /**
+     * A simple value object that the extractor based benchmarks read a
+     * number out of.
+     */
+    public static final class Holder {
+        public final int value;
+
+        public Holder(int value) {
+            this.value = value;
+        }
+    }
+}
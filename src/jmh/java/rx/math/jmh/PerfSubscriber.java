@@ -0,0 +1,72 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.jmh;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import rx.Subscriber;
+
+/**
+ * Consumes every signal into a Blackhole and lets the benchmark wait for
+ * the terminal event of an asynchronous source.
+ *
+ * @param <T> the value type
+ */
+public final class PerfSubscriber<T> extends Subscriber<T> {
+
+    final Blackhole bh;
+
+    final CountDownLatch latch;
+
+    public PerfSubscriber(Blackhole bh) {
+        this.bh = bh;
+        this.latch = new CountDownLatch(1);
+    }
+
+    @Override
+    public void onNext(T t) {
+        bh.consume(t);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        bh.consume(e);
+        latch.countDown();
+    }
+
+    @Override
+    public void onCompleted() {
+        bh.consume(true);
+        latch.countDown();
+    }
+
+    /**
+     * Blocks until the source terminates; synchronous sources have already
+     * terminated by the time subscribe() returns.
+     */
+    public void await() {
+        if (latch.getCount() != 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the average operators.
+ * <p>
+ * gradlew jmh -Pjmh=AveragePerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class AveragePerf {
+
+    @Benchmark
+    public void averageInteger(MathInput input) {
+        input.consume(MathObservable.averageInteger(input.integers));
+    }
+
+    @Benchmark
+    public void averageLong(MathInput input) {
+        input.consume(MathObservable.averageLong(input.longs));
+    }
+
+    @Benchmark
+    public void averageFloat(MathInput input) {
+        input.consume(MathObservable.averageFloat(input.floats));
+    }
+
+    @Benchmark
+    public void averageDouble(MathInput input) {
+        input.consume(MathObservable.averageDouble(input.doubles));
+    }
+
+    @Benchmark
+    public void averageIntegerExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).averageInteger(SumPerf.INT_VALUE));
+    }
+
+    @Benchmark
+    public void averageDoubleExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).averageDouble(SumPerf.DOUBLE_VALUE));
+    }
+
+    @Benchmark
+    public void averageIntegerPrimitiveExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).averageIntegerOf(SumPerf.INT_VALUE_PRIMITIVE));
+    }
+
+    @Benchmark
+    public void averageDoublePrimitiveExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).averageDoubleOf(SumPerf.DOUBLE_VALUE_PRIMITIVE));
+    }
+
+    @Benchmark
+    public void averageDoubleCompensated(MathInput input) {
+        input.consume(MathObservable.averageDoubleCompensated(input.doubles));
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.functions.*;
+import rx.math.jmh.MathInput;
+import rx.math.jmh.MathInput.Holder;
+import rx.observables.MathObservable;
+import rx.observables.GroupedObservable;
+
+/**
+ * Benchmark the keyed summary table against summarizing every group of
+ * {@code groupBy(key)}; the holders spread over 64 keys. The churn variant
+ * of the evicting operator only keeps 16 of them live.
+ * <p>
+ * gradlew jmh -Pjmh=ByKeyPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ByKeyPerf {
+
+    static final ToIntFunc1<Holder> KEY = new ToIntFunc1<Holder>() {
+        @Override
+        public int call(Holder t1) {
+            return t1.value & 63;
+        }
+    };
+
+    static final ToDoubleFunc1<Holder> VALUE = new ToDoubleFunc1<Holder>() {
+        @Override
+        public double call(Holder t1) {
+            return t1.value;
+        }
+    };
+
+    static final Func1<Holder, Integer> BOXED_KEY = new Func1<Holder, Integer>() {
+        @Override
+        public Integer call(Holder t1) {
+            return t1.value & 63;
+        }
+    };
+
+    static final Func1<GroupedObservable<Integer, Holder>, Observable<?>> SUMMARIZE_GROUP = new Func1<GroupedObservable<Integer, Holder>, Observable<?>>() {
+        @Override
+        public Observable<?> call(GroupedObservable<Integer, Holder> g) {
+            return MathObservable.from(g).summarizeDouble(VALUE);
+        }
+    };
+
+    @Benchmark
+    public void summarizeDoubleByIntKey(MathInput input) {
+        input.consume(MathObservable.from(input.holders).summarizeDoubleByIntKey(KEY, VALUE));
+    }
+
+    @Benchmark
+    public void summarizeDoubleByIntKeyEvery(MathInput input) {
+        input.consume(MathObservable.from(input.holders).summarizeDoubleByIntKeyEvery(KEY, VALUE, 1000));
+    }
+
+    @Benchmark
+    public void summarizeDoubleByKeyEvicting(MathInput input) {
+        input.consume(MathObservable.from(input.holders).summarizeDoubleByKeyEvicting(BOXED_KEY, VALUE, 1024));
+    }
+
+    @Benchmark
+    public void summarizeDoubleByKeyEvictingChurn(MathInput input) {
+        input.consume(MathObservable.from(input.holders).summarizeDoubleByKeyEvicting(BOXED_KEY, VALUE, 16));
+    }
+
+    @Benchmark
+    public void groupBySummarize(MathInput input) {
+        input.consume(input.holders.groupBy(BOXED_KEY).flatMap(SUMMARIZE_GROUP));
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the HyperLogLog distinct count against {@code distinct().count()};
+ * run with the gc profiler to compare the allocation per operation.
+ * <p>
+ * gradlew jmh -Pjmh=DistinctCountPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class DistinctCountPerf {
+
+    @Benchmark
+    public void exactDistinct(MathInput input) {
+        input.consume(input.ids.distinct().count());
+    }
+
+    @Benchmark
+    public void distinctCountLong(MathInput input) {
+        input.consume(MathObservable.distinctCountLong(input.ids));
+    }
+
+    @Benchmark
+    public void distinctCountHashCode(MathInput input) {
+        input.consume(MathObservable.distinctCount(input.ids));
+    }
+}
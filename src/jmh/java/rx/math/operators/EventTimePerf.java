@@ -0,0 +1,84 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rx.Observable;
+import rx.math.functions.*;
+import rx.math.jmh.PerfSubscriber;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the event-time window operators over timestamps that arrive up
+ * to 100 units out of order, about one value per unit.
+ * <p>
+ * gradlew jmh -Pjmh=EventTimePerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class EventTimePerf {
+
+    static final ToLongFunc1<long[]> TIMESTAMP = new ToLongFunc1<long[]>() {
+        @Override
+        public long call(long[] t1) {
+            return t1[0];
+        }
+    };
+
+    static final ToDoubleFunc1<long[]> VALUE = new ToDoubleFunc1<long[]>() {
+        @Override
+        public double call(long[] t1) {
+            return t1[1];
+        }
+    };
+
+    @Param({ "1000000" })
+    public int size;
+
+    /** The number of panes per window. */
+    @Param({ "1", "12" })
+    public int panes;
+
+    MathObservable<long[]> events;
+
+    Blackhole bh;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        this.bh = bh;
+        Random random = new Random(1);
+        List<long[]> list = new ArrayList<long[]>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new long[] { i - random.nextInt(100), random.nextInt(1024) });
+        }
+        events = MathObservable.from(Observable.from(list));
+    }
+
+    @Benchmark
+    public void summarizeDoubleByEventTime() {
+        PerfSubscriber<Object> ps = new PerfSubscriber<Object>(bh);
+        events.summarizeDoubleByEventTime(VALUE, TIMESTAMP, 1000L * panes, 1000L, 100L).subscribe(ps);
+        ps.await();
+    }
+}
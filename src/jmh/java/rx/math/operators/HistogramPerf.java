@@ -0,0 +1,58 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.math.functions.ToLongFunc1;
+import rx.math.jmh.MathInput;
+import rx.math.jmh.MathInput.Holder;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the histogram operator.
+ * <p>
+ * gradlew jmh -Pjmh=HistogramPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HistogramPerf {
+
+    static final ToLongFunc1<Holder> LONG_VALUE_PRIMITIVE = new ToLongFunc1<Holder>() {
+        @Override
+        public long call(Holder t) {
+            return t.value;
+        }
+    };
+
+    @Param({ "2", "3" })
+    public int significantDigits;
+
+    @Benchmark
+    public void histogramLong(MathInput input) {
+        input.consume(MathObservable.histogramLong(input.longs, 3600000000000L, significantDigits));
+    }
+
+    @Benchmark
+    public void histogramLongSelector(MathInput input) {
+        input.consume(MathObservable.from(input.holders).histogramLong(LONG_VALUE_PRIMITIVE, 3600000000000L, significantDigits));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+import rx.schedulers.Schedulers;
+
+/**
+ * Benchmark the pane based hopping window operators against averaging each
+ * overlapping {@code window(timespan, timeshift)}.
+ * <p>
+ * gradlew jmh -Pjmh=HoppingPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HoppingPerf {
+
+    static final Func1<Observable<Double>, Observable<Double>> AVERAGE = new Func1<Observable<Double>, Observable<Double>>() {
+        @Override
+        public Observable<Double> call(Observable<Double> t) {
+            return MathObservable.averageDouble(t.defaultIfEmpty(0d));
+        }
+    };
+
+    /** The number of panes per window, with a hop of one millisecond. */
+    @Param({ "12" })
+    public int panes;
+
+    @Benchmark
+    public void averageDoubleEvery(MathInput input) {
+        input.consume(MathObservable.averageDoubleEvery(input.doubles, panes, 1, TimeUnit.MILLISECONDS, Schedulers.computation()));
+    }
+
+    @Benchmark
+    public void summarizeDoubleEvery(MathInput input) {
+        input.consume(MathObservable.summarizeDoubleEvery(input.doubles, panes, 1, TimeUnit.MILLISECONDS, Schedulers.computation()));
+    }
+
+    @Benchmark
+    public void windowAverage(MathInput input) {
+        input.consume(input.doubles.window(panes, 1, TimeUnit.MILLISECONDS, Schedulers.computation()).flatMap(AVERAGE));
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.operators;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.*;
+import rx.math.jmh.MathInput;
+import rx.math.statistics.IndexedValue;
+
+/**
+ * Benchmark the min/max and minBy/maxBy operators.
+ * <p>
+ * gradlew jmh -Pjmh=MinMaxPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MinMaxPerf {
+
+    static final Comparator<Integer> REVERSE = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer o1, Integer o2) {
+            return o2.compareTo(o1);
+        }
+    };
+
+    static final Observable<Integer> INDICES = Observable.range(0, Integer.MAX_VALUE);
+
+    static final Func2<Integer, Integer, IndexedValue<Integer>> WITH_INDEX = new Func2<Integer, Integer, IndexedValue<Integer>>() {
+        @Override
+        public IndexedValue<Integer> call(Integer t, Integer i) {
+            return new IndexedValue<Integer>(i, t);
+        }
+    };
+
+    static final Func1<IndexedValue<Integer>, Integer> INDEXED_VALUE = new Func1<IndexedValue<Integer>, Integer>() {
+        @Override
+        public Integer call(IndexedValue<Integer> t) {
+            return t.getValue();
+        }
+    };
+
+    static final Func1<Integer, Integer> MOD_16 = new Func1<Integer, Integer>() {
+        @Override
+        public Integer call(Integer t) {
+            return t & 15;
+        }
+    };
+
+    @Benchmark
+    public void min(MathInput input) {
+        input.consume(OperatorMinMax.min(input.integers));
+    }
+
+    @Benchmark
+    public void max(MathInput input) {
+        input.consume(OperatorMinMax.max(input.integers));
+    }
+
+    @Benchmark
+    public void minComparator(MathInput input) {
+        input.consume(OperatorMinMax.min(input.integers, REVERSE));
+    }
+
+    @Benchmark
+    public void maxComparator(MathInput input) {
+        input.consume(OperatorMinMax.max(input.integers, REVERSE));
+    }
+
+    @Benchmark
+    public void minBy(MathInput input) {
+        input.consume(OperatorMinMax.minBy(input.integers, MOD_16));
+    }
+
+    @Benchmark
+    public void maxBy(MathInput input) {
+        input.consume(OperatorMinMax.maxBy(input.integers, MOD_16));
+    }
+
+    @Benchmark
+    public void minByMaxTies(MathInput input) {
+        input.consume(OperatorMinMax.minBy(input.integers, MOD_16, 16));
+    }
+
+    @Benchmark
+    public void minIntegers(MathInput input) {
+        input.consume(OperatorMinMax.minIntegers(input.integers));
+    }
+
+    @Benchmark
+    public void maxIntegers(MathInput input) {
+        input.consume(OperatorMinMax.maxIntegers(input.integers));
+    }
+
+    @Benchmark
+    public void maxDoubles(MathInput input) {
+        input.consume(OperatorMinMax.maxDoubles(input.doubles));
+    }
+
+    @Benchmark
+    public void maxComparableDoubles(MathInput input) {
+        input.consume(OperatorMinMax.max(input.doubles));
+    }
+
+    @Benchmark
+    public void minMax(MathInput input) {
+        input.consume(OperatorMinMax.minMax(input.integers));
+    }
+
+    @Benchmark
+    public void minMaxIntegers(MathInput input) {
+        input.consume(OperatorMinMax.minMaxIntegers(input.integers));
+    }
+
+    @Benchmark
+    public void minMaxDoubles(MathInput input) {
+        input.consume(OperatorMinMax.minMaxDoubles(input.doubles));
+    }
+
+    @Benchmark
+    public void argMax(MathInput input) {
+        input.consume(OperatorMinMax.argMax(input.integers));
+    }
+
+    @Benchmark
+    public void argMaxIntegers(MathInput input) {
+        input.consume(OperatorMinMax.argMaxIntegers(input.integers));
+    }
+
+    @Benchmark
+    public void argMaxZipMaxBy(MathInput input) {
+        input.consume(OperatorMinMax.maxBy(input.integers.zipWith(INDICES, WITH_INDEX), INDEXED_VALUE));
+    }
+}
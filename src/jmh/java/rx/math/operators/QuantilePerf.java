@@ -0,0 +1,68 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.functions.Func1;
+import rx.math.jmh.MathInput;
+import rx.math.statistics.QuantileSketch;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the p99 estimate of the quantile sketch against sorting the
+ * whole sequence.
+ * <p>
+ * gradlew jmh -Pjmh=QuantilePerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class QuantilePerf {
+
+    static final Func1<List<Double>, Double> EXACT_P99 = new Func1<List<Double>, Double>() {
+        @Override
+        public Double call(List<Double> t) {
+            Collections.sort(t);
+            return t.get((int) Math.ceil(0.99d * t.size()) - 1);
+        }
+    };
+
+    static final Func1<QuantileSketch, Double> SKETCH_P99 = new Func1<QuantileSketch, Double>() {
+        @Override
+        public Double call(QuantileSketch t) {
+            return t.getQuantile(0.99d);
+        }
+    };
+
+    @Param({ "50", "200" })
+    public int k;
+
+    @Benchmark
+    public void exactSort(MathInput input) {
+        input.consume(input.doubles.toList().map(EXACT_P99));
+    }
+
+    @Benchmark
+    public void sketch(MathInput input) {
+        input.consume(MathObservable.quantileSketchDouble(input.doubles, k).map(SKETCH_P99));
+    }
+}
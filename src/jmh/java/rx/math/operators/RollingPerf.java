@@ -0,0 +1,91 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the sliding count-window operators against aggregating each
+ * {@code window(size, 1)}.
+ * <p>
+ * gradlew jmh -Pjmh=RollingPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RollingPerf {
+
+    static final Func1<Observable<Double>, Observable<Double>> AVERAGE = new Func1<Observable<Double>, Observable<Double>>() {
+        @Override
+        public Observable<Double> call(Observable<Double> t) {
+            return MathObservable.averageDouble(t);
+        }
+    };
+
+    static final Func1<Observable<Long>, Observable<Long>> MAX = new Func1<Observable<Long>, Observable<Long>>() {
+        @Override
+        public Observable<Long> call(Observable<Long> t) {
+            return MathObservable.max(t);
+        }
+    };
+
+    @Param({ "16", "256" })
+    public int window;
+
+    @Benchmark
+    public void rollingAverageDouble(MathInput input) {
+        input.consume(MathObservable.rollingAverageDouble(input.doubles, window));
+    }
+
+    @Benchmark
+    public void rollingSumLong(MathInput input) {
+        input.consume(MathObservable.rollingSumLong(input.longs, window));
+    }
+
+    @Benchmark
+    public void windowAverage(MathInput input) {
+        input.consume(input.doubles.window(window, 1).concatMap(AVERAGE));
+    }
+
+    @Benchmark
+    public void rollingMaxLong(MathInput input) {
+        input.consume(MathObservable.rollingMaxLong(input.longs, window));
+    }
+
+    @Benchmark
+    public void rollingMaxDouble(MathInput input) {
+        input.consume(MathObservable.rollingMaxDouble(input.doubles, window));
+    }
+
+    @Benchmark
+    public void rollingMax(MathInput input) {
+        input.consume(MathObservable.rollingMax(input.longs, window));
+    }
+
+    @Benchmark
+    public void windowMax(MathInput input) {
+        input.consume(input.longs.window(window, 1).concatMap(MAX));
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+import rx.schedulers.Schedulers;
+
+/**
+ * Benchmark the session window operator against collecting each session with
+ * {@code buffer(debounce(gap))}; the synchronous sources form a single
+ * session.
+ * <p>
+ * gradlew jmh -Pjmh=SessionPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class SessionPerf {
+
+    static final Func1<List<Double>, Double> SUM_LIST = new Func1<List<Double>, Double>() {
+        @Override
+        public Double call(List<Double> t) {
+            double s = 0d;
+            for (int i = 0; i < t.size(); i++) {
+                s += t.get(i);
+            }
+            return s;
+        }
+    };
+
+    @Benchmark
+    public void summarizeDoubleBySession(MathInput input) {
+        input.consume(MathObservable.summarizeDoubleBySession(input.doubles, 1, TimeUnit.SECONDS, Schedulers.computation()));
+    }
+
+    @Benchmark
+    public void bufferDebounce(MathInput input) {
+        Observable<Double> shared = input.doubles.publish().autoConnect(2);
+        input.consume(shared.buffer(shared.debounce(1, TimeUnit.SECONDS, Schedulers.computation())).map(SUM_LIST));
+    }
+}
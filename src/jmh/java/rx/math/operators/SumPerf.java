@@ -0,0 +1,131 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.functions.Func1;
+import rx.math.functions.*;
+import rx.math.jmh.MathInput;
+import rx.math.jmh.MathInput.Holder;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the sum operators.
+ * <p>
+ * gradlew jmh -Pjmh=SumPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class SumPerf {
+
+    static final Func1<Holder, Integer> INT_VALUE = new Func1<Holder, Integer>() {
+        @Override
+        public Integer call(Holder t) {
+            return t.value;
+        }
+    };
+
+    static final Func1<Holder, Double> DOUBLE_VALUE = new Func1<Holder, Double>() {
+        @Override
+        public Double call(Holder t) {
+            return (double) t.value;
+        }
+    };
+
+    static final ToIntFunc1<Holder> INT_VALUE_PRIMITIVE = new ToIntFunc1<Holder>() {
+        @Override
+        public int call(Holder t) {
+            return t.value;
+        }
+    };
+
+    static final ToDoubleFunc1<Holder> DOUBLE_VALUE_PRIMITIVE = new ToDoubleFunc1<Holder>() {
+        @Override
+        public double call(Holder t) {
+            return t.value;
+        }
+    };
+
+    @Benchmark
+    public void sumInteger(MathInput input) {
+        input.consume(MathObservable.sumInteger(input.integers));
+    }
+
+    @Benchmark
+    public void sumLong(MathInput input) {
+        input.consume(MathObservable.sumLong(input.longs));
+    }
+
+    @Benchmark
+    public void sumFloat(MathInput input) {
+        input.consume(MathObservable.sumFloat(input.floats));
+    }
+
+    @Benchmark
+    public void sumDouble(MathInput input) {
+        input.consume(MathObservable.sumDouble(input.doubles));
+    }
+
+    @Benchmark
+    public void sumIntegerExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).sumInteger(INT_VALUE));
+    }
+
+    @Benchmark
+    public void sumDoubleExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).sumDouble(DOUBLE_VALUE));
+    }
+
+    @Benchmark
+    public void sumIntegerPrimitiveExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).sumIntegerOf(INT_VALUE_PRIMITIVE));
+    }
+
+    @Benchmark
+    public void sumDoublePrimitiveExtractor(MathInput input) {
+        input.consume(MathObservable.from(input.holders).sumDoubleOf(DOUBLE_VALUE_PRIMITIVE));
+    }
+
+    @Benchmark
+    public void sumFloatCompensated(MathInput input) {
+        input.consume(MathObservable.sumFloatCompensated(input.floats));
+    }
+
+    @Benchmark
+    public void sumDoubleCompensated(MathInput input) {
+        input.consume(MathObservable.sumDoubleCompensated(input.doubles));
+    }
+
+    @Benchmark
+    public void sumDoubleChunks(MathInput input) {
+        input.consume(MathObservable.sumDoubleChunks(input.doubleChunks));
+    }
+
+    @Benchmark
+    public void sumIntegerToLong(MathInput input) {
+        input.consume(MathObservable.sumIntegerToLong(input.integers));
+    }
+
+    @Benchmark
+    public void sumLongExact(MathInput input) {
+        input.consume(MathObservable.sumLongExact(input.longs));
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the single-pass summary operators against subscribing to the
+ * individual count/sum/min/max/average aggregations.
+ * <p>
+ * gradlew jmh -Pjmh=SummaryPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class SummaryPerf {
+
+    @Benchmark
+    public void summarizeInt(MathInput input) {
+        input.consume(MathObservable.summarizeInt(input.integers));
+    }
+
+    @Benchmark
+    public void summarizeDouble(MathInput input) {
+        input.consume(MathObservable.summarizeDouble(input.doubles));
+    }
+
+    @Benchmark
+    public void separateAggregationsInt(MathInput input) {
+        input.consume(input.integers.count());
+        input.consume(MathObservable.sumIntegerToLong(input.integers));
+        input.consume(MathObservable.min(input.integers));
+        input.consume(MathObservable.max(input.integers));
+        input.consume(MathObservable.averageInteger(input.integers));
+    }
+
+    @Benchmark
+    public void separateAggregationsDouble(MathInput input) {
+        Observable<Double> doubles = input.doubles;
+        input.consume(doubles.count());
+        input.consume(MathObservable.sumDouble(doubles));
+        input.consume(MathObservable.min(doubles));
+        input.consume(MathObservable.max(doubles));
+        input.consume(MathObservable.averageDouble(doubles));
+    }
+}
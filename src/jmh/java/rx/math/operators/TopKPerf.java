@@ -0,0 +1,70 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.functions.Func1;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the bounded heap top-K against sorting the whole sequence.
+ * <p>
+ * gradlew jmh -Pjmh=TopKPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class TopKPerf {
+
+    static final Comparator<Integer> REVERSE = Collections.reverseOrder();
+
+    @Param({ "10", "100" })
+    public int k;
+
+    Func1<List<Integer>, List<Integer>> takeK;
+
+    @Setup
+    public void setup() {
+        takeK = new Func1<List<Integer>, List<Integer>>() {
+            @Override
+            public List<Integer> call(List<Integer> t) {
+                return t.subList(0, Math.min(k, t.size()));
+            }
+        };
+    }
+
+    @Benchmark
+    public void sortedListTake(MathInput input) {
+        input.consume(input.integers.toSortedList().map(takeK));
+    }
+
+    @Benchmark
+    public void bottomK(MathInput input) {
+        input.consume(MathObservable.bottomK(input.integers, k));
+    }
+
+    @Benchmark
+    public void topKComparator(MathInput input) {
+        input.consume(MathObservable.from(input.integers).topK(k, REVERSE));
+    }
+}
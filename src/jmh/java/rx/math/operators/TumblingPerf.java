@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+import rx.math.jmh.MathInput;
+import rx.observables.MathObservable;
+
+/**
+ * Benchmark the tumbling count- and time-window operators against
+ * aggregating each {@code buffer} or {@code window}.
+ * <p>
+ * gradlew jmh -Pjmh=TumblingPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class TumblingPerf {
+
+    static final Func1<Observable<Double>, Observable<Double>> SUM = new Func1<Observable<Double>, Observable<Double>>() {
+        @Override
+        public Observable<Double> call(Observable<Double> t) {
+            return MathObservable.sumDouble(t);
+        }
+    };
+
+    static final Func1<List<Double>, Double> SUM_LIST = new Func1<List<Double>, Double>() {
+        @Override
+        public Double call(List<Double> t) {
+            double s = 0d;
+            for (int i = 0; i < t.size(); i++) {
+                s += t.get(i);
+            }
+            return s;
+        }
+    };
+
+    @Param({ "16", "256" })
+    public int window;
+
+    @Benchmark
+    public void sumDoubleEvery(MathInput input) {
+        input.consume(MathObservable.sumDoubleEvery(input.doubles, window));
+    }
+
+    @Benchmark
+    public void summarizeDoubleEvery(MathInput input) {
+        input.consume(MathObservable.summarizeDoubleEvery(input.doubles, window));
+    }
+
+    @Benchmark
+    public void bufferSum(MathInput input) {
+        input.consume(input.doubles.buffer(window).map(SUM_LIST));
+    }
+
+    @Benchmark
+    public void windowSum(MathInput input) {
+        input.consume(input.doubles.window(window).concatMap(SUM));
+    }
+
+    @Benchmark
+    public void sumDoubleEveryMillisecond(MathInput input) {
+        input.consume(MathObservable.sumDoubleEvery(input.doubles, 1, TimeUnit.MILLISECONDS, Schedulers.computation()));
+    }
+
+    @Benchmark
+    public void windowMillisecondSum(MathInput input) {
+        input.consume(input.doubles.window(1, TimeUnit.MILLISECONDS, Schedulers.computation()).concatMap(SUM));
+    }
+}
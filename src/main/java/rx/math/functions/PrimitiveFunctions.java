@@ -0,0 +1,85 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.functions;
+
+import rx.functions.Func1;
+
+/**
+ * Adapters from boxed {@code Func1} extractors to the primitive extractor
+ * interfaces, so operators built on the primitive extractors can also serve
+ * the {@code Func1} based overloads.
+ */
+public final class PrimitiveFunctions {
+    private PrimitiveFunctions() { throw new IllegalStateException("No instances!"); }
+
+    /**
+     * @param <T> the argument type
+     * @param f the boxed extractor
+     * @return an extractor that unboxes the result of {@code f}
+     */
+    public static <T> ToIntFunc1<T> toIntFunc(final Func1<? super T, Integer> f) {
+        return new ToIntFunc1<T>() {
+            @Override
+            public int call(T t) {
+                return f.call(t);
+            }
+        };
+    }
+
+    /**
+     * @param <T> the argument type
+     * @param f the boxed extractor
+     * @return an extractor that unboxes the result of {@code f}
+     */
+    public static <T> ToLongFunc1<T> toLongFunc(final Func1<? super T, Long> f) {
+        return new ToLongFunc1<T>() {
+            @Override
+            public long call(T t) {
+                return f.call(t);
+            }
+        };
+    }
+
+    /**
+     * @param <T> the argument type
+     * @param f the boxed extractor
+     * @return an extractor that unboxes the result of {@code f}
+     */
+    public static <T> ToFloatFunc1<T> toFloatFunc(final Func1<? super T, Float> f) {
+        return new ToFloatFunc1<T>() {
+            @Override
+            public float call(T t) {
+                return f.call(t);
+            }
+        };
+    }
+
+    /**
+     * @param <T> the argument type
+     * @param f the boxed extractor
+     * @return an extractor that unboxes the result of {@code f}
+     */
+    public static <T> ToDoubleFunc1<T> toDoubleFunc(final Func1<? super T, Double> f) {
+        return new ToDoubleFunc1<T>() {
+            @Override
+            public double call(T t) {
+                return f.call(t);
+            }
+        };
+    }
+}
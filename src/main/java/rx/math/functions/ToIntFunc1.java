@@ -0,0 +1,30 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.functions;
+
+import rx.functions.Function;
+
+/**
+ * Represents a function with one argument that returns a primitive int,
+ * avoiding the boxing a {@code Func1<T, Integer>} would incur.
+ *
+ * @param <T> the argument type
+ */
+public interface ToIntFunc1<T> extends Function {
+    int call(T t);
+}
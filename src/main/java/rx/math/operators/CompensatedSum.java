@@ -0,0 +1,58 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+/**
+ * Accumulates doubles with Neumaier's improved Kahan summation, which also
+ * compensates when the added term is larger in magnitude than the running sum.
+ */
+final class CompensatedSum {
+
+    double sum;
+
+    double compensation;
+
+    /** The naive sum, used to report overflow to infinity instead of NaN. */
+    double simpleSum;
+
+    void add(double v) {
+        simpleSum += v;
+        double s = sum;
+        double t = s + v;
+        if (Math.abs(s) >= Math.abs(v)) {
+            compensation += (s - t) + v;
+        } else {
+            compensation += (v - t) + s;
+        }
+        sum = t;
+    }
+
+    void clear() {
+        sum = 0d;
+        compensation = 0d;
+        simpleSum = 0d;
+    }
+
+    double value() {
+        double v = sum + compensation;
+        if (Double.isNaN(v) && Double.isInfinite(simpleSum)) {
+            return simpleSum;
+        }
+        return v;
+    }
+}
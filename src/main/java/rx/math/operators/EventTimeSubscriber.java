@@ -0,0 +1,325 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import rx.*;
+import rx.exceptions.*;
+import rx.functions.Action1;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.WindowedValue;
+import rx.plugins.RxJavaPlugins;
+
+/**
+ * A subscriber that aggregates the source values into event-time windows of
+ * {@code size} starting every {@code slide}, closing a window once the
+ * watermark, the largest timestamp seen minus the allowed lateness, passes
+ * its end.
+ * <p>
+ * Time is split into panes of {@code slide}; each value is accumulated once
+ * into the pane of its timestamp and a window combines its
+ * {@code size / slide} panes when it closes. Only the panes between the
+ * oldest open window and the largest timestamp can receive values, so they
+ * fit into a ring of {@code size / slide + allowedLateness / slide + 1} panes
+ * allocated up front. A value whose pane precedes every open window is late
+ * and handed to the late callback, if any; a value whose pane is still open
+ * only contributes to the windows that have not closed yet. Windows without
+ * values are not emitted, and the remaining windows are emitted when the
+ * source completes.
+ * <p>
+ * The source is consumed without backpressure, like the timer driven
+ * aggregates; the sequence fails with a {@link MissingBackpressureException}
+ * if a window closes before it has been requested.
+ *
+ * @param <T> the input value type
+ * @param <R> the aggregate type
+ */
+public abstract class EventTimeSubscriber<T, R> extends Subscriber<T> {
+
+    protected final Subscriber<? super WindowedValue<R>> actual;
+
+    final ToLongFunc1<? super T> timestampExtractor;
+
+    final Action1<? super T> onLate;
+
+    final long slide;
+
+    final long lateness;
+
+    /** The number of panes per window. */
+    final int panes;
+
+    /** The number of values in each pane of the ring. */
+    final long[] counts;
+
+    final AtomicLong requested;
+
+    /** The number of values in the ring. */
+    long open;
+
+    /** The pane index of the oldest window not yet emitted. */
+    long nextWindow;
+
+    long maxTimestamp;
+
+    boolean started;
+
+    /** Set once the terminal event has been signalled to the child. */
+    protected boolean done;
+
+    public EventTimeSubscriber(Subscriber<? super WindowedValue<R>> actual, ToLongFunc1<? super T> timestampExtractor,
+            Action1<? super T> onLate, long size, long slide, long lateness) {
+        this.actual = actual;
+        this.timestampExtractor = timestampExtractor;
+        this.onLate = onLate;
+        this.slide = slide;
+        this.lateness = lateness;
+        this.panes = (int) (size / slide);
+        this.counts = new long[capacity(size, slide, lateness)];
+        this.requested = new AtomicLong();
+    }
+
+    /**
+     * Adds a source value to the given pane, calling {@link #fail(Throwable)}
+     * if a user-supplied function crashes.
+     * @param t the source value
+     * @param slot the slot of the pane in the ring
+     */
+    protected abstract void accumulate(T t, int slot);
+
+    /**
+     * Resets the accumulators of a pane that is no longer part of any open
+     * window.
+     * @param slot the slot of the pane in the ring
+     */
+    protected abstract void clearPane(int slot);
+
+    /**
+     * Combines the panes of a window.
+     * @param n the number of values in the window, at least one
+     * @param firstPane the index of the first pane of the window, to be mapped
+     *        via {@link #slot(long)}
+     * @return the aggregate to emit
+     */
+    protected abstract R combine(long n, long firstPane);
+
+    /**
+     * @param pane the pane index
+     * @return the slot of the pane in the ring
+     */
+    protected final int slot(long pane) {
+        int m = counts.length;
+        int s = (int) (pane % m);
+        return s < 0 ? s + m : s;
+    }
+
+    @Override
+    public final void onNext(T t) {
+        if (done) {
+            return;
+        }
+        long ts;
+        try {
+            ts = timestampExtractor.call(t);
+        } catch (Throwable ex) {
+            fail(ex);
+            return;
+        }
+        long s = slide;
+        if (!started) {
+            started = true;
+            maxTimestamp = ts;
+            nextWindow = floorDiv(ts - lateness, s) - panes + 1;
+        } else if (ts > maxTimestamp) {
+            maxTimestamp = ts;
+            if (!closeUpTo(floorDiv(ts - lateness, s) - panes)) {
+                return;
+            }
+        }
+
+        long p = floorDiv(ts, s);
+        if (p < nextWindow) {
+            Action1<? super T> late = onLate;
+            if (late != null) {
+                try {
+                    late.call(t);
+                } catch (Throwable ex) {
+                    fail(ex);
+                }
+            }
+            return;
+        }
+        int slot = slot(p);
+        accumulate(t, slot);
+        if (done) {
+            return;
+        }
+        counts[slot]++;
+        open++;
+    }
+
+    @Override
+    public final void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.getInstance().getErrorHandler().handleError(e);
+            return;
+        }
+        done = true;
+        actual.onError(e);
+    }
+
+    @Override
+    public final void onCompleted() {
+        if (done) {
+            return;
+        }
+        while (open != 0L) {
+            if (!closeWindow()) {
+                return;
+            }
+        }
+        done = true;
+        actual.onCompleted();
+    }
+
+    /**
+     * Cancels the upstream and signals the error to the child; used when a
+     * user-supplied function crashes.
+     * @param ex the exception thrown by the function
+     */
+    protected final void fail(Throwable ex) {
+        Exceptions.throwIfFatal(ex);
+        unsubscribe();
+        onError(ex);
+    }
+
+    public final void subscribeTo(Observable<T> source) {
+        Subscriber<? super WindowedValue<R>> a = actual;
+        a.add(this);
+        a.setProducer(new Producer() {
+            @Override
+            public void request(long n) {
+                requestMore(n);
+            }
+        });
+        source.unsafeSubscribe(this);
+    }
+
+    final void requestMore(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n >= 0 required but it was " + n);
+        }
+        AtomicLong r = requested;
+        for (;;) {
+            long c = r.get();
+            long u = c + n;
+            if (u < 0L) {
+                u = Long.MAX_VALUE;
+            }
+            if (r.compareAndSet(c, u)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Closes every window up to and including the given one, skipping ahead
+     * once the ring is empty.
+     * @param lastWindow the pane index of the last window that may close
+     * @return false if the sequence failed
+     */
+    final boolean closeUpTo(long lastWindow) {
+        while (nextWindow <= lastWindow) {
+            if (open == 0L) {
+                nextWindow = lastWindow + 1;
+                break;
+            }
+            if (!closeWindow()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Emits the oldest open window, if it has values, and releases its first
+     * pane, which no later window covers.
+     * @return false if the sequence failed
+     */
+    final boolean closeWindow() {
+        long w = nextWindow;
+        long[] c = counts;
+        long n = 0L;
+        for (int i = 0; i < panes; i++) {
+            n += c[slot(w + i)];
+        }
+        if (n != 0L) {
+            R r = combine(n, w);
+            AtomicLong rq = requested;
+            long req = rq.get();
+            if (req == 0L) {
+                fail(new MissingBackpressureException("Could not emit the window due to lack of requests"));
+                return false;
+            }
+            if (req != Long.MAX_VALUE) {
+                rq.decrementAndGet();
+            }
+            long start = w * slide;
+            actual.onNext(new WindowedValue<R>(start, start + panes * slide, r));
+        }
+        int first = slot(w);
+        open -= c[first];
+        c[first] = 0L;
+        clearPane(first);
+        nextWindow = w + 1;
+        return true;
+    }
+
+    static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            q--;
+        }
+        return q;
+    }
+
+    /**
+     * Returns the number of panes the ring needs, validating the parameters.
+     * @param size the length of a window
+     * @param slide the distance between window starts
+     * @param lateness the allowed lateness
+     * @return the number of panes in the ring
+     */
+    static int capacity(long size, long slide, long lateness) {
+        if (slide <= 0) {
+            throw new IllegalArgumentException("slide > 0 required but it was " + slide);
+        }
+        if (size < slide || size % slide != 0) {
+            throw new IllegalArgumentException("size must be a positive multiple of slide (" + slide + ") but it was " + size);
+        }
+        if (lateness < 0) {
+            throw new IllegalArgumentException("allowedLateness >= 0 required but it was " + lateness);
+        }
+        long n = size / slide + lateness / slide + 1;
+        if (n > Integer.MAX_VALUE || n < 0) {
+            throw new IllegalArgumentException("(size + allowedLateness) / slide must fit an int but it was " + n);
+        }
+        return (int) n;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.math.BigInteger;
+
+import rx.math.statistics.LongSummary;
+
+/**
+ * Sums longs without wrapping around: the running total stays in a primitive
+ * long and spills into a BigInteger only when an addition would overflow.
+ */
+final class ExactSum {
+
+    long sum;
+
+    /** The part of the total that no longer fits into {@link #sum}, null until the first overflow. */
+    BigInteger overflow;
+
+    void add(long v) {
+        long s = sum;
+        long r = s + v;
+        if (((s ^ r) & (v ^ r)) < 0) {
+            BigInteger b = BigInteger.valueOf(s);
+            overflow = overflow == null ? b : overflow.add(b);
+            r = v;
+        }
+        sum = r;
+    }
+
+    /**
+     * Adds the total of another sum.
+     * @param other the sum to add
+     */
+    void add(ExactSum other) {
+        add(other.sum);
+        BigInteger o = other.overflow;
+        if (o != null) {
+            overflow = overflow == null ? o : overflow.add(o);
+        }
+    }
+
+    void clear() {
+        sum = 0L;
+        overflow = null;
+    }
+
+    /**
+     * @param count the number of values
+     * @param min the minimum value
+     * @param max the maximum value
+     * @return the summary with this total as its sum
+     */
+    LongSummary toSummary(long count, long min, long max) {
+        if (overflow == null) {
+            return new LongSummary(count, sum, min, max);
+        }
+        return new LongSummary(count, value(), min, max);
+    }
+
+    BigInteger value() {
+        BigInteger b = BigInteger.valueOf(sum);
+        return overflow == null ? b : overflow.add(b);
+    }
+
+    /**
+     * Divides the total by the given count, truncating toward zero like the
+     * long division does.
+     * @param count the positive divisor
+     * @return the quotient
+     */
+    long divide(long count) {
+        if (overflow == null) {
+            return sum / count;
+        }
+        return value().divide(BigInteger.valueOf(count)).longValue();
+    }
+}
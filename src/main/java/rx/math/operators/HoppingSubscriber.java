@@ -0,0 +1,102 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Subscriber;
+
+/**
+ * A {@link TimedTumblingSubscriber} whose timer period is the hop of a
+ * sliding time window made of a fixed number of such periods, or panes.
+ * <p>
+ * Each value is accumulated once into the current pane. When a pane closes
+ * its partial aggregate is moved into a ring of the most recent panes, and
+ * the emitted value combines the partials in the ring, so the work per value
+ * does not depend on how many windows overlap it.
+ * <p>
+ * Unlike {@code window(timespan, timeshift)}, which only emits its first
+ * window once a full {@code timespan} has elapsed, a window is emitted at
+ * every hop from the first one on. Until the ring has filled up, the windows
+ * are partial and start at the subscription, covering only the panes closed
+ * so far. Likewise the value emitted when the source completes covers the
+ * panes of the ring plus the current, partial pane.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public abstract class HoppingSubscriber<T, R> extends TimedTumblingSubscriber<T, R> {
+
+    /** The number of values in each pane of the ring. */
+    final long[] counts;
+
+    /** The slot the current pane is moved into when it closes. */
+    int index;
+
+    public HoppingSubscriber(Subscriber<? super R> actual, int panes) {
+        super(actual);
+        this.counts = new long[panes];
+    }
+
+    /**
+     * Moves the partial aggregate of the current pane into the given slot of
+     * the ring and resets the accumulators for the next pane.
+     * @param slot the slot to overwrite, which holds the oldest pane
+     */
+    protected abstract void closePane(int slot);
+
+    /**
+     * Combines the partial aggregates of every slot in the ring.
+     * @param n the number of values in the window, possibly zero
+     * @return the aggregate to emit or null to skip an empty window
+     */
+    protected abstract R combine(long n);
+
+    @Override
+    protected final R emit(long n) {
+        long[] c = counts;
+        int i = index;
+        c[i] = n;
+        closePane(i);
+        index = i + 1 == c.length ? 0 : i + 1;
+        long total = 0L;
+        for (long v : c) {
+            total += v;
+        }
+        return combine(total);
+    }
+
+    /**
+     * Returns the number of panes in a window, validating that the window
+     * length is a positive multiple of the hop.
+     * @param timespan the length of the window
+     * @param timeshift the length of the hop
+     * @return the number of panes
+     */
+    static int panes(long timespan, long timeshift) {
+        if (timeshift <= 0) {
+            throw new IllegalArgumentException("timeshift > 0 required but it was " + timeshift);
+        }
+        if (timespan < timeshift || timespan % timeshift != 0) {
+            throw new IllegalArgumentException("timespan must be a positive multiple of timeshift (" + timeshift + ") but it was " + timespan);
+        }
+        long n = timespan / timeshift;
+        if (n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("timespan / timeshift must fit an int but it was " + n);
+        }
+        return (int) n;
+    }
+}
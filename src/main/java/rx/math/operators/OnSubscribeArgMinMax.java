@@ -0,0 +1,108 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.statistics.IndexedValue;
+
+/**
+ * Emits the position and value of the minimum or maximum item, counting the
+ * items in a primitive index instead of zipping each of them with its
+ * position; among items that compare equal the earliest one is emitted.
+ *
+ * @param <T> the value type
+ */
+public final class OnSubscribeArgMinMax<T> implements OnSubscribe<IndexedValue<T>> {
+
+    final Observable<T> source;
+
+    final Comparator<? super T> comparator;
+
+    final boolean max;
+
+    public OnSubscribeArgMinMax(Observable<T> source, Comparator<? super T> comparator, boolean max) {
+        this.source = source;
+        this.comparator = comparator;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super IndexedValue<T>> t) {
+        new ArgMinMaxSubscriber<T>(t, comparator, max).subscribeTo(source);
+    }
+
+    static final class ArgMinMaxSubscriber<T> extends ScalarDeferredSubscriber<T, IndexedValue<T>> {
+
+        final Comparator<? super T> comparator;
+
+        final boolean max;
+
+        long index;
+
+        long bestIndex;
+
+        T best;
+
+        public ArgMinMaxSubscriber(Subscriber<? super IndexedValue<T>> actual, Comparator<? super T> comparator, boolean max) {
+            super(actual);
+            this.comparator = comparator;
+            this.max = max;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long i = index++;
+            if (i == 0L) {
+                best = t;
+                return;
+            }
+            int c;
+            try {
+                c = comparator.compare(best, t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (max ? c < 0 : c > 0) {
+                best = t;
+                bestIndex = i;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (index != 0L) {
+                IndexedValue<T> result = new IndexedValue<T>(bestIndex, best);
+                best = null;
+                complete(result);
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.IndexedValue;
+
+/**
+ * Emits the position and the item of the first minimum or maximum of the
+ * long values extracted from the source, keeping the index and the best
+ * value in primitive fields.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeArgMinMaxLong<T> implements OnSubscribe<IndexedValue<T>> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final boolean max;
+
+    public OnSubscribeArgMinMaxLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, boolean max) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super IndexedValue<T>> t) {
+        new ArgMinMaxLongSubscriber<T>(t, valueExtractor, max).subscribeTo(source);
+    }
+
+    static final class ArgMinMaxLongSubscriber<T> extends ScalarDeferredSubscriber<T, IndexedValue<T>> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final boolean max;
+
+        long index;
+
+        long bestIndex;
+
+        long bestValue;
+
+        T best;
+
+        public ArgMinMaxLongSubscriber(Subscriber<? super IndexedValue<T>> actual, ToLongFunc1<? super T> valueExtractor, boolean max) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.max = max;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long i = index++;
+            if (i == 0L) {
+                best = t;
+                bestValue = v;
+                return;
+            }
+            long e = bestValue;
+            if (max ? v > e : v < e) {
+                best = t;
+                bestValue = v;
+                bestIndex = i;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (index != 0L) {
+                IndexedValue<T> result = new IndexedValue<T>(bestIndex, best);
+                best = null;
+                complete(result);
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
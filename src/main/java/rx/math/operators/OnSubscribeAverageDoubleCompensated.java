@@ -0,0 +1,88 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Compute the average by extracting double values from the source via an
+ * extractor function and summing them with compensated (Neumaier) summation.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeAverageDoubleCompensated<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeAverageDoubleCompensated(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new AverageDoubleCompensatedSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class AverageDoubleCompensatedSubscriber<T> extends ScalarDeferredSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final CompensatedSum sum;
+
+        long count;
+
+        public AverageDoubleCompensatedSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new CompensatedSum();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            count++;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (count > 0) {
+                complete(sum.value() / count);
+            } else {
+                actual.onError(new IllegalArgumentException("Sequence contains no elements"));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToFloatFunc1;
+
+/**
+ * Compute the average by extracting float values from the source via an
+ * extractor function. The running sum is kept in double precision.
+ * <p>
+ * The source is consumed in an unbounded manner and the single average is
+ * emitted once the child requests it.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeAverageFloat<T> implements OnSubscribe<Float> {
+
+    final Observable<T> source;
+
+    final ToFloatFunc1<? super T> valueExtractor;
+
+    public OnSubscribeAverageFloat(Observable<T> source, ToFloatFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super Float> t) {
+        new AverageFloatSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class AverageFloatSubscriber<T> extends ScalarDeferredSubscriber<T, Float> {
+
+        final ToFloatFunc1<? super T> valueExtractor;
+
+        double sum;
+
+        long count;
+
+        public AverageFloatSubscriber(Subscriber<? super Float> actual, ToFloatFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            float v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+            count++;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (count > 0) {
+                complete((float)(sum / count));
+            } else {
+                actual.onError(new IllegalArgumentException("Sequence contains no elements"));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToIntFunc1;
+
+/**
+ * Compute the average by extracting integer values from the source via an
+ * extractor function. The values are summed without overflow and counted
+ * in a long.
+ * <p>
+ * The source is consumed in an unbounded manner and the single average is
+ * emitted once the child requests it.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeAverageInt<T> implements OnSubscribe<Integer> {
+
+    final Observable<T> source;
+
+    final ToIntFunc1<? super T> valueExtractor;
+
+    public OnSubscribeAverageInt(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super Integer> t) {
+        new AverageIntSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class AverageIntSubscriber<T> extends ScalarDeferredSubscriber<T, Integer> {
+
+        final ToIntFunc1<? super T> valueExtractor;
+
+        final ExactSum sum;
+
+        long count;
+
+        public AverageIntSubscriber(Subscriber<? super Integer> actual, ToIntFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            int v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            count++;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (count > 0) {
+                complete((int)sum.divide(count));
+            } else {
+                actual.onError(new IllegalArgumentException("Sequence contains no elements"));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Compute the average by extracting long values from the source via an
+ * extractor function. The values are summed without overflow and counted
+ * in a long.
+ * <p>
+ * The source is consumed in an unbounded manner and the single average is
+ * emitted once the child requests it.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeAverageLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    public OnSubscribeAverageLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new AverageLongSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class AverageLongSubscriber<T> extends ScalarDeferredSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum sum;
+
+        long count;
+
+        public AverageLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            count++;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (count > 0) {
+                complete(sum.divide(count));
+            } else {
+                actual.onError(new IllegalArgumentException("Sequence contains no elements"));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.HyperLogLog;
+
+/**
+ * Offers the long keys extracted from the source to a {@link HyperLogLog}
+ * estimator and emits it once the source completes.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeDistinctCount<T> implements OnSubscribe<HyperLogLog> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> keyExtractor;
+
+    final int precision;
+
+    public OnSubscribeDistinctCount(Observable<T> source, ToLongFunc1<? super T> keyExtractor, int precision) {
+        if (precision < HyperLogLog.MIN_PRECISION || precision > HyperLogLog.MAX_PRECISION) {
+            throw new IllegalArgumentException(HyperLogLog.MIN_PRECISION + " <= precision <= "
+                    + HyperLogLog.MAX_PRECISION + " required but it was " + precision);
+        }
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.precision = precision;
+    }
+
+    @Override
+    public void call(Subscriber<? super HyperLogLog> t) {
+        new DistinctCountSubscriber<T>(t, keyExtractor, new HyperLogLog(precision)).subscribeTo(source);
+    }
+
+    static final class DistinctCountSubscriber<T> extends ScalarDeferredSubscriber<T, HyperLogLog> {
+
+        final ToLongFunc1<? super T> keyExtractor;
+
+        final HyperLogLog estimator;
+
+        public DistinctCountSubscriber(Subscriber<? super HyperLogLog> actual,
+                ToLongFunc1<? super T> keyExtractor, HyperLogLog estimator) {
+            super(actual);
+            this.keyExtractor = keyExtractor;
+            this.estimator = estimator;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long k;
+            try {
+                k = keyExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            estimator.offerLong(k);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(estimator);
+        }
+    }
+}
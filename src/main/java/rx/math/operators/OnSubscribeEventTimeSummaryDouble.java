@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Action1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source for each event-time window as a {@link DoubleSummary}.
+ * Each pane is summed naively and the panes of a window are added with
+ * compensated summation.
+ *
+ * @param <T> the source value type
+ * @see EventTimeSubscriber
+ */
+public final class OnSubscribeEventTimeSummaryDouble<T> implements OnSubscribe<WindowedValue<DoubleSummary>> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final ToLongFunc1<? super T> timestampExtractor;
+
+    final Action1<? super T> onLate;
+
+    final long size;
+
+    final long slide;
+
+    final long allowedLateness;
+
+    public OnSubscribeEventTimeSummaryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        EventTimeSubscriber.capacity(size, slide, allowedLateness);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timestampExtractor = timestampExtractor;
+        this.onLate = onLate;
+        this.size = size;
+        this.slide = slide;
+        this.allowedLateness = allowedLateness;
+    }
+
+    @Override
+    public void call(Subscriber<? super WindowedValue<DoubleSummary>> t) {
+        new EventTimeSummaryDoubleSubscriber<T>(t, valueExtractor, timestampExtractor, onLate, size, slide, allowedLateness).subscribeTo(source);
+    }
+
+    static final class EventTimeSummaryDoubleSubscriber<T> extends EventTimeSubscriber<T, DoubleSummary> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final double[] sums;
+
+        final double[] mins;
+
+        final double[] maxs;
+
+        final CompensatedSum total;
+
+        public EventTimeSummaryDoubleSubscriber(Subscriber<? super WindowedValue<DoubleSummary>> actual, ToDoubleFunc1<? super T> valueExtractor,
+                ToLongFunc1<? super T> timestampExtractor, Action1<? super T> onLate, long size, long slide, long allowedLateness) {
+            super(actual, timestampExtractor, onLate, size, slide, allowedLateness);
+            this.valueExtractor = valueExtractor;
+            int n = counts.length;
+            this.sums = new double[n];
+            this.mins = new double[n];
+            this.maxs = new double[n];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            this.total = new CompensatedSum();
+        }
+
+        @Override
+        protected void accumulate(T t, int slot) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sums[slot] += v;
+            mins[slot] = Math.min(mins[slot], v);
+            maxs[slot] = Math.max(maxs[slot], v);
+        }
+
+        @Override
+        protected void clearPane(int slot) {
+            sums[slot] = 0d;
+            mins[slot] = Double.POSITIVE_INFINITY;
+            maxs[slot] = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected DoubleSummary combine(long n, long firstPane) {
+            CompensatedSum s = total;
+            s.clear();
+            double mn = Double.POSITIVE_INFINITY;
+            double mx = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < panes; i++) {
+                int j = slot(firstPane + i);
+                s.add(sums[j]);
+                mn = Math.min(mn, mins[j]);
+                mx = Math.max(mx, maxs[j]);
+            }
+            return new DoubleSummary(n, s.value(), mn, mx);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Action1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * Emits the count, sum, minimum and maximum of the long values extracted
+ * from the source for each event-time window as a {@link LongSummary}. The
+ * sums spill into a BigInteger instead of overflowing.
+ *
+ * @param <T> the source value type
+ * @see EventTimeSubscriber
+ */
+public final class OnSubscribeEventTimeSummaryLong<T> implements OnSubscribe<WindowedValue<LongSummary>> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final ToLongFunc1<? super T> timestampExtractor;
+
+    final Action1<? super T> onLate;
+
+    final long size;
+
+    final long slide;
+
+    final long allowedLateness;
+
+    public OnSubscribeEventTimeSummaryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        EventTimeSubscriber.capacity(size, slide, allowedLateness);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timestampExtractor = timestampExtractor;
+        this.onLate = onLate;
+        this.size = size;
+        this.slide = slide;
+        this.allowedLateness = allowedLateness;
+    }
+
+    @Override
+    public void call(Subscriber<? super WindowedValue<LongSummary>> t) {
+        new EventTimeSummaryLongSubscriber<T>(t, valueExtractor, timestampExtractor, onLate, size, slide, allowedLateness).subscribeTo(source);
+    }
+
+    static final class EventTimeSummaryLongSubscriber<T> extends EventTimeSubscriber<T, LongSummary> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum[] sums;
+
+        final ExactSum total;
+
+        final long[] mins;
+
+        final long[] maxs;
+
+        public EventTimeSummaryLongSubscriber(Subscriber<? super WindowedValue<LongSummary>> actual, ToLongFunc1<? super T> valueExtractor,
+                ToLongFunc1<? super T> timestampExtractor, Action1<? super T> onLate, long size, long slide, long allowedLateness) {
+            super(actual, timestampExtractor, onLate, size, slide, allowedLateness);
+            this.valueExtractor = valueExtractor;
+            int n = counts.length;
+            this.sums = new ExactSum[n];
+            for (int i = 0; i < n; i++) {
+                sums[i] = new ExactSum();
+            }
+            this.total = new ExactSum();
+            this.mins = new long[n];
+            this.maxs = new long[n];
+            Arrays.fill(mins, Long.MAX_VALUE);
+            Arrays.fill(maxs, Long.MIN_VALUE);
+        }
+
+        @Override
+        protected void accumulate(T t, int slot) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sums[slot].add(v);
+            if (v < mins[slot]) {
+                mins[slot] = v;
+            }
+            if (v > maxs[slot]) {
+                maxs[slot] = v;
+            }
+        }
+
+        @Override
+        protected void clearPane(int slot) {
+            sums[slot].clear();
+            mins[slot] = Long.MAX_VALUE;
+            maxs[slot] = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected LongSummary combine(long n, long firstPane) {
+            ExactSum s = total;
+            s.clear();
+            long mn = Long.MAX_VALUE;
+            long mx = Long.MIN_VALUE;
+            for (int i = 0; i < panes; i++) {
+                int j = slot(firstPane + i);
+                s.add(sums[j]);
+                mn = Math.min(mn, mins[j]);
+                mx = Math.max(mx, maxs[j]);
+            }
+            return s.toSummary(n, mn, mx);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.exceptions.MissingBackpressureException;
+import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.*;
+
+/**
+ * Keeps running the count, sum, minimum and maximum of the double values
+ * extracted from the source per key, evicting the least recently updated key
+ * once more than {@code maxKeys} keys are live or once a key has not been
+ * updated for {@code ttl}, and emits the final {@link DoubleSummary} of every
+ * evicted key. The keys still live when the source completes are emitted
+ * before the completion, least recently updated first.
+ * <p>
+ * The keys are kept in a hash map whose entries are linked in the order of
+ * their last update, so both the size bound and the idle timeout always
+ * evict from the head of the list in O(1). Like in {@link SessionSubscriber}
+ * each update only records the current time of the {@link Scheduler} and a
+ * single timer is pending for the oldest key at any time; the map is
+ * serialized between the source and the timer by
+ * {@link TimerSerializedSubscriber}.
+ * <p>
+ * The source is consumed without backpressure; the sequence fails with a
+ * {@link MissingBackpressureException} if a key is evicted before its summary
+ * has been requested.
+ *
+ * @param <T> the source value type
+ * @param <K> the key type
+ */
+public final class OnSubscribeEvictingSummaryByKey<T, K> implements OnSubscribe<KeyedValue<K, DoubleSummary>> {
+
+    /** The ttl of keys that are only evicted by the size bound. */
+    static final long NO_TTL = Long.MAX_VALUE;
+
+    final Observable<T> source;
+
+    final Func1<? super T, ? extends K> keySelector;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int maxKeys;
+
+    final long ttl;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeEvictingSummaryByKey(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor,
+            int maxKeys, long ttl, TimeUnit unit, Scheduler scheduler) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys > 0 required but it was " + maxKeys);
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl > 0 required but it was " + ttl);
+        }
+        this.source = source;
+        this.keySelector = keySelector;
+        this.valueExtractor = valueExtractor;
+        this.maxKeys = maxKeys;
+        this.ttl = ttl;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super KeyedValue<K, DoubleSummary>> t) {
+        long ttlMillis = ttl == NO_TTL ? NO_TTL : Math.max(1L, unit.toMillis(ttl));
+        new EvictingSummaryByKeySubscriber<T, K>(t, keySelector, valueExtractor, maxKeys, ttlMillis).subscribeTo(source, scheduler);
+    }
+
+    /**
+     * The running aggregate of a key and its links in the update order.
+     * @param <K> the key type
+     */
+    static final class Node<K> {
+        final K key;
+
+        long count;
+
+        final CompensatedSum sum;
+
+        double min;
+
+        double max;
+
+        long lastTime;
+
+        Node<K> prev;
+
+        Node<K> next;
+
+        Node(K key) {
+            this.key = key;
+            this.sum = new CompensatedSum();
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    static final class EvictingSummaryByKeySubscriber<T, K> extends TimerSerializedSubscriber<T, KeyedValue<K, DoubleSummary>> {
+
+        final Func1<? super T, ? extends K> keySelector;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final int maxKeys;
+
+        final long ttl;
+
+        final Map<K, Node<K>> map;
+
+        /** The least recently updated key; accessed by the wip owner. */
+        Node<K> head;
+
+        /** The most recently updated key; accessed by the wip owner. */
+        Node<K> tail;
+
+        public EvictingSummaryByKeySubscriber(Subscriber<? super KeyedValue<K, DoubleSummary>> actual, Func1<? super T, ? extends K> keySelector,
+                ToDoubleFunc1<? super T> valueExtractor, int maxKeys, long ttl) {
+            super(actual);
+            this.keySelector = keySelector;
+            this.valueExtractor = valueExtractor;
+            this.maxKeys = maxKeys;
+            this.ttl = ttl;
+            this.map = new HashMap<K, Node<K>>();
+        }
+
+        @Override
+        protected void add(T t) {
+            K key;
+            double v;
+            try {
+                key = keySelector.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            Node<K> n = map.get(key);
+            if (n == null) {
+                if (map.size() == maxKeys && !evict(head)) {
+                    return;
+                }
+                n = new Node<K>(key);
+                map.put(key, n);
+                link(n);
+            } else if (n != tail) {
+                unlink(n);
+                link(n);
+            }
+            n.count++;
+            n.sum.add(v);
+            n.min = Math.min(n.min, v);
+            n.max = Math.max(n.max, v);
+            if (ttl != NO_TTL) {
+                n.lastTime = worker.now();
+                if (!timerPending) {
+                    schedule(ttl);
+                }
+            }
+        }
+
+        /**
+         * Evicts every key idle for at least the ttl and rearms the timer
+         * for the oldest remaining key.
+         */
+        @Override
+        protected void onTimer(long runs) {
+            long now = worker.now();
+            Node<K> h;
+            while ((h = head) != null) {
+                long idle = now - h.lastTime;
+                if (idle < ttl) {
+                    schedule(ttl - idle);
+                    return;
+                }
+                if (!evict(h)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected void onSourceComplete() {
+            Node<K> h;
+            while ((h = head) != null) {
+                if (!evict(h)) {
+                    return;
+                }
+            }
+        }
+
+        void link(Node<K> n) {
+            Node<K> t = tail;
+            n.prev = t;
+            n.next = null;
+            if (t == null) {
+                head = n;
+            } else {
+                t.next = n;
+            }
+            tail = n;
+        }
+
+        void unlink(Node<K> n) {
+            Node<K> p = n.prev;
+            Node<K> x = n.next;
+            if (p == null) {
+                head = x;
+            } else {
+                p.next = x;
+            }
+            if (x == null) {
+                tail = p;
+            } else {
+                x.prev = p;
+            }
+            n.prev = null;
+            n.next = null;
+        }
+
+        boolean evict(Node<K> n) {
+            unlink(n);
+            map.remove(n.key);
+            return tryEmit(new KeyedValue<K, DoubleSummary>(n.key, new DoubleSummary(n.count, n.sum.value(), n.min, n.max)), "the evicted key");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongHistogram;
+
+/**
+ * Records the long values extracted from the source into a
+ * {@link LongHistogram} and emits it once the source completes.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHistogramLong<T> implements OnSubscribe<LongHistogram> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long highestTrackableValue;
+
+    final int significantDigits;
+
+    public OnSubscribeHistogramLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor,
+            long highestTrackableValue, int significantDigits) {
+        LongHistogram.checkLayout(highestTrackableValue, significantDigits);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongHistogram> t) {
+        LongHistogram histogram = new LongHistogram(highestTrackableValue, significantDigits);
+        new HistogramLongSubscriber<T>(t, valueExtractor, histogram).subscribeTo(source);
+    }
+
+    static final class HistogramLongSubscriber<T> extends ScalarDeferredSubscriber<T, LongHistogram> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final LongHistogram histogram;
+
+        public HistogramLongSubscriber(Subscriber<? super LongHistogram> actual,
+                ToLongFunc1<? super T> valueExtractor, LongHistogram histogram) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            try {
+                histogram.recordValue(valueExtractor.call(t));
+            } catch (Throwable ex) {
+                fail(ex);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(histogram);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+
+/**
+ * Emits the number of source values received in the last {@code timespan}
+ * every {@code timeshift}, keeping one count per {@code timeshift} pane.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingCount<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingCount(Observable<T> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new HoppingCountSubscriber<T>(t, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingCountSubscriber<T> extends HoppingSubscriber<T, Long> {
+
+        public HoppingCountSubscriber(Subscriber<? super Long> actual, int panes) {
+            super(actual, panes);
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            // the base class counts the values
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            // the base class keeps the pane counts
+        }
+
+        @Override
+        protected Long combine(long n) {
+            return n;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleMinMax;
+
+/**
+ * Emits the minimum and maximum of the double values extracted from the
+ * source over the last {@code timespan} every {@code timeshift}, keeping one
+ * partial minimum and maximum per {@code timeshift} pane and skipping windows
+ * without values. NaN and signed zeros follow
+ * {@link Math#min(double, double)} and {@link Math#max(double, double)}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingMinMaxDouble<T> implements OnSubscribe<DoubleMinMax> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingMinMaxDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleMinMax> t) {
+        new HoppingMinMaxDoubleSubscriber<T>(t, valueExtractor, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingMinMaxDoubleSubscriber<T> extends HoppingSubscriber<T, DoubleMinMax> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final double[] mins;
+
+        final double[] maxs;
+
+        double min;
+
+        double max;
+
+        public HoppingMinMaxDoubleSubscriber(Subscriber<? super DoubleMinMax> actual, ToDoubleFunc1<? super T> valueExtractor, int panes) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.mins = new double[panes];
+            this.maxs = new double[panes];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            mins[slot] = min;
+            maxs[slot] = max;
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected DoubleMinMax combine(long n) {
+            if (n == 0) {
+                return null;
+            }
+            double mn = Double.POSITIVE_INFINITY;
+            double mx = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < mins.length; i++) {
+                mn = Math.min(mn, mins[i]);
+                mx = Math.max(mx, maxs[i]);
+            }
+            return new DoubleMinMax(mn, mx);
+        }
+    }
+}
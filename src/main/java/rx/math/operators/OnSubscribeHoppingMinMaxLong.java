@@ -0,0 +1,128 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongMinMax;
+
+/**
+ * Emits the minimum and maximum of the long values extracted from the
+ * source over the last {@code timespan} every {@code timeshift}, keeping one
+ * partial minimum and maximum per {@code timeshift} pane and skipping windows
+ * without values.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingMinMaxLong<T> implements OnSubscribe<LongMinMax> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingMinMaxLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongMinMax> t) {
+        new HoppingMinMaxLongSubscriber<T>(t, valueExtractor, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingMinMaxLongSubscriber<T> extends HoppingSubscriber<T, LongMinMax> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final long[] mins;
+
+        final long[] maxs;
+
+        long min;
+
+        long max;
+
+        public HoppingMinMaxLongSubscriber(Subscriber<? super LongMinMax> actual, ToLongFunc1<? super T> valueExtractor, int panes) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.mins = new long[panes];
+            this.maxs = new long[panes];
+            Arrays.fill(mins, Long.MAX_VALUE);
+            Arrays.fill(maxs, Long.MIN_VALUE);
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            mins[slot] = min;
+            maxs[slot] = max;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected LongMinMax combine(long n) {
+            if (n == 0) {
+                return null;
+            }
+            long mn = Long.MAX_VALUE;
+            long mx = Long.MIN_VALUE;
+            for (int i = 0; i < mins.length; i++) {
+                mn = Math.min(mn, mins[i]);
+                mx = Math.max(mx, maxs[i]);
+            }
+            return new LongMinMax(mn, mx);
+        }
+    }
+}
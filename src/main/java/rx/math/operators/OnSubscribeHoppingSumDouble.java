@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Sums or averages the double values extracted from the source over the
+ * last {@code timespan} every {@code timeshift}, keeping one partial sum per
+ * {@code timeshift} pane. Windows without values emit a zero sum but are
+ * skipped when averaging.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingSumDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    final boolean average;
+
+    public OnSubscribeHoppingSumDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler, boolean average) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.average = average;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new HoppingSumDoubleSubscriber<T>(t, valueExtractor, panes, average).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingSumDoubleSubscriber<T> extends HoppingSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean average;
+
+        final double[] sums;
+
+        double sum;
+
+        public HoppingSumDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, int panes, boolean average) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.average = average;
+            this.sums = new double[panes];
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            sums[slot] = sum;
+            sum = 0d;
+        }
+
+        @Override
+        protected Double combine(long n) {
+            double s = 0d;
+            for (double v : sums) {
+                s += v;
+            }
+            if (average) {
+                return n != 0 ? s / n : null;
+            }
+            return s;
+        }
+    }
+}
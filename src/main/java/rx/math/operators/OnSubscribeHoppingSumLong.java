@@ -0,0 +1,104 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Sums the long values extracted from the source over the last
+ * {@code timespan} every {@code timeshift}, keeping one partial sum per
+ * {@code timeshift} pane. The sums wrap around on overflow.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingSumLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingSumLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new HoppingSumLongSubscriber<T>(t, valueExtractor, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingSumLongSubscriber<T> extends HoppingSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final long[] sums;
+
+        long sum;
+
+        public HoppingSumLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor, int panes) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.sums = new long[panes];
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            sums[slot] = sum;
+            sum = 0L;
+        }
+
+        @Override
+        protected Long combine(long n) {
+            long s = 0L;
+            for (long v : sums) {
+                s += v;
+            }
+            return s;
+        }
+    }
+}
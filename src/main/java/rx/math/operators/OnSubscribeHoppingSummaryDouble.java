@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleSummary;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source over the last {@code timespan} every {@code timeshift} as a
+ * {@link DoubleSummary}, keeping one partial summary per {@code timeshift}
+ * pane. The values of a pane and the pane sums of a window are both added
+ * with compensated summation.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingSummaryDouble<T> implements OnSubscribe<DoubleSummary> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingSummaryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleSummary> t) {
+        new HoppingSummaryDoubleSubscriber<T>(t, valueExtractor, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingSummaryDoubleSubscriber<T> extends HoppingSubscriber<T, DoubleSummary> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final double[] sums;
+
+        final double[] mins;
+
+        final double[] maxs;
+
+        final CompensatedSum sum;
+
+        final CompensatedSum total;
+
+        double min;
+
+        double max;
+
+        public HoppingSummaryDoubleSubscriber(Subscriber<? super DoubleSummary> actual, ToDoubleFunc1<? super T> valueExtractor, int panes) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.sums = new double[panes];
+            this.mins = new double[panes];
+            this.maxs = new double[panes];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            this.sum = new CompensatedSum();
+            this.total = new CompensatedSum();
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            sums[slot] = sum.value();
+            mins[slot] = min;
+            maxs[slot] = max;
+            sum.clear();
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected DoubleSummary combine(long n) {
+            CompensatedSum s = total;
+            s.clear();
+            double mn = Double.POSITIVE_INFINITY;
+            double mx = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < sums.length; i++) {
+                s.add(sums[i]);
+                mn = Math.min(mn, mins[i]);
+                mx = Math.max(mx, maxs[i]);
+            }
+            return new DoubleSummary(n, s.value(), mn, mx);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongSummary;
+
+/**
+ * Emits the count, sum, minimum and maximum of the long values extracted
+ * from the source over the last {@code timespan} every {@code timeshift} as a
+ * {@link LongSummary}, keeping one partial summary per {@code timeshift}
+ * pane.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeHoppingSummaryLong<T> implements OnSubscribe<LongSummary> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long timeshift;
+
+    final int panes;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeHoppingSummaryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        this.panes = HoppingSubscriber.panes(timespan, timeshift);
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.timeshift = timeshift;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongSummary> t) {
+        new HoppingSummaryLongSubscriber<T>(t, valueExtractor, panes).subscribeTo(source, timeshift, unit, scheduler);
+    }
+
+    static final class HoppingSummaryLongSubscriber<T> extends HoppingSubscriber<T, LongSummary> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum[] sums;
+
+        final ExactSum total;
+
+        final long[] mins;
+
+        final long[] maxs;
+
+        ExactSum sum;
+
+        long min;
+
+        long max;
+
+        public HoppingSummaryLongSubscriber(Subscriber<? super LongSummary> actual, ToLongFunc1<? super T> valueExtractor, int panes) {
+            super(actual, panes);
+            this.valueExtractor = valueExtractor;
+            this.sums = new ExactSum[panes];
+            for (int i = 0; i < panes; i++) {
+                sums[i] = new ExactSum();
+            }
+            this.total = new ExactSum();
+            this.sum = new ExactSum();
+            this.mins = new long[panes];
+            this.maxs = new long[panes];
+            Arrays.fill(mins, Long.MAX_VALUE);
+            Arrays.fill(maxs, Long.MIN_VALUE);
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        protected void closePane(int slot) {
+            ExactSum oldest = sums[slot];
+            sums[slot] = sum;
+            mins[slot] = min;
+            maxs[slot] = max;
+            oldest.clear();
+            sum = oldest;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected LongSummary combine(long n) {
+            ExactSum s = total;
+            s.clear();
+            long mn = Long.MAX_VALUE;
+            long mx = Long.MIN_VALUE;
+            for (int i = 0; i < sums.length; i++) {
+                s.add(sums[i]);
+                mn = Math.min(mn, mins[i]);
+                mx = Math.max(mx, maxs[i]);
+            }
+            return s.toSummary(n, mn, mx);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.statistics.MinMax;
+
+/**
+ * Tracks both the minimum and the maximum item in one pass. Items are
+ * taken in pairs: the pair is ordered first and then only its smaller item
+ * is compared with the minimum and its larger one with the maximum, which
+ * takes 3 comparisons per 2 items instead of 4. Among equal items the
+ * earliest one is kept.
+ *
+ * @param <T> the value type
+ */
+public final class OnSubscribeMinAndMax<T> implements OnSubscribe<MinMax<T>> {
+
+    final Observable<T> source;
+
+    final Comparator<? super T> comparator;
+
+    public OnSubscribeMinAndMax(Observable<T> source, Comparator<? super T> comparator) {
+        this.source = source;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void call(Subscriber<? super MinMax<T>> t) {
+        new MinAndMaxSubscriber<T>(t, comparator).subscribeTo(source);
+    }
+
+    static final class MinAndMaxSubscriber<T> extends ScalarDeferredSubscriber<T, MinMax<T>> {
+
+        final Comparator<? super T> comparator;
+
+        boolean hasPending;
+
+        T pending;
+
+        boolean nonEmpty;
+
+        T min;
+
+        T max;
+
+        public MinAndMaxSubscriber(Subscriber<? super MinMax<T>> actual, Comparator<? super T> comparator) {
+            super(actual);
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            if (!hasPending) {
+                pending = t;
+                hasPending = true;
+                return;
+            }
+            T a = pending;
+            pending = null;
+            hasPending = false;
+            try {
+                int c = comparator.compare(a, t);
+                if (c <= 0) {
+                    update(a, c == 0 ? a : t);
+                } else {
+                    update(t, a);
+                }
+            } catch (Throwable ex) {
+                fail(ex);
+            }
+        }
+
+        void update(T small, T large) {
+            if (nonEmpty) {
+                if (comparator.compare(min, small) > 0) {
+                    min = small;
+                }
+                if (comparator.compare(large, max) > 0) {
+                    max = large;
+                }
+            } else {
+                min = small;
+                max = large;
+                nonEmpty = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasPending) {
+                T a = pending;
+                pending = null;
+                hasPending = false;
+                try {
+                    update(a, a);
+                } catch (Throwable ex) {
+                    fail(ex);
+                    return;
+                }
+            }
+            if (nonEmpty) {
+                MinMax<T> result = new MinMax<T>(min, max);
+                min = null;
+                max = null;
+                complete(result);
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleMinMax;
+
+/**
+ * Tracks both the minimum and the maximum of the double values extracted from
+ * the source in one pass, taking the values in pairs so that 2 values cost
+ * 3 comparisons instead of 4.
+ * <p>
+ * A NaN value makes both extremes NaN, and -0.0 is considered smaller than
+ * 0.0, following {@link Math#min(double, double)} and {@link Math#max(double, double)}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinAndMaxDouble<T> implements OnSubscribe<DoubleMinMax> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeMinAndMaxDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleMinMax> t) {
+        new MinAndMaxDoubleSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class MinAndMaxDoubleSubscriber<T> extends ScalarDeferredSubscriber<T, DoubleMinMax> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        boolean hasPending;
+
+        double pending;
+
+        boolean nonEmpty;
+
+        boolean nan;
+
+        double min;
+
+        double max;
+
+        public MinAndMaxDoubleSubscriber(Subscriber<? super DoubleMinMax> actual, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasPending) {
+                pending = v;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+            double a = pending;
+            if (nan) {
+                return;
+            }
+            if (a != a || v != v) {
+                nan = true;
+            } else if (less(v, a)) {
+                update(v, a);
+            } else {
+                update(a, v);
+            }
+        }
+
+        void update(double small, double large) {
+            if (nonEmpty) {
+                if (less(small, min)) {
+                    min = small;
+                }
+                if (less(max, large)) {
+                    max = large;
+                }
+            } else {
+                min = small;
+                max = large;
+                nonEmpty = true;
+            }
+        }
+
+        /**
+         * Strict less-than that also orders -0.0 before 0.0; the operands are not NaN.
+         */
+        static boolean less(double a, double b) {
+            return a < b || (a == b && Double.doubleToRawLongBits(a) < Double.doubleToRawLongBits(b));
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasPending) {
+                hasPending = false;
+                if (pending != pending) {
+                    nan = true;
+                } else if (!nan) {
+                    update(pending, pending);
+                }
+            }
+            if (nan) {
+                complete(new DoubleMinMax(Double.NaN, Double.NaN));
+            } else if (nonEmpty) {
+                complete(new DoubleMinMax(min, max));
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToIntFunc1;
+import rx.math.statistics.IntMinMax;
+
+/**
+ * Tracks both the minimum and the maximum of the int values extracted from
+ * the source in one pass, taking the values in pairs so that 2 values cost
+ * 3 comparisons instead of 4.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinAndMaxInt<T> implements OnSubscribe<IntMinMax> {
+
+    final Observable<T> source;
+
+    final ToIntFunc1<? super T> valueExtractor;
+
+    public OnSubscribeMinAndMaxInt(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super IntMinMax> t) {
+        new MinAndMaxIntSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class MinAndMaxIntSubscriber<T> extends ScalarDeferredSubscriber<T, IntMinMax> {
+
+        final ToIntFunc1<? super T> valueExtractor;
+
+        boolean hasPending;
+
+        int pending;
+
+        boolean nonEmpty;
+
+        int min;
+
+        int max;
+
+        public MinAndMaxIntSubscriber(Subscriber<? super IntMinMax> actual, ToIntFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            int v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasPending) {
+                pending = v;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+            int a = pending;
+            if (v < a) {
+                update(v, a);
+            } else {
+                update(a, v);
+            }
+        }
+
+        void update(int small, int large) {
+            if (nonEmpty) {
+                if (small < min) {
+                    min = small;
+                }
+                if (large > max) {
+                    max = large;
+                }
+            } else {
+                min = small;
+                max = large;
+                nonEmpty = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasPending) {
+                hasPending = false;
+                update(pending, pending);
+            }
+            if (nonEmpty) {
+                complete(new IntMinMax(min, max));
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongMinMax;
+
+/**
+ * Tracks both the minimum and the maximum of the long values extracted from
+ * the source in one pass, taking the values in pairs so that 2 values cost
+ * 3 comparisons instead of 4.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinAndMaxLong<T> implements OnSubscribe<LongMinMax> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    public OnSubscribeMinAndMaxLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongMinMax> t) {
+        new MinAndMaxLongSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class MinAndMaxLongSubscriber<T> extends ScalarDeferredSubscriber<T, LongMinMax> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        boolean hasPending;
+
+        long pending;
+
+        boolean nonEmpty;
+
+        long min;
+
+        long max;
+
+        public MinAndMaxLongSubscriber(Subscriber<? super LongMinMax> actual, ToLongFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasPending) {
+                pending = v;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+            long a = pending;
+            if (v < a) {
+                update(v, a);
+            } else {
+                update(a, v);
+            }
+        }
+
+        void update(long small, long large) {
+            if (nonEmpty) {
+                if (small < min) {
+                    min = small;
+                }
+                if (large > max) {
+                    max = large;
+                }
+            } else {
+                min = small;
+                max = large;
+                nonEmpty = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasPending) {
+                hasPending = false;
+                update(pending, pending);
+            }
+            if (nonEmpty) {
+                complete(new LongMinMax(min, max));
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
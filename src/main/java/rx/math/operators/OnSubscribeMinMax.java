@@ -22,13 +22,19 @@ import rx.Observable;
 import rx.Observable.OnSubscribe;
 import rx.Subscriber;
 
+/**
+ * Emits the minimum or maximum item according to a comparator; among items
+ * that compare equal the earliest one is emitted.
+ *
+ * @param <T> the value type
+ */
 public final class OnSubscribeMinMax<T> implements OnSubscribe<T> {
 
     final Observable<T> source;
     
     final Comparator<? super T> comparator;
     
-    final int compensator;
+    final boolean max;
     
     @SuppressWarnings("rawtypes")
     public static final Comparator<Comparable> COMPARABLE_MIN = new Comparator<Comparable>() {
@@ -39,34 +45,44 @@ public final class OnSubscribeMinMax<T> implements OnSubscribe<T> {
         }
     };
 
-    public OnSubscribeMinMax(Observable<T> source, Comparator<? super T> comparator, int compensator) {
+    public OnSubscribeMinMax(Observable<T> source, Comparator<? super T> comparator, boolean max) {
         this.source = source;
         this.comparator = comparator;
-        this.compensator = compensator;
+        this.max = max;
+    }
+
+    /**
+     * @deprecated use {@link #OnSubscribeMinMax(Observable, Comparator, boolean)};
+     * a positive {@code compensator} selects the minimum, a negative one the maximum
+     */
+    @Deprecated
+    public OnSubscribeMinMax(Observable<T> source, Comparator<? super T> comparator, int compensator) {
+        this(source, comparator, compensator < 0);
     }
 
     @Override
     public void call(Subscriber<? super T> t) {
-        new MinMaxSubscriber<T>(t, comparator, compensator).subscribeTo(source);
+        new MinMaxSubscriber<T>(t, comparator, max).subscribeTo(source);
     }
 
     static final class MinMaxSubscriber<T> extends ScalarDeferredSubscriber<T, T> {
 
         final Comparator<? super T> comparator;
         
-        final int compensator;
+        final boolean max;
         
-        public MinMaxSubscriber(Subscriber<? super T> actual, Comparator<? super T> comparator, int compensator) {
+        public MinMaxSubscriber(Subscriber<? super T> actual, Comparator<? super T> comparator, boolean max) {
             super(actual);
             this.comparator = comparator;
-            this.compensator = compensator;
+            this.max = max;
         }
 
         @Override
         public void onNext(T t) {
             T v = value;
             if (hasValue) {
-                if (comparator.compare(v, t) * compensator > 0) {
+                int c = comparator.compare(v, t);
+                if (max ? c < 0 : c > 0) {
                     value = t;
                 }
             } else {
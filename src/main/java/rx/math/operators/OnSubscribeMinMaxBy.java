@@ -0,0 +1,121 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func1;
+
+/**
+ * Collects the items with the minimum or maximum key, calling the key
+ * selector once per item and caching the key of the current extreme.
+ * <p>
+ * At most {@code maxTies} items with the extreme key are retained, the
+ * earliest ones in arrival order; later ties are dropped.
+ *
+ * @param <T> the source value type
+ * @param <R> the key type
+ */
+public final class OnSubscribeMinMaxBy<T, R> implements OnSubscribe<List<T>> {
+
+    final Observable<T> source;
+
+    final Func1<? super T, ? extends R> selector;
+
+    final Comparator<? super R> comparator;
+
+    final boolean max;
+
+    final int maxTies;
+
+    public OnSubscribeMinMaxBy(Observable<T> source, Func1<? super T, ? extends R> selector,
+            Comparator<? super R> comparator, boolean max, int maxTies) {
+        if (maxTies <= 0) {
+            throw new IllegalArgumentException("maxTies > 0 required but it was " + maxTies);
+        }
+        this.source = source;
+        this.selector = selector;
+        this.comparator = comparator;
+        this.max = max;
+        this.maxTies = maxTies;
+    }
+
+    @Override
+    public void call(Subscriber<? super List<T>> t) {
+        new MinMaxBySubscriber<T, R>(t, selector, comparator, max, maxTies).subscribeTo(source);
+    }
+
+    static final class MinMaxBySubscriber<T, R> extends ScalarDeferredSubscriber<T, List<T>> {
+
+        final Func1<? super T, ? extends R> selector;
+
+        final Comparator<? super R> comparator;
+
+        final boolean max;
+
+        final int maxTies;
+
+        final List<T> list;
+
+        R key;
+
+        public MinMaxBySubscriber(Subscriber<? super List<T>> actual, Func1<? super T, ? extends R> selector,
+                Comparator<? super R> comparator, boolean max, int maxTies) {
+            super(actual);
+            this.selector = selector;
+            this.comparator = comparator;
+            this.max = max;
+            this.maxTies = maxTies;
+            this.list = new ArrayList<T>();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            R k;
+            int c;
+            try {
+                k = selector.call(t);
+                c = list.isEmpty() ? 0 : comparator.compare(key, k);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (list.isEmpty() || (max ? c < 0 : c > 0)) {
+                list.clear();
+                list.add(t);
+                key = k;
+            } else if (c == 0 && list.size() < maxTies) {
+                list.add(t);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(list);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Keeps the minimum or maximum of the double values extracted from the source
+ * in a primitive field, without boxing or comparator dispatch.
+ * <p>
+ * Follows {@link Math#min(double, double)} and {@link Math#max(double, double)}:
+ * a NaN value makes the result NaN and -0.0 is considered smaller than 0.0.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinMaxDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final boolean max;
+
+    public OnSubscribeMinMaxDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, boolean max) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new MinMaxDoubleSubscriber<T>(t, valueExtractor, max).subscribeTo(source);
+    }
+
+    static final class MinMaxDoubleSubscriber<T> extends ScalarDeferredSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean max;
+
+        boolean nonEmpty;
+
+        double extreme;
+
+        public MinMaxDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, boolean max) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.max = max;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (nonEmpty) {
+                double e = extreme;
+                // the common case costs one comparison; the rest only runs for a new
+                // extreme, an equal value or a NaN, and a NaN extreme is never replaced
+                if (max) {
+                    if (!(v < e) && e == e
+                            && (v > e || v != v || (v == 0d && Double.doubleToRawLongBits(v) == 0L))) {
+                        extreme = v;
+                    }
+                } else {
+                    if (!(v > e) && e == e
+                            && (v < e || v != v || (v == 0d && Double.doubleToRawLongBits(v) != 0L))) {
+                        extreme = v;
+                    }
+                }
+            } else {
+                extreme = v;
+                nonEmpty = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (nonEmpty) {
+                complete(extreme);
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleMinMax;
+
+/**
+ * Emits the minimum and maximum of the double values extracted from
+ * consecutive windows of {@code size} source values, following the NaN and
+ * signed zero rules of {@link Math#min(double, double)} and
+ * {@link Math#max(double, double)}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinMaxEveryDouble<T> implements OnSubscribe<DoubleMinMax> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeMinMaxEveryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleMinMax> t) {
+        new MinMaxEveryDoubleSubscriber<T>(t, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class MinMaxEveryDoubleSubscriber<T> extends TumblingSubscriber<T, DoubleMinMax> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        double min;
+
+        double max;
+
+        public MinMaxEveryDoubleSubscriber(Subscriber<? super DoubleMinMax> actual, ToDoubleFunc1<? super T> valueExtractor, int size) {
+            super(actual, size);
+            this.valueExtractor = valueExtractor;
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        protected DoubleMinMax emit(int n) {
+            DoubleMinMax r = new DoubleMinMax(min, max);
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            return r;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Keeps the minimum or maximum of the long values extracted from the source
+ * in a primitive field, without boxing or comparator dispatch.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeMinMaxLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final boolean max;
+
+    public OnSubscribeMinMaxLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, boolean max) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new MinMaxLongSubscriber<T>(t, valueExtractor, max).subscribeTo(source);
+    }
+
+    static final class MinMaxLongSubscriber<T> extends ScalarDeferredSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final boolean max;
+
+        boolean nonEmpty;
+
+        long extreme;
+
+        public MinMaxLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor, boolean max) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.max = max;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (nonEmpty) {
+                if (max ? v > extreme : v < extreme) {
+                    extreme = v;
+                }
+            } else {
+                extreme = v;
+                nonEmpty = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (nonEmpty) {
+                complete(extreme);
+            } else {
+                actual.onError(new NoSuchElementException());
+            }
+        }
+    }
+}
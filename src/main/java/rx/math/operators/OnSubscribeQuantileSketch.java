@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.QuantileSketch;
+
+/**
+ * Feeds the double values extracted from the source into a
+ * {@link QuantileSketch} of bounded size and emits the sketch once the
+ * source completes.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeQuantileSketch<T> implements OnSubscribe<QuantileSketch> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int k;
+
+    public OnSubscribeQuantileSketch(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int k) {
+        if (k < QuantileSketch.MIN_K) {
+            throw new IllegalArgumentException("k >= " + QuantileSketch.MIN_K + " required but it was " + k);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.k = k;
+    }
+
+    @Override
+    public void call(Subscriber<? super QuantileSketch> t) {
+        new QuantileSketchSubscriber<T>(t, valueExtractor, new QuantileSketch(k)).subscribeTo(source);
+    }
+
+    static final class QuantileSketchSubscriber<T> extends ScalarDeferredSubscriber<T, QuantileSketch> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final QuantileSketch sketch;
+
+        public QuantileSketchSubscriber(Subscriber<? super QuantileSketch> actual,
+                ToDoubleFunc1<? super T> valueExtractor, QuantileSketch sketch) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sketch = sketch;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sketch.update(v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(sketch);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Comparator;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+
+/**
+ * Emits the minimum or maximum of the last {@code size} items for every
+ * source item, or of all the items so far while fewer than {@code size} have
+ * arrived.
+ * <p>
+ * The candidates are kept in a monotonic deque over ring buffers: a new item
+ * removes every older candidate it is strictly better than from the back,
+ * and the front candidate is dropped once it leaves the window, so the front
+ * is always the extreme. Each item is added and removed at most once, which
+ * is amortized O(1) per item, and the deque never holds more than
+ * {@code size} items. Among items that compare equal the earliest one still
+ * in the window is reported.
+ *
+ * @param <T> the value type
+ */
+public final class OnSubscribeRollingMinMax<T> implements OnSubscribe<T> {
+
+    final Observable<T> source;
+
+    final Comparator<? super T> comparator;
+
+    final int size;
+
+    final boolean max;
+
+    public OnSubscribeRollingMinMax(Observable<T> source, Comparator<? super T> comparator, int size, boolean max) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.comparator = comparator;
+        this.size = size;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> t) {
+        new RollingMinMaxSubscriber<T>(t, comparator, size, max).subscribeTo(source);
+    }
+
+    static final class RollingMinMaxSubscriber<T> extends PerItemSubscriber<T, T> {
+
+        final Comparator<? super T> comparator;
+
+        final boolean max;
+
+        final long[] positions;
+
+        final Object[] values;
+
+        long position;
+
+        int head;
+
+        int count;
+
+        public RollingMinMaxSubscriber(Subscriber<? super T> actual, Comparator<? super T> comparator, int size, boolean max) {
+            super(actual);
+            this.comparator = comparator;
+            this.max = max;
+            this.positions = new long[size];
+            this.values = new Object[size];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long[] ps = positions;
+            Object[] vs = values;
+            int m = ps.length;
+            long p = position++;
+            int h = head;
+            int c = count;
+
+            if (c != 0 && ps[h] <= p - m) {
+                vs[h] = null;
+                h = h + 1 == m ? 0 : h + 1;
+                c--;
+            }
+            try {
+                while (c != 0) {
+                    int tail = h + c - 1;
+                    if (tail >= m) {
+                        tail -= m;
+                    }
+                    int d = comparator.compare((T) vs[tail], t);
+                    if (max ? d >= 0 : d <= 0) {
+                        break;
+                    }
+                    vs[tail] = null;
+                    c--;
+                }
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            int tail = h + c;
+            if (tail >= m) {
+                tail -= m;
+            }
+            ps[tail] = p;
+            vs[tail] = t;
+            head = h;
+            count = c + 1;
+
+            actual.onNext((T) vs[h]);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Emits the minimum or maximum of the last {@code size} double values
+ * extracted from the source for every source value, keeping the candidates
+ * in a monotonic deque over primitive ring buffers for amortized O(1) work
+ * per value.
+ * <p>
+ * A NaN value is reported while it is in the window, and -0.0 is considered
+ * smaller than 0.0, following {@link Math#min(double, double)} and
+ * {@link Math#max(double, double)}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeRollingMinMaxDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    final boolean max;
+
+    public OnSubscribeRollingMinMaxDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size, boolean max) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new RollingMinMaxDoubleSubscriber<T>(t, valueExtractor, size, max).subscribeTo(source);
+    }
+
+    static final class RollingMinMaxDoubleSubscriber<T> extends PerItemSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean max;
+
+        final long[] positions;
+
+        final double[] values;
+
+        long position;
+
+        int head;
+
+        int count;
+
+        public RollingMinMaxDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, int size, boolean max) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.max = max;
+            this.positions = new long[size];
+            this.values = new double[size];
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long[] ps = positions;
+            double[] vs = values;
+            int m = ps.length;
+            long p = position++;
+            int h = head;
+            int c = count;
+
+            if (c != 0 && ps[h] <= p - m) {
+                h = h + 1 == m ? 0 : h + 1;
+                c--;
+            }
+            while (c != 0) {
+                int tail = h + c - 1;
+                if (tail >= m) {
+                    tail -= m;
+                }
+                double b = vs[tail];
+                // a NaN evicts everything and is never evicted by a later value
+                if (v == v && (b != b || (max ? less(v, b) : less(b, v)))) {
+                    break;
+                }
+                c--;
+            }
+            int tail = h + c;
+            if (tail >= m) {
+                tail -= m;
+            }
+            ps[tail] = p;
+            vs[tail] = v;
+            head = h;
+            count = c + 1;
+
+            actual.onNext(vs[h]);
+        }
+
+        /**
+         * Strict less-than that also orders -0.0 before 0.0; the operands are not NaN.
+         */
+        static boolean less(double a, double b) {
+            return a < b || (a == b && Double.doubleToRawLongBits(a) < Double.doubleToRawLongBits(b));
+        }
+    }
+}
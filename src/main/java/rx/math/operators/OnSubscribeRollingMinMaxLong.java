@@ -0,0 +1,128 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Emits the minimum or maximum of the last {@code size} long values
+ * extracted from the source for every source value, keeping the candidates
+ * in a monotonic deque over primitive ring buffers for amortized O(1) work
+ * per value.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeRollingMinMaxLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    final boolean max;
+
+    public OnSubscribeRollingMinMaxLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size, boolean max) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+        this.max = max;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new RollingMinMaxLongSubscriber<T>(t, valueExtractor, size, max).subscribeTo(source);
+    }
+
+    static final class RollingMinMaxLongSubscriber<T> extends PerItemSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final boolean max;
+
+        final long[] positions;
+
+        final long[] values;
+
+        long position;
+
+        int head;
+
+        int count;
+
+        public RollingMinMaxLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor, int size, boolean max) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.max = max;
+            this.positions = new long[size];
+            this.values = new long[size];
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long[] ps = positions;
+            long[] vs = values;
+            int m = ps.length;
+            long p = position++;
+            int h = head;
+            int c = count;
+
+            if (c != 0 && ps[h] <= p - m) {
+                h = h + 1 == m ? 0 : h + 1;
+                c--;
+            }
+            while (c != 0) {
+                int tail = h + c - 1;
+                if (tail >= m) {
+                    tail -= m;
+                }
+                long b = vs[tail];
+                if (max ? !(b <= v) : !(b >= v)) {
+                    break;
+                }
+                c--;
+            }
+            int tail = h + c;
+            if (tail >= m) {
+                tail -= m;
+            }
+            ps[tail] = p;
+            vs[tail] = v;
+            head = h;
+            count = c + 1;
+
+            actual.onNext(vs[h]);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Emits the sum or the average of the last {@code size} double values
+ * extracted from the source for every source value.
+ * <p>
+ * The window is kept in a primitive ring buffer with a running total, so
+ * each value costs one addition and one subtraction. Until the window is
+ * full the values seen so far are summed or averaged. Since subtracting the
+ * evicted values accumulates rounding errors, the total is recomputed from
+ * the buffer after every {@code resumInterval} evictions; zero disables the
+ * re-summation.
+ * <p>
+ * Each source value produces exactly one output value, so the downstream
+ * requests are passed to the source unchanged.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeRollingSumDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    final int resumInterval;
+
+    final boolean average;
+
+    public OnSubscribeRollingSumDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor,
+            int size, int resumInterval, boolean average) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        if (resumInterval < 0) {
+            throw new IllegalArgumentException("resumInterval >= 0 required but it was " + resumInterval);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+        this.resumInterval = resumInterval;
+        this.average = average;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new RollingSumDoubleSubscriber<T>(t, valueExtractor, size, resumInterval, average).subscribeTo(source);
+    }
+
+    static final class RollingSumDoubleSubscriber<T> extends PerItemSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final double[] buffer;
+
+        final int resumInterval;
+
+        final boolean average;
+
+        double sum;
+
+        int index;
+
+        int count;
+
+        int evictions;
+
+        public RollingSumDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor,
+                int size, int resumInterval, boolean average) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.buffer = new double[size];
+            this.resumInterval = resumInterval;
+            this.average = average;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            double[] b = buffer;
+            int i = index;
+            int c = count;
+            double s = sum;
+            if (c == b.length) {
+                s -= b[i];
+                b[i] = v;
+                int e = evictions + 1;
+                if (e == resumInterval) {
+                    e = 0;
+                    s = 0d;
+                    for (double w : b) {
+                        s += w;
+                    }
+                } else {
+                    s += v;
+                }
+                evictions = e;
+            } else {
+                b[i] = v;
+                s += v;
+                count = ++c;
+            }
+            sum = s;
+            index = i + 1 == b.length ? 0 : i + 1;
+
+            actual.onNext(average ? s / c : s);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Emits the sum of the last {@code size} long values extracted from the
+ * source for every source value, keeping the window in a primitive ring
+ * buffer with a running total. Until the window is full the values seen so
+ * far are summed. Integer arithmetic doesn't drift, so the total is never
+ * recomputed; like {@code sumLong}, it wraps around on overflow.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeRollingSumLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeRollingSumLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new RollingSumLongSubscriber<T>(t, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class RollingSumLongSubscriber<T> extends PerItemSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final long[] buffer;
+
+        long sum;
+
+        int index;
+
+        public RollingSumLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor, int size) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.buffer = new long[size];
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long[] b = buffer;
+            int i = index;
+            // the unfilled slots are zero, so the eviction is a no-op until the window is full
+            long s = sum - b[i] + v;
+            b[i] = v;
+            sum = s;
+            index = i + 1 == b.length ? 0 : i + 1;
+
+            actual.onNext(s);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.*;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source for each session as a {@link DoubleSummary}, using
+ * compensated summation.
+ *
+ * @param <T> the source value type
+ * @see SessionSubscriber
+ */
+public final class OnSubscribeSessionSummaryDouble<T> implements OnSubscribe<WindowedValue<DoubleSummary>> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long gap;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeSessionSummaryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        if (gap <= 0) {
+            throw new IllegalArgumentException("gap > 0 required but it was " + gap);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.gap = gap;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super WindowedValue<DoubleSummary>> t) {
+        new SessionSummaryDoubleSubscriber<T>(t, valueExtractor, gap, unit).subscribeTo(source, scheduler);
+    }
+
+    static final class SessionSummaryDoubleSubscriber<T> extends SessionSubscriber<T, DoubleSummary> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final CompensatedSum sum;
+
+        double min;
+
+        double max;
+
+        public SessionSummaryDoubleSubscriber(Subscriber<? super WindowedValue<DoubleSummary>> actual, ToDoubleFunc1<? super T> valueExtractor, long gap, TimeUnit unit) {
+            super(actual, gap, unit);
+            this.valueExtractor = valueExtractor;
+            this.sum = new CompensatedSum();
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        protected DoubleSummary emit(long n) {
+            DoubleSummary r = new DoubleSummary(n, sum.value(), min, max);
+            sum.clear();
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            return r;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.*;
+
+/**
+ * Emits the count, sum, minimum and maximum of the long values extracted
+ * from the source for each session as a {@link LongSummary}. The sums spill
+ * into a BigInteger instead of overflowing.
+ *
+ * @param <T> the source value type
+ * @see SessionSubscriber
+ */
+public final class OnSubscribeSessionSummaryLong<T> implements OnSubscribe<WindowedValue<LongSummary>> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long gap;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeSessionSummaryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        if (gap <= 0) {
+            throw new IllegalArgumentException("gap > 0 required but it was " + gap);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.gap = gap;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super WindowedValue<LongSummary>> t) {
+        new SessionSummaryLongSubscriber<T>(t, valueExtractor, gap, unit).subscribeTo(source, scheduler);
+    }
+
+    static final class SessionSummaryLongSubscriber<T> extends SessionSubscriber<T, LongSummary> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum sum;
+
+        long min;
+
+        long max;
+
+        public SessionSummaryLongSubscriber(Subscriber<? super WindowedValue<LongSummary>> actual, ToLongFunc1<? super T> valueExtractor, long gap, TimeUnit unit) {
+            super(actual, gap, unit);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        protected LongSummary emit(long n) {
+            LongSummary r = sum.toSummary(n, min, max);
+            sum.clear();
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            return r;
+        }
+    }
+}
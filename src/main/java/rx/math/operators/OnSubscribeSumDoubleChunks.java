@@ -0,0 +1,98 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+
+/**
+ * Sums the elements of the double arrays emitted by the source: each array
+ * is summed pairwise and the partial sums are combined with compensated
+ * (Neumaier) summation.
+ */
+public final class OnSubscribeSumDoubleChunks implements OnSubscribe<Double> {
+
+    /** Below this length a chunk section is summed with a plain loop. */
+    static final int PAIRWISE_BLOCK = 16;
+
+    final Observable<double[]> source;
+
+    public OnSubscribeSumDoubleChunks(Observable<double[]> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new SumDoubleChunksSubscriber(t).subscribeTo(source);
+    }
+
+    /**
+     * Sums the given section of the array by recursively halving it, which
+     * bounds the rounding error by O(log n) instead of O(n).
+     * @param array the array to sum
+     * @param from the start index, inclusive
+     * @param to the end index, exclusive
+     * @return the sum
+     */
+    static double pairwiseSum(double[] array, int from, int to) {
+        int n = to - from;
+        if (n <= PAIRWISE_BLOCK) {
+            double s = 0d;
+            for (int i = from; i < to; i++) {
+                s += array[i];
+            }
+            return s;
+        }
+        int mid = from + (n >>> 1);
+        return pairwiseSum(array, from, mid) + pairwiseSum(array, mid, to);
+    }
+
+    static final class SumDoubleChunksSubscriber extends ScalarDeferredSubscriber<double[], Double> {
+
+        final CompensatedSum sum;
+
+        public SumDoubleChunksSubscriber(Subscriber<? super Double> actual) {
+            super(actual);
+            this.sum = new CompensatedSum();
+        }
+
+        @Override
+        public void onNext(double[] t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = pairwiseSum(t, 0, t.length);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(sum.value());
+        }
+
+    }
+}
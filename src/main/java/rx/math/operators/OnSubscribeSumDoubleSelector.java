@@ -0,0 +1,94 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Sums the primitive double values extracted from each source item without
+ * boxing them or going through an intermediate map stage.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSumDoubleSelector<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final boolean zeroDefault;
+
+    public OnSubscribeSumDoubleSelector(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, boolean zeroDefault) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.zeroDefault = zeroDefault;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new SumDoubleSelectorSubscriber<T>(t, valueExtractor, zeroDefault).subscribeTo(source);
+    }
+
+    static final class SumDoubleSelectorSubscriber<T> extends ScalarDeferredSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        double sum;
+
+        public SumDoubleSelectorSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, boolean zeroDefault) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            if (zeroDefault) {
+                hasValue = true;
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+            }
+            sum += v;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasValue) {
+                complete(sum);
+            } else {
+                actual.onError(new IllegalArgumentException());
+            }
+        }
+
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Sums or averages the double values extracted from consecutive windows of
+ * {@code size} source values and emits one result per window; the last
+ * partial window is averaged over the values it received.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSumEveryDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    final boolean average;
+
+    public OnSubscribeSumEveryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size, boolean average) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+        this.average = average;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new SumEveryDoubleSubscriber<T>(t, valueExtractor, size, average).subscribeTo(source);
+    }
+
+    static final class SumEveryDoubleSubscriber<T> extends TumblingSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean average;
+
+        double sum;
+
+        public SumEveryDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, int size, boolean average) {
+            super(actual, size);
+            this.valueExtractor = valueExtractor;
+            this.average = average;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected Double emit(int n) {
+            double s = sum;
+            sum = 0d;
+            return average ? s / n : s;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Sums the long values extracted from consecutive windows of {@code size}
+ * source values and emits one sum per window; the sums wrap around on
+ * overflow.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSumEveryLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeSumEveryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new SumEveryLongSubscriber<T>(t, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class SumEveryLongSubscriber<T> extends TumblingSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        long sum;
+
+        public SumEveryLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor, int size) {
+            super(actual, size);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected Long emit(int n) {
+            long s = sum;
+            sum = 0L;
+            return s;
+        }
+    }
+}
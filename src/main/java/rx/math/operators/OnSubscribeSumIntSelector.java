@@ -0,0 +1,94 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToIntFunc1;
+
+/**
+ * Sums the primitive int values extracted from each source item without
+ * boxing them or going through an intermediate map stage.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSumIntSelector<T> implements OnSubscribe<Integer> {
+
+    final Observable<T> source;
+
+    final ToIntFunc1<? super T> valueExtractor;
+
+    final boolean zeroDefault;
+
+    public OnSubscribeSumIntSelector(Observable<T> source, ToIntFunc1<? super T> valueExtractor, boolean zeroDefault) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.zeroDefault = zeroDefault;
+    }
+
+    @Override
+    public void call(Subscriber<? super Integer> t) {
+        new SumIntSelectorSubscriber<T>(t, valueExtractor, zeroDefault).subscribeTo(source);
+    }
+
+    static final class SumIntSelectorSubscriber<T> extends ScalarDeferredSubscriber<T, Integer> {
+
+        final ToIntFunc1<? super T> valueExtractor;
+
+        int sum;
+
+        public SumIntSelectorSubscriber(Subscriber<? super Integer> actual, ToIntFunc1<? super T> valueExtractor, boolean zeroDefault) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            if (zeroDefault) {
+                hasValue = true;
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            int v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+            }
+            sum += v;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasValue) {
+                complete(sum);
+            } else {
+                actual.onError(new IllegalArgumentException());
+            }
+        }
+
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.math.BigInteger;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Sums the long values extracted from the source without overflow, emitting
+ * the total as a BigInteger; the accumulation stays in a primitive long
+ * until an addition would overflow.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSumLongExact<T> implements OnSubscribe<BigInteger> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final boolean zeroDefault;
+
+    public OnSubscribeSumLongExact(Observable<T> source, ToLongFunc1<? super T> valueExtractor, boolean zeroDefault) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.zeroDefault = zeroDefault;
+    }
+
+    @Override
+    public void call(Subscriber<? super BigInteger> t) {
+        new SumLongExactSubscriber<T>(t, valueExtractor, zeroDefault).subscribeTo(source);
+    }
+
+    static final class SumLongExactSubscriber<T> extends ScalarDeferredSubscriber<T, BigInteger> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum sum;
+
+        public SumLongExactSubscriber(Subscriber<? super BigInteger> actual, ToLongFunc1<? super T> valueExtractor, boolean zeroDefault) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+            if (zeroDefault) {
+                hasValue = true;
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+            }
+            sum.add(v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            if (hasValue) {
+                complete(sum.value());
+            } else {
+                actual.onError(new IllegalArgumentException());
+            }
+        }
+
+    }
+}
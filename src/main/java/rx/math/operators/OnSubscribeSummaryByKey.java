@@ -0,0 +1,94 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.KeyedSummaries;
+
+/**
+ * Computes the count, sum, minimum and maximum of the double values extracted
+ * from the source per key in a single hash table and emits the table
+ * when the source completes, without a group or a subscriber per key.
+ *
+ * @param <T> the source value type
+ * @param <K> the key type
+ */
+public final class OnSubscribeSummaryByKey<T, K> implements OnSubscribe<KeyedSummaries<K>> {
+
+    final Observable<T> source;
+
+    final Func1<? super T, ? extends K> keySelector;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeSummaryByKey(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super KeyedSummaries<K>> t) {
+        new SummaryByKeySubscriber<T, K>(t, keySelector, valueExtractor).subscribeTo(source);
+    }
+
+    static final class SummaryByKeySubscriber<T, K> extends ScalarDeferredSubscriber<T, KeyedSummaries<K>> {
+
+        final Func1<? super T, ? extends K> keySelector;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final KeyedSummaries<K> table;
+
+        public SummaryByKeySubscriber(Subscriber<? super KeyedSummaries<K>> actual, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.keySelector = keySelector;
+            this.valueExtractor = valueExtractor;
+            this.table = new KeyedSummaries<K>();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            K key;
+            double v;
+            try {
+                key = keySelector.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            table.add(key, v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(table);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.KeyedSummaries;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source per key for each consecutive window of {@code size}
+ * source values, each in a single hash table that is handed to the child and
+ * replaced by a fresh one sized for as many keys.
+ *
+ * @param <T> the source value type
+ * @param <K> the key type
+ */
+public final class OnSubscribeSummaryByKeyEvery<T, K> implements OnSubscribe<KeyedSummaries<K>> {
+
+    final Observable<T> source;
+
+    final Func1<? super T, ? extends K> keySelector;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeSummaryByKeyEvery(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.keySelector = keySelector;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super KeyedSummaries<K>> t) {
+        new SummaryByKeyEverySubscriber<T, K>(t, keySelector, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class SummaryByKeyEverySubscriber<T, K> extends TumblingSubscriber<T, KeyedSummaries<K>> {
+
+        final Func1<? super T, ? extends K> keySelector;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        KeyedSummaries<K> table;
+
+        public SummaryByKeyEverySubscriber(Subscriber<? super KeyedSummaries<K>> actual, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor, int size) {
+            super(actual, size);
+            this.keySelector = keySelector;
+            this.valueExtractor = valueExtractor;
+            this.table = new KeyedSummaries<K>();
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            K key;
+            double v;
+            try {
+                key = keySelector.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            table.add(key, v);
+        }
+
+        @Override
+        protected KeyedSummaries<K> emit(int n) {
+            KeyedSummaries<K> r = table;
+            table = new KeyedSummaries<K>(r.size());
+            return r;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.*;
+import rx.math.statistics.LongKeyedSummaries;
+
+/**
+ * Computes the count, sum, minimum and maximum of the double values extracted
+ * from the source per long key in a single hash table and emits the table
+ * when the source completes, without a group or a subscriber per key.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryByLongKey<T> implements OnSubscribe<LongKeyedSummaries> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> keyExtractor;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeSummaryByLongKey(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongKeyedSummaries> t) {
+        new SummaryByLongKeySubscriber<T>(t, keyExtractor, valueExtractor).subscribeTo(source);
+    }
+
+    static final class SummaryByLongKeySubscriber<T> extends ScalarDeferredSubscriber<T, LongKeyedSummaries> {
+
+        final ToLongFunc1<? super T> keyExtractor;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final LongKeyedSummaries table;
+
+        public SummaryByLongKeySubscriber(Subscriber<? super LongKeyedSummaries> actual, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.keyExtractor = keyExtractor;
+            this.valueExtractor = valueExtractor;
+            this.table = new LongKeyedSummaries();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long key;
+            double v;
+            try {
+                key = keyExtractor.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            table.add(key, v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(table);
+        }
+    }
+}
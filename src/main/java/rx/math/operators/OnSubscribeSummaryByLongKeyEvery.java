@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.*;
+import rx.math.statistics.LongKeyedSummaries;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source per long key for each consecutive window of {@code size}
+ * source values, each in a single hash table that is handed to the child and
+ * replaced by a fresh one sized for as many keys.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryByLongKeyEvery<T> implements OnSubscribe<LongKeyedSummaries> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> keyExtractor;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeSummaryByLongKeyEvery(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongKeyedSummaries> t) {
+        new SummaryByLongKeyEverySubscriber<T>(t, keyExtractor, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class SummaryByLongKeyEverySubscriber<T> extends TumblingSubscriber<T, LongKeyedSummaries> {
+
+        final ToLongFunc1<? super T> keyExtractor;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        LongKeyedSummaries table;
+
+        public SummaryByLongKeyEverySubscriber(Subscriber<? super LongKeyedSummaries> actual, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+            super(actual, size);
+            this.keyExtractor = keyExtractor;
+            this.valueExtractor = valueExtractor;
+            this.table = new LongKeyedSummaries();
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long key;
+            double v;
+            try {
+                key = keyExtractor.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            table.add(key, v);
+        }
+
+        @Override
+        protected LongKeyedSummaries emit(int n) {
+            LongKeyedSummaries r = table;
+            table = new LongKeyedSummaries(r.size());
+            return r;
+        }
+    }
+}
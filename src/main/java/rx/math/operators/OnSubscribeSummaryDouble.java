@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleSummary;
+
+/**
+ * Computes the count, sum, minimum and maximum of the double values extracted
+ * from the source in a single pass and emits them as an {@link DoubleSummary}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryDouble<T> implements OnSubscribe<DoubleSummary> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeSummaryDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleSummary> t) {
+        new SummaryDoubleSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class SummaryDoubleSubscriber<T> extends ScalarDeferredSubscriber<T, DoubleSummary> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        long count;
+
+        final CompensatedSum sum;
+
+        double min;
+
+        double max;
+
+        public SummaryDoubleSubscriber(Subscriber<? super DoubleSummary> actual, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new CompensatedSum();
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            count++;
+            sum.add(v);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(new DoubleSummary(count, sum.value(), min, max));
+        }
+    }
+}
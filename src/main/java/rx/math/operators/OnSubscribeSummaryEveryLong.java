@@ -0,0 +1,100 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongSummary;
+
+/**
+ * Emits the count, sum, minimum and maximum of the long values extracted
+ * from consecutive windows of {@code size} source values as a
+ * {@link LongSummary}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryEveryLong<T> implements OnSubscribe<LongSummary> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final int size;
+
+    public OnSubscribeSummaryEveryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required but it was " + size);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.size = size;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongSummary> t) {
+        new SummaryEveryLongSubscriber<T>(t, valueExtractor, size).subscribeTo(source);
+    }
+
+    static final class SummaryEveryLongSubscriber<T> extends TumblingSubscriber<T, LongSummary> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        final ExactSum sum;
+
+        long min;
+
+        long max;
+
+        public SummaryEveryLongSubscriber(Subscriber<? super LongSummary> actual, ToLongFunc1<? super T> valueExtractor, int size) {
+            super(actual, size);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum.add(v);
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        protected LongSummary emit(int n) {
+            LongSummary r = sum.toSummary(n, min, max);
+            sum.clear();
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            return r;
+        }
+    }
+}
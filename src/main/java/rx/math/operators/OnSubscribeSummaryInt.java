@@ -0,0 +1,96 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToIntFunc1;
+import rx.math.statistics.IntSummary;
+
+/**
+ * Computes the count, sum, minimum and maximum of the int values extracted
+ * from the source in a single pass and emits them as an {@link IntSummary}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryInt<T> implements OnSubscribe<IntSummary> {
+
+    final Observable<T> source;
+
+    final ToIntFunc1<? super T> valueExtractor;
+
+    public OnSubscribeSummaryInt(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super IntSummary> t) {
+        new SummaryIntSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class SummaryIntSubscriber<T> extends ScalarDeferredSubscriber<T, IntSummary> {
+
+        final ToIntFunc1<? super T> valueExtractor;
+
+        long count;
+
+        long sum;
+
+        int min;
+
+        int max;
+
+        public SummaryIntSubscriber(Subscriber<? super IntSummary> actual, ToIntFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.min = Integer.MAX_VALUE;
+            this.max = Integer.MIN_VALUE;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            int v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            count++;
+            sum += v;
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(new IntSummary(count, sum, min, max));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongSummary;
+
+/**
+ * Computes the count, sum, minimum and maximum of the long values extracted
+ * from the source in a single pass and emits them as an {@link LongSummary}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeSummaryLong<T> implements OnSubscribe<LongSummary> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    public OnSubscribeSummaryLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongSummary> t) {
+        new SummaryLongSubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class SummaryLongSubscriber<T> extends ScalarDeferredSubscriber<T, LongSummary> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        long count;
+
+        final ExactSum sum;
+
+        long min;
+
+        long max;
+
+        public SummaryLongSubscriber(Subscriber<? super LongSummary> actual, ToLongFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sum = new ExactSum();
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            count++;
+            sum.add(v);
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(sum.toSummary(count, min, max));
+        }
+    }
+}
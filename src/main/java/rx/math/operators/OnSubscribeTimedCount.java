@@ -0,0 +1,74 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+
+/**
+ * Emits the number of source values received in each period of a
+ * {@link Scheduler} timer, including zero for periods without values.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeTimedCount<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final long time;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeTimedCount(Observable<T> source, long time, TimeUnit unit, Scheduler scheduler) {
+        if (time <= 0) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        this.source = source;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new TimedCountSubscriber<T>(t).subscribeTo(source, time, unit, scheduler);
+    }
+
+    static final class TimedCountSubscriber<T> extends TimedTumblingSubscriber<T, Long> {
+
+        public TimedCountSubscriber(Subscriber<? super Long> actual) {
+            super(actual);
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            // the base class counts the values
+        }
+
+        @Override
+        protected Long emit(long n) {
+            return n;
+        }
+    }
+}
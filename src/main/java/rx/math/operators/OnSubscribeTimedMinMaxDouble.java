@@ -0,0 +1,104 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.DoubleMinMax;
+
+/**
+ * Emits the minimum and maximum of the double values extracted from the
+ * source in each period of a {@link Scheduler} timer, skipping periods
+ * without values. NaN and signed zeros follow
+ * {@link Math#min(double, double)} and {@link Math#max(double, double)}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeTimedMinMaxDouble<T> implements OnSubscribe<DoubleMinMax> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long time;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeTimedMinMaxDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        if (time <= 0) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super DoubleMinMax> t) {
+        new TimedMinMaxDoubleSubscriber<T>(t, valueExtractor).subscribeTo(source, time, unit, scheduler);
+    }
+
+    static final class TimedMinMaxDoubleSubscriber<T> extends TimedTumblingSubscriber<T, DoubleMinMax> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        double min;
+
+        double max;
+
+        public TimedMinMaxDoubleSubscriber(Subscriber<? super DoubleMinMax> actual, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        @Override
+        protected DoubleMinMax emit(long n) {
+            if (n == 0) {
+                return null;
+            }
+            DoubleMinMax r = new DoubleMinMax(min, max);
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            return r;
+        }
+    }
+}
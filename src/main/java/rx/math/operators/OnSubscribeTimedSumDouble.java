@@ -0,0 +1,102 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Sums or averages the double values extracted from the source in each
+ * period of a {@link Scheduler} timer. Periods without values emit a zero
+ * sum but are skipped when averaging.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeTimedSumDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long time;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    final boolean average;
+
+    public OnSubscribeTimedSumDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler, boolean average) {
+        if (time <= 0) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.average = average;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new TimedSumDoubleSubscriber<T>(t, valueExtractor, average).subscribeTo(source, time, unit, scheduler);
+    }
+
+    static final class TimedSumDoubleSubscriber<T> extends TimedTumblingSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean average;
+
+        double sum;
+
+        public TimedSumDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, boolean average) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.average = average;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected Double emit(long n) {
+            double s = sum;
+            sum = 0d;
+            if (average) {
+                return n != 0 ? s / n : null;
+            }
+            return s;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.ToLongFunc1;
+
+/**
+ * Sums the long values extracted from the source in each period of a
+ * {@link Scheduler} timer, emitting zero for periods without values. The
+ * sums wrap around on overflow.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeTimedSumLong<T> implements OnSubscribe<Long> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> valueExtractor;
+
+    final long time;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeTimedSumLong(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        if (time <= 0) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super Long> t) {
+        new TimedSumLongSubscriber<T>(t, valueExtractor).subscribeTo(source, time, unit, scheduler);
+    }
+
+    static final class TimedSumLongSubscriber<T> extends TimedTumblingSubscriber<T, Long> {
+
+        final ToLongFunc1<? super T> valueExtractor;
+
+        long sum;
+
+        public TimedSumLongSubscriber(Subscriber<? super Long> actual, ToLongFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            sum += v;
+        }
+
+        @Override
+        protected Long emit(long n) {
+            long s = sum;
+            sum = 0L;
+            return s;
+        }
+    }
+}
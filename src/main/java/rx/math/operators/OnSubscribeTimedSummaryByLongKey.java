@@ -0,0 +1,105 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.math.functions.*;
+import rx.math.statistics.LongKeyedSummaries;
+
+/**
+ * Emits the count, sum, minimum and maximum of the double values extracted
+ * from the source per long key for each period of a {@link Scheduler} timer,
+ * each in a single hash table that is handed to the child and replaced by a
+ * fresh one sized for as many keys. Periods without values emit an empty
+ * table.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeTimedSummaryByLongKey<T> implements OnSubscribe<LongKeyedSummaries> {
+
+    final Observable<T> source;
+
+    final ToLongFunc1<? super T> keyExtractor;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final long time;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public OnSubscribeTimedSummaryByLongKey(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        if (time <= 0) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.valueExtractor = valueExtractor;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super LongKeyedSummaries> t) {
+        new TimedSummaryByLongKeySubscriber<T>(t, keyExtractor, valueExtractor).subscribeTo(source, time, unit, scheduler);
+    }
+
+    static final class TimedSummaryByLongKeySubscriber<T> extends TimedTumblingSubscriber<T, LongKeyedSummaries> {
+
+        final ToLongFunc1<? super T> keyExtractor;
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        LongKeyedSummaries table;
+
+        public TimedSummaryByLongKeySubscriber(Subscriber<? super LongKeyedSummaries> actual, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.keyExtractor = keyExtractor;
+            this.valueExtractor = valueExtractor;
+            this.table = new LongKeyedSummaries();
+        }
+
+        @Override
+        protected void accumulate(T t) {
+            long key;
+            double v;
+            try {
+                key = keyExtractor.call(t);
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            table.add(key, v);
+        }
+
+        @Override
+        protected LongKeyedSummaries emit(long n) {
+            LongKeyedSummaries r = table;
+            table = new LongKeyedSummaries(r.size());
+            return r;
+        }
+    }
+}
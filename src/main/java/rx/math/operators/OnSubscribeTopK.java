@@ -0,0 +1,221 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func1;
+
+/**
+ * Keeps the {@code n} items with the largest keys in a bounded binary
+ * min-heap, so memory is O(n) and each item costs O(log n) comparisons,
+ * and emits them as a list in descending key order once the source
+ * completes.
+ * <p>
+ * Each key is computed once per item and cached alongside it. Items with
+ * equal keys are ordered by arrival; when the heap is full an item whose
+ * key only equals the smallest kept key is dropped.
+ *
+ * @param <T> the source value type
+ * @param <K> the key type
+ */
+public final class OnSubscribeTopK<T, K> implements OnSubscribe<List<T>> {
+
+    final Observable<T> source;
+
+    final Func1<? super T, ? extends K> keySelector;
+
+    final Comparator<? super K> comparator;
+
+    final int n;
+
+    public OnSubscribeTopK(Observable<T> source, Func1<? super T, ? extends K> keySelector,
+            Comparator<? super K> comparator, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n >= 0 required but it was " + n);
+        }
+        this.source = source;
+        this.keySelector = keySelector;
+        this.comparator = comparator;
+        this.n = n;
+    }
+
+    @Override
+    public void call(Subscriber<? super List<T>> t) {
+        new TopKSubscriber<T, K>(t, keySelector, comparator, n).subscribeTo(source);
+    }
+
+    static final class TopKSubscriber<T, K> extends ScalarDeferredSubscriber<T, List<T>> {
+
+        final Func1<? super T, ? extends K> keySelector;
+
+        final Comparator<? super K> comparator;
+
+        final int n;
+
+        /** The heap of items, the root holds the smallest kept key. */
+        Object[] items;
+
+        Object[] keys;
+
+        long[] order;
+
+        int size;
+
+        long index;
+
+        public TopKSubscriber(Subscriber<? super List<T>> actual, Func1<? super T, ? extends K> keySelector,
+                Comparator<? super K> comparator, int n) {
+            super(actual);
+            this.keySelector = keySelector;
+            this.comparator = comparator;
+            this.n = n;
+            // grow lazily so a large n over a short source doesn't preallocate
+            int c = Math.min(n, 16);
+            this.items = new Object[c];
+            this.keys = new Object[c];
+            this.order = new long[c];
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            long i = index++;
+            if (n == 0) {
+                return;
+            }
+            try {
+                K k = keySelector.call(t);
+                int s = size;
+                if (s < n) {
+                    if (s == items.length) {
+                        int c = (int) Math.min(n, s * 2L);
+                        items = Arrays.copyOf(items, c);
+                        keys = Arrays.copyOf(keys, c);
+                        order = Arrays.copyOf(order, c);
+                    }
+                    siftUp(s, t, k, i);
+                    size = s + 1;
+                } else if (compare(k, i, 0) > 0) {
+                    siftDown(0, t, k, i, s);
+                }
+            } catch (Throwable ex) {
+                fail(ex);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            List<T> list;
+            try {
+                list = drain();
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            complete(list);
+        }
+
+        /**
+         * Pops the heap from the smallest key upwards, filling the list from the back.
+         */
+        @SuppressWarnings("unchecked")
+        List<T> drain() {
+            int s = size;
+            Object[] result = new Object[s];
+            for (int j = s - 1; j >= 0; j--) {
+                result[j] = items[0];
+                int last = j;
+                if (last > 0) {
+                    siftDown(0, (T) items[last], (K) keys[last], order[last], last);
+                }
+            }
+            size = 0;
+            items = null;
+            keys = null;
+            order = null;
+            return (List<T>) Arrays.asList(result);
+        }
+
+        /**
+         * Compares the given key with the heap entry at {@code j}; an equal key
+         * that arrived earlier counts as larger.
+         */
+        @SuppressWarnings("unchecked")
+        int compare(K k, long i, int j) {
+            int c = comparator.compare(k, (K) keys[j]);
+            if (c != 0) {
+                return c;
+            }
+            long o = order[j];
+            return i < o ? 1 : (i == o ? 0 : -1);
+        }
+
+        void siftUp(int j, T t, K k, long i) {
+            Object[] it = items;
+            Object[] ks = keys;
+            long[] os = order;
+            while (j > 0) {
+                int parent = (j - 1) >>> 1;
+                if (compare(k, i, parent) >= 0) {
+                    break;
+                }
+                it[j] = it[parent];
+                ks[j] = ks[parent];
+                os[j] = os[parent];
+                j = parent;
+            }
+            it[j] = t;
+            ks[j] = k;
+            os[j] = i;
+        }
+
+        @SuppressWarnings("unchecked")
+        void siftDown(int j, T t, K k, long i, int s) {
+            Object[] it = items;
+            Object[] ks = keys;
+            long[] os = order;
+            int half = s >>> 1;
+            while (j < half) {
+                int child = 2 * j + 1;
+                int right = child + 1;
+                if (right < s && compare((K) ks[right], os[right], child) < 0) {
+                    child = right;
+                }
+                if (compare(k, i, child) <= 0) {
+                    break;
+                }
+                it[j] = it[child];
+                ks[j] = ks[child];
+                os[j] = os[child];
+                j = child;
+            }
+            it[j] = t;
+            ks[j] = k;
+            os[j] = i;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+
+/**
+ * Computes the variance or standard deviation of the double values
+ * extracted from the source in a single pass with Welford's algorithm.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeVarianceDouble<T> implements OnSubscribe<Double> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    final boolean sample;
+
+    final boolean stdDev;
+
+    /**
+     * @param source the source Observable
+     * @param valueExtractor the function to extract the doubles
+     * @param sample if true, the Bessel-corrected sample variance is computed instead of the population variance
+     * @param stdDev if true, the square root of the variance is emitted
+     */
+    public OnSubscribeVarianceDouble(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, boolean sample, boolean stdDev) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+        this.sample = sample;
+        this.stdDev = stdDev;
+    }
+
+    @Override
+    public void call(Subscriber<? super Double> t) {
+        new VarianceDoubleSubscriber<T>(t, valueExtractor, sample, stdDev).subscribeTo(source);
+    }
+
+    static final class VarianceDoubleSubscriber<T> extends ScalarDeferredSubscriber<T, Double> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        final boolean sample;
+
+        final boolean stdDev;
+
+        long count;
+
+        double mean;
+
+        double m2;
+
+        public VarianceDoubleSubscriber(Subscriber<? super Double> actual, ToDoubleFunc1<? super T> valueExtractor, boolean sample, boolean stdDev) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+            this.sample = sample;
+            this.stdDev = stdDev;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long n = ++count;
+            double delta = v - mean;
+            mean += delta / n;
+            m2 += delta * (v - mean);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            long n = count;
+            if (n > 0) {
+                double variance;
+                if (sample) {
+                    variance = n > 1 ? m2 / (n - 1) : Double.NaN;
+                } else {
+                    variance = m2 / n;
+                }
+                complete(stdDev ? Math.sqrt(variance) : variance);
+            } else {
+                actual.onError(new IllegalArgumentException("Sequence contains no elements"));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.Observable.OnSubscribe;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.VarianceSummary;
+
+/**
+ * Computes the count, mean and sum of squared deviations of the double
+ * values extracted from the source in a single pass with Welford's algorithm
+ * and emits them as a mergeable {@link VarianceSummary}.
+ *
+ * @param <T> the source value type
+ */
+public final class OnSubscribeVarianceSummary<T> implements OnSubscribe<VarianceSummary> {
+
+    final Observable<T> source;
+
+    final ToDoubleFunc1<? super T> valueExtractor;
+
+    public OnSubscribeVarianceSummary(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        this.source = source;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void call(Subscriber<? super VarianceSummary> t) {
+        new VarianceSummarySubscriber<T>(t, valueExtractor).subscribeTo(source);
+    }
+
+    static final class VarianceSummarySubscriber<T> extends ScalarDeferredSubscriber<T, VarianceSummary> {
+
+        final ToDoubleFunc1<? super T> valueExtractor;
+
+        long count;
+
+        double mean;
+
+        double m2;
+
+        public VarianceSummarySubscriber(Subscriber<? super VarianceSummary> actual, ToDoubleFunc1<? super T> valueExtractor) {
+            super(actual);
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            double v;
+            try {
+                v = valueExtractor.call(t);
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long n = ++count;
+            double delta = v - mean;
+            mean += delta / n;
+            m2 += delta * (v - mean);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done) {
+                return;
+            }
+            complete(count == 0L ? VarianceSummary.EMPTY : new VarianceSummary(count, mean, m2));
+        }
+    }
+}
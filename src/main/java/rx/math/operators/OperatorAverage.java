@@ -0,0 +1,71 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.math.functions.*;
+
+/**
+ * A few operators for implementing the average operation.
+ * 
+ * @see <a
+ *      href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN:
+ *      Observable.Average</a>
+ */
+public final class OperatorAverage {
+    private OperatorAverage() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<Integer> averageIntegers(Observable<Integer> source) {
+        return averageIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static Observable<Long> averageLongs(Observable<Long> source) {
+        return averageLongs(source, Unboxing.LONG);
+    }
+
+    public static Observable<Float> averageFloats(Observable<Float> source) {
+        return averageFloats(source, Unboxing.FLOAT);
+    }
+
+    public static Observable<Double> averageDoubles(Observable<Double> source) {
+        return averageDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<Integer> averageIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeAverageInt<T>(source, valueExtractor));
+    }
+
+    public static <T> Observable<Long> averageLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeAverageLong<T>(source, valueExtractor));
+    }
+
+    public static <T> Observable<Float> averageFloats(Observable<T> source, ToFloatFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeAverageFloat<T>(source, valueExtractor));
+    }
+
+    public static <T> Observable<Double> averageDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeAverageDouble<T>(source, valueExtractor));
+    }
+
+    public static Observable<Double> averageDoublesCompensated(Observable<Double> source) {
+        return averageDoublesCompensated(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<Double> averageDoublesCompensated(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeAverageDoubleCompensated<T>(source, valueExtractor));
+    }
+}
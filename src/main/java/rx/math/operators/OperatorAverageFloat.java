@@ -1,5 +1,5 @@
 /**
- * Copyright 2014 Netflix, Inc.
+ * Copyright 2016 Netflix, Inc.
  * 
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,11 +13,14 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
+
 package rx.math.operators;
 
 import rx.Observable.Operator;
 import rx.Subscriber;
 import rx.functions.Func1;
+import rx.math.functions.PrimitiveFunctions;
 
 /**
  * Compute the average by extracting float values from the source via an
@@ -25,7 +28,11 @@ import rx.functions.Func1;
  * 
  * @param <T>
  *            the source value type
+ * @deprecated use {@link OperatorAverage#averageFloats(rx.Observable, rx.math.functions.ToFloatFunc1)}, which
+ *             consumes the source without per-element request accounting; this lift operator is kept for one
+ *             release and delegates to the same subscriber
  */
+@Deprecated
 public final class OperatorAverageFloat<T> implements Operator<Float, T> {
     final Func1<? super T, Float> valueExtractor;
 
@@ -35,45 +42,8 @@ public final class OperatorAverageFloat<T> implements Operator<Float, T> {
 
     @Override
     public Subscriber<? super T> call(Subscriber<? super Float> child) {
-        return new AverageObserver(child);
-    }
-
-    /** Computes the average. */
-    private final class AverageObserver extends Subscriber<T> {
-        final Subscriber<? super Float> child;
-        float sum;
-        int count;
-
-        public AverageObserver(Subscriber<? super Float> subscriber) {
-            super(subscriber);
-            this.child = subscriber;
-        }
-
-        @Override
-        public void onNext(T args) {
-            sum += valueExtractor.call(args);
-            count++;
-        }
-
-        @Override
-        public void onError(Throwable e) {
-            child.onError(e);
-        }
-
-        @Override
-        public void onCompleted() {
-            if (count > 0) {
-                try {
-                    child.onNext(sum / count);
-                } catch (Throwable t) {
-                    child.onError(t);
-                    return;
-                }
-                child.onCompleted();
-            } else {
-                child.onError(new IllegalArgumentException("Sequence contains no elements"));
-            }
-        }
-
+        OnSubscribeAverageFloat.AverageFloatSubscriber<T> parent = new OnSubscribeAverageFloat.AverageFloatSubscriber<T>(child, PrimitiveFunctions.<T> toFloatFunc(valueExtractor));
+        parent.connect();
+        return parent;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.functions.Func1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+import rx.schedulers.Schedulers;
+
+/**
+ * A few operators for computing per-key aggregates in a single subscriber,
+ * keeping every key's accumulators in one open-addressing hash table instead
+ * of a {@code groupBy} group and subscriber chain per key.
+ */
+public final class OperatorByKey {
+    private OperatorByKey() { throw new IllegalStateException("No instances!"); }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByLongKey(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSummaryByLongKey<T>(source, keyExtractor, valueExtractor));
+    }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByIntKey(Observable<T> source, ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+        return summarizeDoublesByLongKey(source, widen(keyExtractor), valueExtractor);
+    }
+
+    public static <T, K> Observable<KeyedSummaries<K>> summarizeDoublesByKey(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSummaryByKey<T, K>(source, keySelector, valueExtractor));
+    }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByLongKeyEvery(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSummaryByLongKeyEvery<T>(source, keyExtractor, valueExtractor, size));
+    }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByIntKeyEvery(Observable<T> source, ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return summarizeDoublesByLongKeyEvery(source, widen(keyExtractor), valueExtractor, size);
+    }
+
+    public static <T, K> Observable<KeyedSummaries<K>> summarizeDoublesByKeyEvery(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSummaryByKeyEvery<T, K>(source, keySelector, valueExtractor, size));
+    }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByLongKeyEvery(Observable<T> source, ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor,
+            long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSummaryByLongKey<T>(source, keyExtractor, valueExtractor, time, unit, scheduler));
+    }
+
+    public static <T> Observable<LongKeyedSummaries> summarizeDoublesByIntKeyEvery(Observable<T> source, ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor,
+            long time, TimeUnit unit, Scheduler scheduler) {
+        return summarizeDoublesByLongKeyEvery(source, widen(keyExtractor), valueExtractor, time, unit, scheduler);
+    }
+
+    public static <T, K> Observable<KeyedSummaries<K>> summarizeDoublesByKeyEvery(Observable<T> source, Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor,
+            long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSummaryByKey<T, K>(source, keySelector, valueExtractor, time, unit, scheduler));
+    }
+
+    public static <T, K> Observable<KeyedValue<K, DoubleSummary>> summarizeDoublesByKeyEvicting(Observable<T> source, Func1<? super T, ? extends K> keySelector,
+            ToDoubleFunc1<? super T> valueExtractor, int maxKeys) {
+        return Observable.create(new OnSubscribeEvictingSummaryByKey<T, K>(source, keySelector, valueExtractor, maxKeys,
+                OnSubscribeEvictingSummaryByKey.NO_TTL, TimeUnit.MILLISECONDS, Schedulers.immediate()));
+    }
+
+    public static <T, K> Observable<KeyedValue<K, DoubleSummary>> summarizeDoublesByKeyEvicting(Observable<T> source, Func1<? super T, ? extends K> keySelector,
+            ToDoubleFunc1<? super T> valueExtractor, int maxKeys, long ttl, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeEvictingSummaryByKey<T, K>(source, keySelector, valueExtractor, maxKeys, ttl, unit, scheduler));
+    }
+
+    /**
+     * Int keys share the long key table; widening keeps them primitive.
+     */
+    static <T> ToLongFunc1<T> widen(final ToIntFunc1<? super T> keyExtractor) {
+        return new ToLongFunc1<T>() {
+            @Override
+            public long call(T t1) {
+                return keyExtractor.call(t1);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.HyperLogLog;
+
+/**
+ * A few operators for estimating the number of distinct values of a
+ * sequence in fixed memory.
+ */
+public final class OperatorDistinctCount {
+    private OperatorDistinctCount() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<HyperLogLog> distinctCountLongs(Observable<Long> source, int precision) {
+        return distinctCountLongs(source, Unboxing.LONG, precision);
+    }
+
+    public static <T> Observable<HyperLogLog> distinctCountLongs(Observable<T> source, ToLongFunc1<? super T> keyExtractor, int precision) {
+        return Observable.create(new OnSubscribeDistinctCount<T>(source, keyExtractor, precision));
+    }
+
+    public static <T> Observable<HyperLogLog> distinctCount(Observable<T> source, int precision) {
+        return distinctCountLongs(source, HASH_CODE, precision);
+    }
+
+    public static <T> Observable<HyperLogLog> distinctCount(Observable<T> source, Func1<? super T, ?> keyExtractor, int precision) {
+        return distinctCountLongs(source, new KeyHashCode<T>(keyExtractor), precision);
+    }
+
+    static final ToLongFunc1<Object> HASH_CODE = new ToLongFunc1<Object>() {
+        @Override
+        public long call(Object t) {
+            return t != null ? t.hashCode() : 0L;
+        }
+    };
+
+    static final class KeyHashCode<T> implements ToLongFunc1<T> {
+        final Func1<? super T, ?> keyExtractor;
+
+        KeyHashCode(Func1<? super T, ?> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+
+        @Override
+        public long call(T t) {
+            Object k = keyExtractor.call(t);
+            return k != null ? k.hashCode() : 0L;
+        }
+    }
+}
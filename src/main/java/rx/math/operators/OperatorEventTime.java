@@ -0,0 +1,62 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.functions.Action1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * A few operators for aggregating values into windows by a timestamp carried
+ * by the values themselves, closing the windows on a watermark so that
+ * out-of-order values within the allowed lateness are still counted.
+ */
+public final class OperatorEventTime {
+    private OperatorEventTime() { throw new IllegalStateException("No instances!"); }
+
+    public static <T> Observable<WindowedValue<DoubleSummary>> summarizeDoublesByEventTime(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long allowedLateness) {
+        return summarizeDoublesByEventTime(source, valueExtractor, timestampExtractor, size, size, allowedLateness, null);
+    }
+
+    public static <T> Observable<WindowedValue<DoubleSummary>> summarizeDoublesByEventTime(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long slide, long allowedLateness) {
+        return summarizeDoublesByEventTime(source, valueExtractor, timestampExtractor, size, slide, allowedLateness, null);
+    }
+
+    public static <T> Observable<WindowedValue<DoubleSummary>> summarizeDoublesByEventTime(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        return Observable.create(new OnSubscribeEventTimeSummaryDouble<T>(source, valueExtractor, timestampExtractor, size, slide, allowedLateness, onLate));
+    }
+
+    public static <T> Observable<WindowedValue<LongSummary>> summarizeLongsByEventTime(Observable<T> source, ToLongFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long allowedLateness) {
+        return summarizeLongsByEventTime(source, valueExtractor, timestampExtractor, size, size, allowedLateness, null);
+    }
+
+    public static <T> Observable<WindowedValue<LongSummary>> summarizeLongsByEventTime(Observable<T> source, ToLongFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long slide, long allowedLateness) {
+        return summarizeLongsByEventTime(source, valueExtractor, timestampExtractor, size, slide, allowedLateness, null);
+    }
+
+    public static <T> Observable<WindowedValue<LongSummary>> summarizeLongsByEventTime(Observable<T> source, ToLongFunc1<? super T> valueExtractor,
+            ToLongFunc1<? super T> timestampExtractor, long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        return Observable.create(new OnSubscribeEventTimeSummaryLong<T>(source, valueExtractor, timestampExtractor, size, slide, allowedLateness, onLate));
+    }
+}
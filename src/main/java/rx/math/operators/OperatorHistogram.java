@@ -0,0 +1,39 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongHistogram;
+
+/**
+ * A few operators for recording the distribution of a sequence into a
+ * fixed-precision histogram.
+ */
+public final class OperatorHistogram {
+    private OperatorHistogram() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<LongHistogram> histogramLongs(Observable<Long> source, long highestTrackableValue, int significantDigits) {
+        return histogramLongs(source, Unboxing.LONG, highestTrackableValue, significantDigits);
+    }
+
+    public static <T> Observable<LongHistogram> histogramLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor,
+            long highestTrackableValue, int significantDigits) {
+        return Observable.create(new OnSubscribeHistogramLong<T>(source, valueExtractor, highestTrackableValue, significantDigits));
+    }
+}
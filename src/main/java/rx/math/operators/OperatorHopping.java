@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * A few operators for computing aggregates over the last {@code timespan}
+ * every {@code timeshift}, splitting time into {@code timeshift} panes so that
+ * each value is accumulated once no matter how many windows overlap it.
+ * The windows emitted before the first full {@code timespan} are partial
+ * and start at the subscription.
+ */
+public final class OperatorHopping {
+    private OperatorHopping() { throw new IllegalStateException("No instances!"); }
+
+    public static <T> Observable<Long> countEvery(Observable<T> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingCount<T>(source, timespan, timeshift, unit, scheduler));
+    }
+
+    public static Observable<Double> sumDoublesEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return sumDoublesEvery(source, Unboxing.DOUBLE, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<Double> sumDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingSumDouble<T>(source, valueExtractor, timespan, timeshift, unit, scheduler, false));
+    }
+
+    public static Observable<Double> averageDoublesEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return averageDoublesEvery(source, Unboxing.DOUBLE, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<Double> averageDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingSumDouble<T>(source, valueExtractor, timespan, timeshift, unit, scheduler, true));
+    }
+
+    public static Observable<Long> sumLongsEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return sumLongsEvery(source, Unboxing.LONG, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<Long> sumLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingSumLong<T>(source, valueExtractor, timespan, timeshift, unit, scheduler));
+    }
+
+    public static Observable<DoubleMinMax> minMaxDoublesEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return minMaxDoublesEvery(source, Unboxing.DOUBLE, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<DoubleMinMax> minMaxDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingMinMaxDouble<T>(source, valueExtractor, timespan, timeshift, unit, scheduler));
+    }
+
+    public static Observable<LongMinMax> minMaxLongsEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return minMaxLongsEvery(source, Unboxing.LONG, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<LongMinMax> minMaxLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingMinMaxLong<T>(source, valueExtractor, timespan, timeshift, unit, scheduler));
+    }
+
+    public static Observable<DoubleSummary> summarizeDoublesEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return summarizeDoublesEvery(source, Unboxing.DOUBLE, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<DoubleSummary> summarizeDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingSummaryDouble<T>(source, valueExtractor, timespan, timeshift, unit, scheduler));
+    }
+
+    public static Observable<LongSummary> summarizeLongsEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return summarizeLongsEvery(source, Unboxing.LONG, timespan, timeshift, unit, scheduler);
+    }
+
+    public static <T> Observable<LongSummary> summarizeLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeHoppingSummaryLong<T>(source, valueExtractor, timespan, timeshift, unit, scheduler));
+    }
+}
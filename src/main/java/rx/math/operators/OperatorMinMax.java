@@ -19,53 +19,228 @@ import java.util.*;
 
 import rx.Observable;
 import rx.functions.*;
+import rx.math.functions.*;
+import rx.math.statistics.*;
 
 /**
  * Returns the minimum element in an observable sequence.
+ * <p>
+ * Every min/max operator selects the extreme with a {@code boolean max} flag,
+ * and among items that compare equal the earliest one wins.
  */
 public final class OperatorMinMax {
     private OperatorMinMax() { throw new IllegalStateException("No instances!"); }
 
     public static <T extends Comparable<? super T>> Observable<T> min(
             Observable<T> source) {
-        return minMax(source, 1);
+        return minMax(source, false);
     }
 
     public static <T> Observable<T> min(Observable<T> source,
             final Comparator<? super T> comparator) {
-        return minMax(source, comparator, 1);
+        return minMax(source, comparator, false);
     }
 
     public static <T, R extends Comparable<? super R>> Observable<List<T>> minBy(
             Observable<T> source, final Func1<T, R> selector) {
-        return minMaxBy(source, selector, -1);
+        return minMaxBy(source, selector, false);
     }
 
     public static <T, R> Observable<List<T>> minBy(Observable<T> source,
             final Func1<T, R> selector, final Comparator<? super R> comparator) {
-        return minMaxBy(source, selector, comparator, -1);
+        return minMaxBy(source, selector, comparator, false);
+    }
+
+    public static <T, R extends Comparable<? super R>> Observable<List<T>> minBy(
+            Observable<T> source, final Func1<T, R> selector, int maxTies) {
+        return minMaxBy(source, selector, OnSubscribeMinMax.COMPARABLE_MIN, false, maxTies);
+    }
+
+    public static <T, R> Observable<List<T>> minBy(Observable<T> source,
+            final Func1<T, R> selector, final Comparator<? super R> comparator, int maxTies) {
+        return minMaxBy(source, selector, comparator, false, maxTies);
     }
 
     // -------------------------------------------------------------------------------
 
     public static <T extends Comparable<? super T>> Observable<T> max(
             Observable<T> source) {
-        return minMax(source, -1);
+        return minMax(source, true);
     }
 
     public static <T> Observable<T> max(Observable<T> source,
             final Comparator<? super T> comparator) {
-        return minMax(source, comparator, -1);
+        return minMax(source, comparator, true);
     }
 
     public static <T, R extends Comparable<? super R>> Observable<List<T>> maxBy(
             Observable<T> source, final Func1<T, R> selector) {
-        return minMaxBy(source, selector, 1);
+        return minMaxBy(source, selector, true);
     }
 
     public static <T, R> Observable<List<T>> maxBy(Observable<T> source,
             final Func1<T, R> selector, final Comparator<? super R> comparator) {
-        return minMaxBy(source, selector, comparator, 1);
+        return minMaxBy(source, selector, comparator, true);
+    }
+
+    public static <T, R extends Comparable<? super R>> Observable<List<T>> maxBy(
+            Observable<T> source, final Func1<T, R> selector, int maxTies) {
+        return minMaxBy(source, selector, OnSubscribeMinMax.COMPARABLE_MIN, true, maxTies);
+    }
+
+    public static <T, R> Observable<List<T>> maxBy(Observable<T> source,
+            final Func1<T, R> selector, final Comparator<? super R> comparator, int maxTies) {
+        return minMaxBy(source, selector, comparator, true, maxTies);
+    }
+
+    // -------------------------------------------------------------------------------
+
+    public static Observable<Integer> minIntegers(Observable<Integer> source) {
+        return minIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static <T> Observable<Integer> minIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxInt<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<Integer> maxIntegers(Observable<Integer> source) {
+        return maxIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static <T> Observable<Integer> maxIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxInt<T>(source, valueExtractor, true));
+    }
+
+    public static Observable<Long> minLongs(Observable<Long> source) {
+        return minLongs(source, Unboxing.LONG);
+    }
+
+    public static <T> Observable<Long> minLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxLong<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<Long> maxLongs(Observable<Long> source) {
+        return maxLongs(source, Unboxing.LONG);
+    }
+
+    public static <T> Observable<Long> maxLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxLong<T>(source, valueExtractor, true));
+    }
+
+    public static Observable<Double> minDoubles(Observable<Double> source) {
+        return minDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<Double> minDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxDouble<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<Double> maxDoubles(Observable<Double> source) {
+        return maxDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<Double> maxDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinMaxDouble<T>(source, valueExtractor, true));
+    }
+
+    // -------------------------------------------------------------------------------
+
+    public static <T extends Comparable<? super T>> Observable<MinMax<T>> minMax(Observable<T> source) {
+        return minMax(source, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<MinMax<T>> minMax(Observable<T> source, Comparator<? super T> comparator) {
+        return Observable.create(new OnSubscribeMinAndMax<T>(source, comparator));
+    }
+
+    public static Observable<IntMinMax> minMaxIntegers(Observable<Integer> source) {
+        return minMaxIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static <T> Observable<IntMinMax> minMaxIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinAndMaxInt<T>(source, valueExtractor));
+    }
+
+    public static Observable<LongMinMax> minMaxLongs(Observable<Long> source) {
+        return minMaxLongs(source, Unboxing.LONG);
+    }
+
+    public static <T> Observable<LongMinMax> minMaxLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinAndMaxLong<T>(source, valueExtractor));
+    }
+
+    public static Observable<DoubleMinMax> minMaxDoubles(Observable<Double> source) {
+        return minMaxDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<DoubleMinMax> minMaxDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeMinAndMaxDouble<T>(source, valueExtractor));
+    }
+
+    // -------------------------------------------------------------------------------
+
+    public static <T extends Comparable<? super T>> Observable<IndexedValue<T>> argMin(Observable<T> source) {
+        return argMin(source, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMin(Observable<T> source, Comparator<? super T> comparator) {
+        return Observable.create(new OnSubscribeArgMinMax<T>(source, comparator, false));
+    }
+
+    public static <T extends Comparable<? super T>> Observable<IndexedValue<T>> argMax(Observable<T> source) {
+        return argMax(source, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMax(Observable<T> source, Comparator<? super T> comparator) {
+        return Observable.create(new OnSubscribeArgMinMax<T>(source, comparator, true));
+    }
+
+    public static Observable<IndexedValue<Integer>> argMinIntegers(Observable<Integer> source) {
+        return argMinIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMinIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxInt<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<IndexedValue<Integer>> argMaxIntegers(Observable<Integer> source) {
+        return argMaxIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMaxIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxInt<T>(source, valueExtractor, true));
+    }
+
+    public static Observable<IndexedValue<Long>> argMinLongs(Observable<Long> source) {
+        return argMinLongs(source, Unboxing.LONG);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMinLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxLong<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<IndexedValue<Long>> argMaxLongs(Observable<Long> source) {
+        return argMaxLongs(source, Unboxing.LONG);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMaxLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxLong<T>(source, valueExtractor, true));
+    }
+
+    public static Observable<IndexedValue<Double>> argMinDoubles(Observable<Double> source) {
+        return argMinDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMinDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxDouble<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<IndexedValue<Double>> argMaxDoubles(Observable<Double> source) {
+        return argMaxDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<IndexedValue<T>> argMaxDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeArgMinMaxDouble<T>(source, valueExtractor, true));
     }
 
     // -------------------------------------------------------------------------------
@@ -73,48 +248,30 @@ public final class OperatorMinMax {
 
     
     private static <T extends Comparable<? super T>> Observable<T> minMax(
-            Observable<T> source, final int flag) {
-        return minMax(source, OnSubscribeMinMax.COMPARABLE_MIN, flag);
+            Observable<T> source, final boolean max) {
+        return minMax(source, OnSubscribeMinMax.COMPARABLE_MIN, max);
     }
 
     private static <T> Observable<T> minMax(Observable<T> source,
-            final Comparator<? super T> comparator, final int flag) {
-        return Observable.create(new OnSubscribeMinMax<T>(source, comparator, flag));
+            final Comparator<? super T> comparator, final boolean max) {
+        return Observable.create(new OnSubscribeMinMax<T>(source, comparator, max));
     }
 
     private static <T, R extends Comparable<? super R>> Observable<List<T>> minMaxBy(
-            Observable<T> source, final Func1<T, R> selector, final int flag) {
-        return minMaxBy(source, selector, OnSubscribeMinMax.COMPARABLE_MIN, flag);
+            Observable<T> source, final Func1<T, R> selector, final boolean max) {
+        return minMaxBy(source, selector, OnSubscribeMinMax.COMPARABLE_MIN, max);
+    }
+
+    private static <T, R> Observable<List<T>> minMaxBy(Observable<T> source,
+            final Func1<T, R> selector, final Comparator<? super R> comparator,
+            final boolean max) {
+        return minMaxBy(source, selector, comparator, max, Integer.MAX_VALUE);
     }
 
     private static <T, R> Observable<List<T>> minMaxBy(Observable<T> source,
             final Func1<T, R> selector, final Comparator<? super R> comparator,
-            final int flag) {
-        return source.collect(new Func0<List<T>>() {
-                    @Override
-                    public List<T> call() {
-                        return new ArrayList<T>();
-                    }
-                },
-                new Action2<List<T>, T>() {
-
-                    @Override
-                    public void call(List<T> acc, T value) {
-                        if (acc.isEmpty()) {
-                            acc.add(value);
-                        } else {
-                            int compareResult = comparator.compare(
-                                    selector.call(acc.get(0)),
-                                    selector.call(value));
-                            if (compareResult == 0) {
-                                acc.add(value);
-                            } else if (flag * compareResult < 0) {
-                                acc.clear();
-                                acc.add(value);
-                            }
-                        }
-                    }
-                });
+            final boolean max, int maxTies) {
+        return Observable.create(new OnSubscribeMinMaxBy<T, R>(source, selector, comparator, max, maxTies));
     }
 
 }
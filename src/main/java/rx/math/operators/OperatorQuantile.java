@@ -0,0 +1,37 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.QuantileSketch;
+
+/**
+ * A few operators for estimating quantiles of a sequence in bounded memory.
+ */
+public final class OperatorQuantile {
+    private OperatorQuantile() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<QuantileSketch> quantileSketchDoubles(Observable<Double> source, int k) {
+        return quantileSketchDoubles(source, Unboxing.DOUBLE, k);
+    }
+
+    public static <T> Observable<QuantileSketch> quantileSketchDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int k) {
+        return Observable.create(new OnSubscribeQuantileSketch<T>(source, valueExtractor, k));
+    }
+}
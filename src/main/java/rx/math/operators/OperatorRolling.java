@@ -0,0 +1,119 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Comparator;
+
+import rx.Observable;
+import rx.math.functions.*;
+
+/**
+ * A few operators for computing aggregates over a sliding window of the
+ * last {@code size} values, emitting one result per source value.
+ */
+public final class OperatorRolling {
+    private OperatorRolling() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<Double> rollingSumDoubles(Observable<Double> source, int size) {
+        return rollingSumDoubles(source, Unboxing.DOUBLE, size, size);
+    }
+
+    public static Observable<Double> rollingSumDoubles(Observable<Double> source, int size, int resumInterval) {
+        return rollingSumDoubles(source, Unboxing.DOUBLE, size, resumInterval);
+    }
+
+    public static <T> Observable<Double> rollingSumDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return rollingSumDoubles(source, valueExtractor, size, size);
+    }
+
+    public static <T> Observable<Double> rollingSumDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size, int resumInterval) {
+        return Observable.create(new OnSubscribeRollingSumDouble<T>(source, valueExtractor, size, resumInterval, false));
+    }
+
+    public static Observable<Double> rollingAverageDoubles(Observable<Double> source, int size) {
+        return rollingAverageDoubles(source, Unboxing.DOUBLE, size, size);
+    }
+
+    public static Observable<Double> rollingAverageDoubles(Observable<Double> source, int size, int resumInterval) {
+        return rollingAverageDoubles(source, Unboxing.DOUBLE, size, resumInterval);
+    }
+
+    public static <T> Observable<Double> rollingAverageDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return rollingAverageDoubles(source, valueExtractor, size, size);
+    }
+
+    public static <T> Observable<Double> rollingAverageDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size, int resumInterval) {
+        return Observable.create(new OnSubscribeRollingSumDouble<T>(source, valueExtractor, size, resumInterval, true));
+    }
+
+    public static Observable<Long> rollingSumLongs(Observable<Long> source, int size) {
+        return rollingSumLongs(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<Long> rollingSumLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeRollingSumLong<T>(source, valueExtractor, size));
+    }
+
+    public static <T extends Comparable<? super T>> Observable<T> rollingMin(Observable<T> source, int size) {
+        return rollingMin(source, size, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<T> rollingMin(Observable<T> source, int size, Comparator<? super T> comparator) {
+        return Observable.create(new OnSubscribeRollingMinMax<T>(source, comparator, size, false));
+    }
+
+    public static <T extends Comparable<? super T>> Observable<T> rollingMax(Observable<T> source, int size) {
+        return rollingMax(source, size, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<T> rollingMax(Observable<T> source, int size, Comparator<? super T> comparator) {
+        return Observable.create(new OnSubscribeRollingMinMax<T>(source, comparator, size, true));
+    }
+
+    public static Observable<Long> rollingMinLongs(Observable<Long> source, int size) {
+        return rollingMinLongs(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<Long> rollingMinLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeRollingMinMaxLong<T>(source, valueExtractor, size, false));
+    }
+
+    public static Observable<Long> rollingMaxLongs(Observable<Long> source, int size) {
+        return rollingMaxLongs(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<Long> rollingMaxLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeRollingMinMaxLong<T>(source, valueExtractor, size, true));
+    }
+
+    public static Observable<Double> rollingMinDoubles(Observable<Double> source, int size) {
+        return rollingMinDoubles(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<Double> rollingMinDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeRollingMinMaxDouble<T>(source, valueExtractor, size, false));
+    }
+
+    public static Observable<Double> rollingMaxDoubles(Observable<Double> source, int size) {
+        return rollingMaxDoubles(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<Double> rollingMaxDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeRollingMinMaxDouble<T>(source, valueExtractor, size, true));
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * A few operators for aggregating values into sessions that close after a
+ * period of inactivity, keeping only primitive running aggregates of the
+ * open session.
+ */
+public final class OperatorSession {
+    private OperatorSession() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<WindowedValue<DoubleSummary>> summarizeDoublesBySession(Observable<Double> source, long gap, TimeUnit unit, Scheduler scheduler) {
+        return summarizeDoublesBySession(source, Unboxing.DOUBLE, gap, unit, scheduler);
+    }
+
+    public static <T> Observable<WindowedValue<DoubleSummary>> summarizeDoublesBySession(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeSessionSummaryDouble<T>(source, valueExtractor, gap, unit, scheduler));
+    }
+
+    public static Observable<WindowedValue<LongSummary>> summarizeLongsBySession(Observable<Long> source, long gap, TimeUnit unit, Scheduler scheduler) {
+        return summarizeLongsBySession(source, Unboxing.LONG, gap, unit, scheduler);
+    }
+
+    public static <T> Observable<WindowedValue<LongSummary>> summarizeLongsBySession(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeSessionSummaryLong<T>(source, valueExtractor, gap, unit, scheduler));
+    }
+}
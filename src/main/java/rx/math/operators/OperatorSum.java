@@ -15,7 +15,10 @@
  */
 package rx.math.operators;
 
+import java.math.BigInteger;
+
 import rx.Observable;
+import rx.math.functions.*;
 
 /**
  * A few operators for implementing the sum operation.
@@ -58,4 +61,52 @@ public final class OperatorSum {
     public static Observable<Double> sumAtLeastOneDoubles(Observable<Double> source) {
         return Observable.create(new OnSubscribeSumDouble(source, false));
     }
+
+    public static <T> Observable<Integer> sumAtLeastOneIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumIntSelector<T>(source, valueExtractor, false));
+    }
+
+    public static <T> Observable<Long> sumAtLeastOneLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumLongSelector<T>(source, valueExtractor, false));
+    }
+
+    public static <T> Observable<Float> sumAtLeastOneFloats(Observable<T> source, ToFloatFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumFloatSelector<T>(source, valueExtractor, false));
+    }
+
+    public static <T> Observable<Double> sumAtLeastOneDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumDoubleSelector<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<Float> sumFloatsCompensated(Observable<Float> source) {
+        return Observable.create(new OnSubscribeSumFloatCompensated<Float>(source, Unboxing.FLOAT, true));
+    }
+
+    public static Observable<Double> sumDoublesCompensated(Observable<Double> source) {
+        return Observable.create(new OnSubscribeSumDoubleCompensated<Double>(source, Unboxing.DOUBLE, true));
+    }
+
+    public static <T> Observable<Float> sumAtLeastOneFloatsCompensated(Observable<T> source, ToFloatFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumFloatCompensated<T>(source, valueExtractor, false));
+    }
+
+    public static <T> Observable<Double> sumAtLeastOneDoublesCompensated(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumDoubleCompensated<T>(source, valueExtractor, false));
+    }
+
+    public static Observable<Double> sumDoubleChunks(Observable<double[]> source) {
+        return Observable.create(new OnSubscribeSumDoubleChunks(source));
+    }
+
+    public static Observable<Long> sumIntegersToLong(Observable<Integer> source) {
+        return Observable.create(new OnSubscribeSumLongSelector<Integer>(source, Unboxing.INTEGER_TO_LONG, true));
+    }
+
+    public static Observable<BigInteger> sumLongsExact(Observable<Long> source) {
+        return Observable.create(new OnSubscribeSumLongExact<Long>(source, Unboxing.LONG, true));
+    }
+
+    public static <T> Observable<BigInteger> sumAtLeastOneLongsExact(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSumLongExact<T>(source, valueExtractor, false));
+    }
 }
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * A few operators for computing the count, sum, minimum, maximum and average
+ * of a sequence in a single pass.
+ */
+public final class OperatorSummary {
+    private OperatorSummary() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<IntSummary> summarizeIntegers(Observable<Integer> source) {
+        return summarizeIntegers(source, Unboxing.INTEGER);
+    }
+
+    public static Observable<LongSummary> summarizeLongs(Observable<Long> source) {
+        return summarizeLongs(source, Unboxing.LONG);
+    }
+
+    public static Observable<DoubleSummary> summarizeDoubles(Observable<Double> source) {
+        return summarizeDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<IntSummary> summarizeIntegers(Observable<T> source, ToIntFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSummaryInt<T>(source, valueExtractor));
+    }
+
+    public static <T> Observable<LongSummary> summarizeLongs(Observable<T> source, ToLongFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSummaryLong<T>(source, valueExtractor));
+    }
+
+    public static <T> Observable<DoubleSummary> summarizeDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeSummaryDouble<T>(source, valueExtractor));
+    }
+}
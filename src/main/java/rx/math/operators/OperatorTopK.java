@@ -0,0 +1,83 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.*;
+
+import rx.Observable;
+import rx.functions.Func1;
+
+/**
+ * Returns the {@code n} largest or smallest elements of an observable
+ * sequence, keeping only those elements in memory.
+ */
+public final class OperatorTopK {
+    private OperatorTopK() { throw new IllegalStateException("No instances!"); }
+
+    public static <T extends Comparable<? super T>> Observable<List<T>> topK(Observable<T> source, int n) {
+        return topK(source, n, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<List<T>> topK(Observable<T> source, int n, Comparator<? super T> comparator) {
+        return topKBy(source, n, OperatorTopK.<T>identity(), comparator);
+    }
+
+    public static <T, R extends Comparable<? super R>> Observable<List<T>> topKBy(
+            Observable<T> source, int n, Func1<? super T, ? extends R> selector) {
+        return topKBy(source, n, selector, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T, R> Observable<List<T>> topKBy(Observable<T> source, int n,
+            Func1<? super T, ? extends R> selector, Comparator<? super R> comparator) {
+        return Observable.create(new OnSubscribeTopK<T, R>(source, selector, comparator, n));
+    }
+
+    // -------------------------------------------------------------------------------
+
+    public static <T extends Comparable<? super T>> Observable<List<T>> bottomK(Observable<T> source, int n) {
+        return bottomK(source, n, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T> Observable<List<T>> bottomK(Observable<T> source, int n, Comparator<? super T> comparator) {
+        return topK(source, n, Collections.reverseOrder(comparator));
+    }
+
+    public static <T, R extends Comparable<? super R>> Observable<List<T>> bottomKBy(
+            Observable<T> source, int n, Func1<? super T, ? extends R> selector) {
+        return bottomKBy(source, n, selector, OnSubscribeMinMax.COMPARABLE_MIN);
+    }
+
+    public static <T, R> Observable<List<T>> bottomKBy(Observable<T> source, int n,
+            Func1<? super T, ? extends R> selector, Comparator<? super R> comparator) {
+        return topKBy(source, n, selector, Collections.reverseOrder(comparator));
+    }
+
+    // -------------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    static <T> Func1<T, T> identity() {
+        return (Func1<T, T>) IDENTITY;
+    }
+
+    static final Func1<Object, Object> IDENTITY = new Func1<Object, Object>() {
+        @Override
+        public Object call(Object t) {
+            return t;
+        }
+    };
+}
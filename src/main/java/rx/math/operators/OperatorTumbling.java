@@ -0,0 +1,149 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+
+/**
+ * A few operators for computing aggregates over consecutive, non-overlapping
+ * windows of {@code size} values or of a fixed time period, emitting one
+ * result per window without creating a buffer or an inner Observable for it.
+ */
+public final class OperatorTumbling {
+    private OperatorTumbling() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<Double> sumDoublesEvery(Observable<Double> source, int size) {
+        return sumDoublesEvery(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<Double> sumDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSumEveryDouble<T>(source, valueExtractor, size, false));
+    }
+
+    public static Observable<Double> averageDoublesEvery(Observable<Double> source, int size) {
+        return averageDoublesEvery(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<Double> averageDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSumEveryDouble<T>(source, valueExtractor, size, true));
+    }
+
+    public static Observable<Long> sumLongsEvery(Observable<Long> source, int size) {
+        return sumLongsEvery(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<Long> sumLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSumEveryLong<T>(source, valueExtractor, size));
+    }
+
+    public static Observable<DoubleMinMax> minMaxDoublesEvery(Observable<Double> source, int size) {
+        return minMaxDoublesEvery(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<DoubleMinMax> minMaxDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeMinMaxEveryDouble<T>(source, valueExtractor, size));
+    }
+
+    public static Observable<LongMinMax> minMaxLongsEvery(Observable<Long> source, int size) {
+        return minMaxLongsEvery(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<LongMinMax> minMaxLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeMinMaxEveryLong<T>(source, valueExtractor, size));
+    }
+
+    public static Observable<DoubleSummary> summarizeDoublesEvery(Observable<Double> source, int size) {
+        return summarizeDoublesEvery(source, Unboxing.DOUBLE, size);
+    }
+
+    public static <T> Observable<DoubleSummary> summarizeDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSummaryEveryDouble<T>(source, valueExtractor, size));
+    }
+
+    public static Observable<LongSummary> summarizeLongsEvery(Observable<Long> source, int size) {
+        return summarizeLongsEvery(source, Unboxing.LONG, size);
+    }
+
+    public static <T> Observable<LongSummary> summarizeLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, int size) {
+        return Observable.create(new OnSubscribeSummaryEveryLong<T>(source, valueExtractor, size));
+    }
+
+    public static <T> Observable<Long> countEvery(Observable<T> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedCount<T>(source, time, unit, scheduler));
+    }
+
+    public static Observable<Double> sumDoublesEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return sumDoublesEvery(source, Unboxing.DOUBLE, time, unit, scheduler);
+    }
+
+    public static <T> Observable<Double> sumDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSumDouble<T>(source, valueExtractor, time, unit, scheduler, false));
+    }
+
+    public static Observable<Double> averageDoublesEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return averageDoublesEvery(source, Unboxing.DOUBLE, time, unit, scheduler);
+    }
+
+    public static <T> Observable<Double> averageDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSumDouble<T>(source, valueExtractor, time, unit, scheduler, true));
+    }
+
+    public static Observable<Long> sumLongsEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return sumLongsEvery(source, Unboxing.LONG, time, unit, scheduler);
+    }
+
+    public static <T> Observable<Long> sumLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSumLong<T>(source, valueExtractor, time, unit, scheduler));
+    }
+
+    public static Observable<DoubleMinMax> minMaxDoublesEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return minMaxDoublesEvery(source, Unboxing.DOUBLE, time, unit, scheduler);
+    }
+
+    public static <T> Observable<DoubleMinMax> minMaxDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedMinMaxDouble<T>(source, valueExtractor, time, unit, scheduler));
+    }
+
+    public static Observable<LongMinMax> minMaxLongsEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return minMaxLongsEvery(source, Unboxing.LONG, time, unit, scheduler);
+    }
+
+    public static <T> Observable<LongMinMax> minMaxLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedMinMaxLong<T>(source, valueExtractor, time, unit, scheduler));
+    }
+
+    public static Observable<DoubleSummary> summarizeDoublesEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return summarizeDoublesEvery(source, Unboxing.DOUBLE, time, unit, scheduler);
+    }
+
+    public static <T> Observable<DoubleSummary> summarizeDoublesEvery(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSummaryDouble<T>(source, valueExtractor, time, unit, scheduler));
+    }
+
+    public static Observable<LongSummary> summarizeLongsEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return summarizeLongsEvery(source, Unboxing.LONG, time, unit, scheduler);
+    }
+
+    public static <T> Observable<LongSummary> summarizeLongsEvery(Observable<T> source, ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return Observable.create(new OnSubscribeTimedSummaryLong<T>(source, valueExtractor, time, unit, scheduler));
+    }
+}
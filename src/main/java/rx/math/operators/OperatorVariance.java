@@ -0,0 +1,54 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.Observable;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.VarianceSummary;
+
+/**
+ * A few operators for computing the variance and standard deviation of a
+ * sequence in a single pass.
+ */
+public final class OperatorVariance {
+    private OperatorVariance() { throw new IllegalStateException("No instances!"); }
+
+    public static Observable<Double> varianceDoubles(Observable<Double> source, boolean sample) {
+        return varianceDoubles(source, Unboxing.DOUBLE, sample);
+    }
+
+    public static Observable<Double> stdDevDoubles(Observable<Double> source, boolean sample) {
+        return stdDevDoubles(source, Unboxing.DOUBLE, sample);
+    }
+
+    public static Observable<VarianceSummary> varianceSummaryDoubles(Observable<Double> source) {
+        return varianceSummaryDoubles(source, Unboxing.DOUBLE);
+    }
+
+    public static <T> Observable<Double> varianceDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, boolean sample) {
+        return Observable.create(new OnSubscribeVarianceDouble<T>(source, valueExtractor, sample, false));
+    }
+
+    public static <T> Observable<Double> stdDevDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor, boolean sample) {
+        return Observable.create(new OnSubscribeVarianceDouble<T>(source, valueExtractor, sample, true));
+    }
+
+    public static <T> Observable<VarianceSummary> varianceSummaryDoubles(Observable<T> source, ToDoubleFunc1<? super T> valueExtractor) {
+        return Observable.create(new OnSubscribeVarianceSummary<T>(source, valueExtractor));
+    }
+}
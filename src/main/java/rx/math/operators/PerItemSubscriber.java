@@ -0,0 +1,88 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.exceptions.Exceptions;
+import rx.plugins.RxJavaPlugins;
+
+/**
+ * A subscriber that emits exactly one value for each source value, so the
+ * downstream requests can be passed to the source unchanged.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public abstract class PerItemSubscriber<T, R> extends Subscriber<T> {
+
+    protected final Subscriber<? super R> actual;
+
+    /** Set once the terminal event has been signalled to the child. */
+    protected boolean done;
+
+    public PerItemSubscriber(Subscriber<? super R> actual) {
+        this.actual = actual;
+    }
+
+    @Override
+    public final void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.getInstance().getErrorHandler().handleError(e);
+            return;
+        }
+        done = true;
+        actual.onError(e);
+    }
+
+    @Override
+    public void onCompleted() {
+        if (done) {
+            return;
+        }
+        done = true;
+        actual.onCompleted();
+    }
+
+    /**
+     * Cancels the upstream and signals the error to the child; used when a
+     * user-supplied function crashes in onNext. Subclasses should ignore
+     * further events once {@link #done} is set.
+     * @param ex the exception thrown by the function
+     */
+    protected final void fail(Throwable ex) {
+        Exceptions.throwIfFatal(ex);
+        unsubscribe();
+        onError(ex);
+    }
+
+    public final void subscribeTo(Observable<T> source) {
+        Subscriber<? super R> a = actual;
+        a.add(this);
+        a.setProducer(new Producer() {
+            @Override
+            public void request(long n) {
+                requestMore(n);
+            }
+        });
+        source.unsafeSubscribe(this);
+    }
+
+    final void requestMore(long n) {
+        request(n);
+    }
+}
@@ -19,6 +19,8 @@ package rx.math.operators;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import rx.*;
+import rx.exceptions.Exceptions;
+import rx.plugins.RxJavaPlugins;
 
 /**
  * A subscriber that is unbounded-in, can hold onto a value and emits it when
@@ -37,6 +39,12 @@ public abstract class ScalarDeferredSubscriber<T, R> extends Subscriber<T> {
     
     protected R value;
     
+    /**
+     * Set once the source has completed or failed, or a user-supplied function
+     * has crashed; further events are ignored from then on.
+     */
+    protected boolean done;
+    
     final AtomicInteger state = new AtomicInteger();
 
     static final int NO_REQUEST_NO_VALUE = 0;
@@ -50,20 +58,42 @@ public abstract class ScalarDeferredSubscriber<T, R> extends Subscriber<T> {
 
     @Override
     public final void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.getInstance().getErrorHandler().handleError(e);
+            return;
+        }
+        done = true;
         value = null;
         actual.onError(e);
     }
     
+    /**
+     * Cancels the upstream and signals the error to the child; used when a
+     * user-supplied function crashes in onNext. Subclasses should ignore
+     * further events once {@link #done} is set.
+     * @param ex the exception thrown by the function
+     */
+    protected final void fail(Throwable ex) {
+        Exceptions.throwIfFatal(ex);
+        unsubscribe();
+        onError(ex);
+    }
+    
     @Override
     public void onCompleted() {
+        if (done) {
+            return;
+        }
         if (hasValue) {
             complete(value);
         } else {
+            done = true;
             actual.onCompleted();
         }
     }
     
     protected final void complete(R v) {
+        done = true;
         Subscriber<? super R> a = actual;
         
         for (;;) {
@@ -86,6 +116,15 @@ public abstract class ScalarDeferredSubscriber<T, R> extends Subscriber<T> {
     }
 
     public final void subscribeTo(Observable<T> source) {
+        connect();
+        source.unsafeSubscribe(this);
+    }
+
+    /**
+     * Links this subscriber to the child without subscribing to a source,
+     * for use as the parent subscriber of a lifted {@code Operator}.
+     */
+    final void connect() {
         Subscriber<? super R> a = actual;
         a.add(this);
         a.setProducer(new Producer() {
@@ -94,7 +133,6 @@ public abstract class ScalarDeferredSubscriber<T, R> extends Subscriber<T> {
                 innerRequested(n);
             }
         });
-        source.unsafeSubscribe(this);
     }
     
     @Override
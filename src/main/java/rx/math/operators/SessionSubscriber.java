@@ -0,0 +1,119 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.exceptions.MissingBackpressureException;
+import rx.math.statistics.WindowedValue;
+
+/**
+ * A subscriber that aggregates the source values into sessions, emitting a
+ * session once no value has arrived for {@code gap}, along with the time of
+ * its first value and its last value plus the gap.
+ * <p>
+ * Each value only records the current time of the {@link Scheduler}; a single
+ * timer is pending while a session is open, and when it fires it either
+ * closes the session or is rescheduled for the rest of the gap since the
+ * last value, so no timer is created per value. The accumulators are
+ * serialized between the source and the timer by
+ * {@link TimerSerializedSubscriber}.
+ * <p>
+ * The source is consumed without backpressure; the sequence fails with a
+ * {@link MissingBackpressureException} if a session closes before it has
+ * been requested.
+ *
+ * @param <T> the input value type
+ * @param <R> the aggregate type
+ */
+public abstract class SessionSubscriber<T, R> extends TimerSerializedSubscriber<T, WindowedValue<R>> {
+
+    final long gap;
+
+    /** The number of values in the open session; accessed by the wip owner. */
+    long count;
+
+    long firstTime;
+
+    long lastTime;
+
+    public SessionSubscriber(Subscriber<? super WindowedValue<R>> actual, long gap, TimeUnit unit) {
+        super(actual);
+        // a sub-millisecond gap still has to wait for the next scheduler millisecond
+        this.gap = Math.max(1L, unit.toMillis(gap));
+    }
+
+    /**
+     * Adds a source value to the open session, calling {@link #fail(Throwable)}
+     * if a user-supplied function crashes.
+     * @param t the source value
+     */
+    protected abstract void accumulate(T t);
+
+    /**
+     * Returns the aggregate of the session that just closed and resets the
+     * accumulators for the next one.
+     * @param n the number of values in the session, at least one
+     * @return the aggregate to emit
+     */
+    protected abstract R emit(long n);
+
+    @Override
+    protected final void add(T t) {
+        accumulate(t);
+        if (done) {
+            return;
+        }
+        long now = worker.now();
+        if (count++ == 0L) {
+            firstTime = now;
+        }
+        lastTime = now;
+        if (!timerPending) {
+            schedule(gap);
+        }
+    }
+
+    @Override
+    protected final void onTimer(long n) {
+        if (count == 0L) {
+            return;
+        }
+        long idle = worker.now() - lastTime;
+        if (idle >= gap) {
+            emitSession();
+        } else {
+            schedule(gap - idle);
+        }
+    }
+
+    @Override
+    protected final void onSourceComplete() {
+        if (count != 0L) {
+            emitSession();
+        }
+    }
+
+    final void emitSession() {
+        long n = count;
+        count = 0L;
+        R r = emit(n);
+        tryEmit(new WindowedValue<R>(firstTime, lastTime + gap, r), "the session");
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.*;
+import rx.exceptions.MissingBackpressureException;
+
+/**
+ * A subscriber that aggregates the source values in place and emits one
+ * value per period of a {@link Scheduler} timer, plus one for the last
+ * partial period when the source completes.
+ * <p>
+ * The accumulators are serialized between the source and the periodic timer
+ * by {@link TimerSerializedSubscriber}, so neither side ever blocks.
+ * <p>
+ * The source is consumed in an unbounded manner. If the child has not
+ * requested the aggregate of a period by the time it closes, the sequence
+ * fails with a {@link MissingBackpressureException}.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public abstract class TimedTumblingSubscriber<T, R> extends TimerSerializedSubscriber<T, R> {
+
+    long period;
+
+    TimeUnit unit;
+
+    /** The number of values in the current period; accessed by the wip owner. */
+    long count;
+
+    public TimedTumblingSubscriber(Subscriber<? super R> actual) {
+        super(actual);
+    }
+
+    /**
+     * Adds a source value to the current period, calling {@link #fail(Throwable)}
+     * if a user-supplied function crashes.
+     * @param t the source value
+     */
+    protected abstract void accumulate(T t);
+
+    /**
+     * Returns the value to emit for the period that just closed and resets
+     * the accumulators for the next one.
+     * @param n the number of values in the period, possibly zero
+     * @return the aggregate to emit or null to skip an empty period
+     */
+    protected abstract R emit(long n);
+
+    public final void subscribeTo(Observable<T> source, long time, TimeUnit unit, Scheduler scheduler) {
+        this.period = time;
+        this.unit = unit;
+        subscribeTo(source, scheduler);
+    }
+
+    @Override
+    protected final void startTimer() {
+        schedulePeriodically(period, unit);
+    }
+
+    @Override
+    protected final void add(T t) {
+        accumulate(t);
+        if (!done) {
+            count++;
+        }
+    }
+
+    @Override
+    protected final void onTimer(long n) {
+        for (long i = 0; i < n; i++) {
+            if (!emitPeriod()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected final void onSourceComplete() {
+        if (count != 0L) {
+            emitPeriod();
+        }
+    }
+
+    final boolean emitPeriod() {
+        long n = count;
+        count = 0;
+        R r = emit(n);
+        return r == null || tryEmit(r, "the aggregate of the period");
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import rx.*;
+import rx.Scheduler.Worker;
+import rx.exceptions.*;
+import rx.functions.Action0;
+import rx.plugins.RxJavaPlugins;
+
+/**
+ * A subscriber that serializes the source values with the runs of a
+ * {@link Scheduler} timer, so its subclasses can keep their state in plain
+ * fields that are only touched by whichever thread currently owns the
+ * {@code wip} counter.
+ * <p>
+ * A source value arriving while nobody owns the counter is handed to
+ * {@link #add(Object)} directly after a single uncontended compare-and-set;
+ * a value arriving while the timer holds the state is queued and picked up
+ * by the timer thread before it leaves, so neither side ever blocks. The
+ * timer only counts its runs and drains; the runs are reported to
+ * {@link #onTimer(long)} before any queued value, as those arrived after them.
+ * <p>
+ * The source is consumed in an unbounded manner. If the child has not
+ * requested a value by the time it is due, the sequence fails with a
+ * {@link MissingBackpressureException}.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public abstract class TimerSerializedSubscriber<T, R> extends Subscriber<T> {
+
+    protected final Subscriber<? super R> actual;
+
+    final AtomicInteger wip;
+
+    final AtomicLong requested;
+
+    final Queue<T> queue;
+
+    final Action0 timerAction;
+
+    /** The number of times the timer ran, written only by the timer. */
+    volatile long fired;
+
+    volatile boolean sourceDone;
+
+    Throwable error;
+
+    Worker worker;
+
+    /** The number of timer runs already handled; accessed by the wip owner. */
+    long handled;
+
+    /** Set while a one-shot timer is scheduled; accessed by the wip owner. */
+    boolean timerPending;
+
+    /** Set once the terminal event has been signalled to the child; accessed by the wip owner. */
+    protected boolean done;
+
+    public TimerSerializedSubscriber(Subscriber<? super R> actual) {
+        this.actual = actual;
+        this.wip = new AtomicInteger();
+        this.requested = new AtomicLong();
+        this.queue = new ConcurrentLinkedQueue<T>();
+        this.timerAction = new Action0() {
+            @Override
+            public void call() {
+                fired = fired + 1;
+                drain();
+            }
+        };
+    }
+
+    /**
+     * Handles a source value, calling {@link #fail(Throwable)} if a
+     * user-supplied function crashes.
+     * @param t the source value
+     */
+    protected abstract void add(T t);
+
+    /**
+     * Handles the timer runs since the last call; {@link #timerPending} has
+     * been cleared already.
+     * @param n the number of runs, at least one
+     */
+    protected abstract void onTimer(long n);
+
+    /**
+     * Emits whatever is still held when the source completes; the child is
+     * completed afterwards unless the sequence failed meanwhile.
+     */
+    protected abstract void onSourceComplete();
+
+    /**
+     * Starts a periodic timer if the subclass needs one; called once the
+     * worker is available and before subscribing to the source.
+     */
+    protected void startTimer() {
+        // one-shot timers are scheduled on demand by default
+    }
+
+    @Override
+    public final void onNext(T t) {
+        AtomicInteger w = wip;
+        if (w.get() == 0 && w.compareAndSet(0, 1)) {
+            if (!done) {
+                if (fired != handled) {
+                    handleTimer();
+                }
+                if (!done) {
+                    add(t);
+                }
+            }
+            if (w.decrementAndGet() == 0) {
+                return;
+            }
+        } else {
+            queue.offer(t);
+            if (w.getAndIncrement() != 0) {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    @Override
+    public final void onError(Throwable e) {
+        error = e;
+        sourceDone = true;
+        drain();
+    }
+
+    @Override
+    public final void onCompleted() {
+        sourceDone = true;
+        drain();
+    }
+
+    /**
+     * Cancels the upstream and the timer and signals the error to the child;
+     * used when a user-supplied function crashes or a value can't be emitted.
+     * @param ex the exception to signal
+     */
+    protected final void fail(Throwable ex) {
+        Exceptions.throwIfFatal(ex);
+        done = true;
+        unsubscribe();
+        worker.unsubscribe();
+        actual.onError(ex);
+    }
+
+    public final void subscribeTo(Observable<T> source, Scheduler scheduler) {
+        Subscriber<? super R> a = actual;
+        Worker w = scheduler.createWorker();
+        worker = w;
+        a.add(this);
+        a.add(w);
+        a.setProducer(new Producer() {
+            @Override
+            public void request(long n) {
+                requestMore(n);
+            }
+        });
+        startTimer();
+        source.unsafeSubscribe(this);
+    }
+
+    final void requestMore(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n >= 0 required but it was " + n);
+        }
+        AtomicLong r = requested;
+        for (;;) {
+            long c = r.get();
+            long u = c + n;
+            if (u < 0L) {
+                u = Long.MAX_VALUE;
+            }
+            if (r.compareAndSet(c, u)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Schedules a one-shot run of the timer and sets {@link #timerPending}.
+     * @param delay the delay in milliseconds
+     */
+    protected final void schedule(long delay) {
+        timerPending = true;
+        worker.schedule(timerAction, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the timer periodically.
+     * @param period the period
+     * @param unit the unit of the period
+     */
+    protected final void schedulePeriodically(long period, TimeUnit unit) {
+        worker.schedulePeriodically(timerAction, period, period, unit);
+    }
+
+    /**
+     * Emits a value if the child has requested it or fails the sequence with
+     * a {@link MissingBackpressureException} otherwise.
+     * @param value the value to emit
+     * @param what what the value is, for the exception message
+     * @return true if the value was emitted, false if the sequence failed
+     */
+    protected final boolean tryEmit(R value, String what) {
+        AtomicLong rq = requested;
+        long c = rq.get();
+        if (c == 0L) {
+            fail(new MissingBackpressureException("Could not emit " + what + " due to lack of requests"));
+            return false;
+        }
+        if (c != Long.MAX_VALUE) {
+            rq.decrementAndGet();
+        }
+        actual.onNext(value);
+        return true;
+    }
+
+    final void handleTimer() {
+        long f = fired;
+        long n = f - handled;
+        handled = f;
+        timerPending = false;
+        onTimer(n);
+    }
+
+    final void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    final void drainLoop() {
+        Queue<T> q = queue;
+        int missed = 1;
+        for (;;) {
+            // read before draining: values queued ahead of the terminal event are then visible
+            boolean d = sourceDone;
+            if (!done && fired != handled) {
+                handleTimer();
+            }
+            if (!done) {
+                T v;
+                while ((v = q.poll()) != null) {
+                    add(v);
+                    if (done) {
+                        break;
+                    }
+                }
+            }
+            if (d) {
+                Throwable e = error;
+                if (e != null) {
+                    error = null;
+                    if (done) {
+                        // the sequence has already failed or completed
+                        RxJavaPlugins.getInstance().getErrorHandler().handleError(e);
+                    } else {
+                        done = true;
+                        worker.unsubscribe();
+                        actual.onError(e);
+                    }
+                } else if (!done && q.isEmpty()) {
+                    onSourceComplete();
+                    if (!done) {
+                        done = true;
+                        worker.unsubscribe();
+                        actual.onCompleted();
+                    }
+                }
+            }
+            if (done) {
+                q.clear();
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+}
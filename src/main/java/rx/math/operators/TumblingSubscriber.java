@@ -0,0 +1,141 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.*;
+import rx.exceptions.Exceptions;
+import rx.plugins.RxJavaPlugins;
+
+/**
+ * A subscriber that aggregates consecutive, non-overlapping windows of
+ * {@code size} source values in place and emits one value per window, plus
+ * one for the last partial window when the source completes.
+ * <p>
+ * Each downstream request is multiplied by {@code size} before it is passed
+ * to the source. The source can only complete with a partial window before
+ * it has delivered everything requested, so there is always demand left for
+ * that last value and nothing has to be queued.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public abstract class TumblingSubscriber<T, R> extends Subscriber<T> {
+
+    protected final Subscriber<? super R> actual;
+
+    protected final int size;
+
+    /** Set once the terminal event has been signalled to the child. */
+    protected boolean done;
+
+    /** The number of values in the current window. */
+    int count;
+
+    public TumblingSubscriber(Subscriber<? super R> actual, int size) {
+        this.actual = actual;
+        this.size = size;
+    }
+
+    /**
+     * Adds a source value to the current window, calling {@link #fail(Throwable)}
+     * if a user-supplied function crashes.
+     * @param t the source value
+     */
+    protected abstract void accumulate(T t);
+
+    /**
+     * Returns the aggregate of the current window and resets the accumulators
+     * for the next one.
+     * @param n the number of values in the window, at least one
+     * @return the aggregate to emit
+     */
+    protected abstract R emit(int n);
+
+    @Override
+    public final void onNext(T t) {
+        if (done) {
+            return;
+        }
+        accumulate(t);
+        if (done) {
+            return;
+        }
+        int c = count + 1;
+        if (c == size) {
+            count = 0;
+            actual.onNext(emit(c));
+        } else {
+            count = c;
+        }
+    }
+
+    @Override
+    public final void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.getInstance().getErrorHandler().handleError(e);
+            return;
+        }
+        done = true;
+        actual.onError(e);
+    }
+
+    @Override
+    public final void onCompleted() {
+        if (done) {
+            return;
+        }
+        done = true;
+        int c = count;
+        if (c != 0) {
+            count = 0;
+            actual.onNext(emit(c));
+        }
+        actual.onCompleted();
+    }
+
+    /**
+     * Cancels the upstream and signals the error to the child; used when a
+     * user-supplied function crashes in {@link #accumulate(Object)}.
+     * @param ex the exception thrown by the function
+     */
+    protected final void fail(Throwable ex) {
+        Exceptions.throwIfFatal(ex);
+        unsubscribe();
+        onError(ex);
+    }
+
+    public final void subscribeTo(Observable<T> source) {
+        Subscriber<? super R> a = actual;
+        a.add(this);
+        a.setProducer(new Producer() {
+            @Override
+            public void request(long n) {
+                requestMore(n);
+            }
+        });
+        source.unsafeSubscribe(this);
+    }
+
+    final void requestMore(long n) {
+        if (n > Long.MAX_VALUE / size) {
+            request(Long.MAX_VALUE);
+        } else {
+            request(n * size);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import rx.math.functions.*;
+
+/**
+ * Primitive extractors that unbox the values of the numeric sources.
+ */
+final class Unboxing {
+    private Unboxing() { throw new IllegalStateException("No instances!"); }
+
+    static final ToIntFunc1<Integer> INTEGER = new ToIntFunc1<Integer>() {
+        @Override
+        public int call(Integer t) {
+            return t.intValue();
+        }
+    };
+
+    static final ToLongFunc1<Long> LONG = new ToLongFunc1<Long>() {
+        @Override
+        public long call(Long t) {
+            return t.longValue();
+        }
+    };
+
+    static final ToLongFunc1<Integer> INTEGER_TO_LONG = new ToLongFunc1<Integer>() {
+        @Override
+        public long call(Integer t) {
+            return t.intValue();
+        }
+    };
+
+    static final ToFloatFunc1<Float> FLOAT = new ToFloatFunc1<Float>() {
+        @Override
+        public float call(Float t) {
+            return t.floatValue();
+        }
+    };
+
+    static final ToDoubleFunc1<Double> DOUBLE = new ToDoubleFunc1<Double>() {
+        @Override
+        public double call(Double t) {
+            return t.doubleValue();
+        }
+    };
+}
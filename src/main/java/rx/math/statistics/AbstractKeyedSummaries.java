@@ -0,0 +1,257 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+import java.util.Arrays;
+
+/**
+ * The aggregate arrays, growth and accessors shared by the keyed summary
+ * tables; the subclasses only store the keys and probe the index with their
+ * own hashing and equality.
+ */
+abstract class AbstractKeyedSummaries {
+
+    static final int MIN_CAPACITY = 8;
+
+    long[] counts;
+
+    double[] sums;
+
+    /** The Neumaier compensation of each sum. */
+    double[] comps;
+
+    double[] mins;
+
+    double[] maxs;
+
+    int size;
+
+    /** The open-addressing index holding {@code position + 1}, or zero for an empty slot. */
+    int[] index;
+
+    AbstractKeyedSummaries(int expectedKeys) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("expectedKeys >= 0 required but it was " + expectedKeys);
+        }
+        int c = Math.max(MIN_CAPACITY, expectedKeys);
+        counts = new long[c];
+        sums = new double[c];
+        comps = new double[c];
+        mins = new double[c];
+        maxs = new double[c];
+        index = new int[indexCapacity(c)];
+    }
+
+    /**
+     * @return the number of distinct keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if no value has been added
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the number of values of the key at the position
+     */
+    public long getCount(int index) {
+        checkIndex(index);
+        return counts[index];
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the compensated sum of the values of the key at the position
+     */
+    public double getSum(int index) {
+        checkIndex(index);
+        return sum(index);
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the smallest value of the key at the position
+     */
+    public double getMin(int index) {
+        checkIndex(index);
+        return mins[index];
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the largest value of the key at the position
+     */
+    public double getMax(int index) {
+        checkIndex(index);
+        return maxs[index];
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the average of the values of the key at the position
+     */
+    public double getAverage(int index) {
+        checkIndex(index);
+        return sum(index) / counts[index];
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the summary of the values of the key at the position
+     */
+    public DoubleSummary getSummary(int index) {
+        checkIndex(index);
+        return new DoubleSummary(counts[index], sum(index), mins[index], maxs[index]);
+    }
+
+    /**
+     * Grows the key array to the given capacity.
+     */
+    abstract void growKeys(int capacity);
+
+    /**
+     * @return the index slot where the probe for the key at a position starts
+     */
+    abstract int hashAt(int position, int mask);
+
+    abstract void appendKey(StringBuilder b, int position);
+
+    /**
+     * Adds a value to the aggregate at a position.
+     */
+    final void accumulate(int i, double value) {
+        counts[i]++;
+        addSum(i, value);
+        mins[i] = Math.min(mins[i], value);
+        maxs[i] = Math.max(maxs[i], value);
+    }
+
+    /**
+     * Adds the aggregate at position {@code j} of another table to the
+     * aggregate at position {@code i}.
+     */
+    final void combine(int i, AbstractKeyedSummaries other, int j) {
+        counts[i] += other.counts[j];
+        addSum(i, other.sums[j]);
+        addSum(i, other.comps[j]);
+        mins[i] = Math.min(mins[i], other.mins[j]);
+        maxs[i] = Math.max(maxs[i], other.maxs[j]);
+    }
+
+    /**
+     * Gives the next position empty aggregates and maps the given empty
+     * index slot to it; the caller has stored the key there already.
+     * @return the new position
+     */
+    final int insert(int slot) {
+        int i = size;
+        mins[i] = Double.POSITIVE_INFINITY;
+        maxs[i] = Double.NEGATIVE_INFINITY;
+        index[slot] = i + 1;
+        size = i + 1;
+        return i;
+    }
+
+    /**
+     * @return true if a new key needs {@link #grow()} first
+     */
+    final boolean isFull() {
+        return size == counts.length;
+    }
+
+    /**
+     * Doubles the capacity and rebuilds the index.
+     */
+    final void grow() {
+        int c = counts.length * 2;
+        growKeys(c);
+        counts = Arrays.copyOf(counts, c);
+        sums = Arrays.copyOf(sums, c);
+        comps = Arrays.copyOf(comps, c);
+        mins = Arrays.copyOf(mins, c);
+        maxs = Arrays.copyOf(maxs, c);
+        int[] idx = new int[indexCapacity(c)];
+        int m = idx.length - 1;
+        for (int i = 0; i < size; i++) {
+            int h = hashAt(i, m);
+            while (idx[h] != 0) {
+                h = (h + 1) & m;
+            }
+            idx[h] = i + 1;
+        }
+        index = idx;
+    }
+
+    /**
+     * Adds a term to the sum at a position with Neumaier's improved Kahan
+     * summation, like the sums of {@link DoubleSummary}.
+     */
+    final void addSum(int i, double v) {
+        double s = sums[i];
+        double t = s + v;
+        if (Math.abs(s) >= Math.abs(v)) {
+            comps[i] += (s - t) + v;
+        } else {
+            comps[i] += (v - t) + s;
+        }
+        sums[i] = t;
+    }
+
+    /**
+     * Returns the compensated sum at a position; the plain sum is returned
+     * if it overflowed to an infinity, as the compensation is NaN then.
+     */
+    final double sum(int i) {
+        double s = sums[i];
+        double v = s + comps[i];
+        if (Double.isNaN(v) && Double.isInfinite(s)) {
+            return s;
+        }
+        return v;
+    }
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /** Keeps the index at most half full for short probe sequences. */
+    static int indexCapacity(int positions) {
+        return Integer.highestOneBit(positions - 1) << 2;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(getClass().getSimpleName()).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                b.append(", ");
+            }
+            appendKey(b, i);
+            b.append("=").append(getSummary(i));
+        }
+        return b.append("]").toString();
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable pair of the minimum and maximum of a sequence of double values.
+ */
+public final class DoubleMinMax {
+
+    final double min;
+
+    final double max;
+
+    public DoubleMinMax(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DoubleMinMax)) {
+            return false;
+        }
+        DoubleMinMax other = (DoubleMinMax) obj;
+        return Double.doubleToLongBits(min) == Double.doubleToLongBits(other.min)
+                && Double.doubleToLongBits(max) == Double.doubleToLongBits(other.max);
+    }
+
+    @Override
+    public int hashCode() {
+        long bmin = Double.doubleToLongBits(min);
+        long bmax = Double.doubleToLongBits(max);
+        return 31 * (int) (bmin ^ (bmin >>> 32)) + (int) (bmax ^ (bmax >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleMinMax[min=" + min + ", max=" + max + "]";
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable count, sum, minimum, maximum and average of a sequence of
+ * double values, computed in a single pass. The sum is computed with
+ * compensated summation.
+ * <p>
+ * For an empty sequence the count and sum are zero, the minimum is
+ * {@code Double.POSITIVE_INFINITY} and the maximum is {@code Double.NEGATIVE_INFINITY}.
+ */
+public final class DoubleSummary {
+
+    final long count;
+
+    final double sum;
+
+    final double min;
+
+    final double max;
+
+    public DoubleSummary(long count, double sum, double min, double max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the arithmetic mean of the values or zero if there were none
+     */
+    public double getAverage() {
+        return count > 0 ? sum / count : 0d;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleSummary[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                + ", average=" + getAverage() + "]";
+    }
+}
@@ -0,0 +1,339 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog estimator of the number of distinct values in a sequence,
+ * using a fixed amount of memory regardless of the cardinality.
+ * <p>
+ * Values are hashed to 64 bits; the top {@code precision} bits select one of
+ * {@code m = 2^precision} byte registers that keeps the longest run of
+ * leading zeros seen in the remaining bits. The relative standard error of
+ * the estimate is about {@code 1.04 / sqrt(m)}, e.g., 0.8% at the
+ * {@link #DEFAULT_PRECISION default precision} of 14 with 16 KB of registers.
+ * <p>
+ * As in HyperLogLog++, small cardinalities are kept in a sparse list of
+ * register updates at a precision of 25 bits, which is both smaller and more
+ * accurate, and the estimator switches to the dense registers once the list
+ * would outgrow them. Dense estimates use Ertl's improved raw estimator,
+ * which needs neither the empirical bias tables of HyperLogLog++ nor a
+ * separate linear counting range.
+ * <p>
+ * Estimators of the same precision over separate shards can be combined with
+ * {@link #merge(HyperLogLog)}. The estimator is not thread-safe.
+ */
+public final class HyperLogLog {
+
+    /** The default precision. */
+    public static final int DEFAULT_PRECISION = 14;
+
+    /** The smallest accepted precision. */
+    public static final int MIN_PRECISION = 4;
+
+    /** The largest accepted precision. */
+    public static final int MAX_PRECISION = 18;
+
+    /** The precision of the sparse representation. */
+    static final int SPARSE_PRECISION = 25;
+
+    final int precision;
+
+    /** The dense registers, null while sparse. */
+    byte[] registers;
+
+    /** The sparse register updates, each {@code index << 6 | rank} at {@link #SPARSE_PRECISION}. */
+    int[] sparse;
+
+    int sparseSize;
+
+    /** The number of leading entries of {@link #sparse} that are sorted and unique. */
+    int sparseSorted;
+
+    /**
+     * Constructs an empty estimator with the {@link #DEFAULT_PRECISION default} precision.
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs an empty estimator.
+     * @param precision the number of index bits, between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(MIN_PRECISION + " <= precision <= " + MAX_PRECISION
+                    + " required but it was " + precision);
+        }
+        this.precision = precision;
+        this.sparse = new int[16];
+    }
+
+    /**
+     * Hashes a long value with the MurmurHash3 finalizer and adds it.
+     * @param value the value
+     */
+    public void offerLong(long value) {
+        offerHash(mix(value));
+    }
+
+    /**
+     * Adds a value by its {@code hashCode()}. Since the hash code has only 32
+     * bits, cardinalities approaching {@code 2^32} are underestimated;
+     * prefer {@link #offerLong(long)} for numeric keys.
+     * @param value the value, null is counted as a distinct value
+     */
+    public void offer(Object value) {
+        offerLong(value != null ? value.hashCode() : 0L);
+    }
+
+    /**
+     * Adds a value that was already hashed to 64 well-mixed bits.
+     * @param hash the hash of the value
+     */
+    public void offerHash(long hash) {
+        byte[] r = registers;
+        if (r != null) {
+            int index = (int) (hash >>> (64 - precision));
+            int rank = rank(hash << precision, 64 - precision);
+            if (r[index] < rank) {
+                r[index] = (byte) rank;
+            }
+        } else {
+            int index = (int) (hash >>> (64 - SPARSE_PRECISION));
+            int rank = rank(hash << SPARSE_PRECISION, 64 - SPARSE_PRECISION);
+            addSparse(index << 6 | rank);
+        }
+    }
+
+    /**
+     * @return the estimated number of distinct values added
+     */
+    public long getEstimate() {
+        return Math.round(estimate());
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return true if the estimator still uses the sparse representation
+     */
+    public boolean isSparse() {
+        return registers == null;
+    }
+
+    /**
+     * Combines this estimator with the estimator of another sequence. Neither
+     * estimator is modified.
+     * @param other the other estimator, with the same precision
+     * @return the estimator of both sequences
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (precision != other.precision) {
+            throw new IllegalArgumentException("Can't merge estimators with different precisions: " + precision
+                    + " and " + other.precision);
+        }
+        HyperLogLog result = new HyperLogLog(precision);
+        result.addAll(this);
+        result.addAll(other);
+        return result;
+    }
+
+    double estimate() {
+        byte[] r = registers;
+        if (r == null) {
+            compactSparse();
+            // linear counting over the 2^25 sparse registers
+            double m = 1 << SPARSE_PRECISION;
+            return m * Math.log(m / (m - sparseSize));
+        }
+        int q = 64 - precision;
+        int m = r.length;
+        int[] c = new int[q + 2];
+        for (int i = 0; i < m; i++) {
+            c[r[i]]++;
+        }
+        if (c[0] == m) {
+            return 0d;
+        }
+        double z = m * tau(1d - (double) c[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5d * (z + c[k]);
+        }
+        z += m * sigma((double) c[0] / m);
+        return m / (2d * Math.log(2d)) * m / z;
+    }
+
+    void addAll(HyperLogLog other) {
+        if (other.registers == null) {
+            int[] s = other.sparse;
+            for (int i = 0; i < other.sparseSize; i++) {
+                if (registers != null) {
+                    addDense(s[i]);
+                } else {
+                    addSparse(s[i]);
+                }
+            }
+        } else {
+            toDense();
+            byte[] r = registers;
+            byte[] o = other.registers;
+            for (int i = 0; i < r.length; i++) {
+                if (r[i] < o[i]) {
+                    r[i] = o[i];
+                }
+            }
+        }
+    }
+
+    void addSparse(int encoded) {
+        int[] s = sparse;
+        int n = sparseSize;
+        if (n == s.length) {
+            compactSparse();
+            n = sparseSize;
+            // the sparse list costs 4 bytes per entry versus 1 byte per dense register
+            if (n > (1 << precision) / 4) {
+                toDense();
+                addDense(encoded);
+                return;
+            }
+            if (n > s.length / 2) {
+                s = Arrays.copyOf(s, s.length * 2);
+                sparse = s;
+            }
+        }
+        s[n] = encoded;
+        sparseSize = n + 1;
+    }
+
+    /**
+     * Sorts the sparse list and keeps only the highest rank per index.
+     */
+    void compactSparse() {
+        int n = sparseSize;
+        if (sparseSorted == n) {
+            return;
+        }
+        int[] s = sparse;
+        Arrays.sort(s, 0, n);
+        int j = 0;
+        for (int i = 0; i < n; i++) {
+            int v = s[i];
+            if (j > 0 && (s[j - 1] >>> 6) == (v >>> 6)) {
+                s[j - 1] = v;
+            } else {
+                s[j++] = v;
+            }
+        }
+        sparseSize = j;
+        sparseSorted = j;
+    }
+
+    void toDense() {
+        if (registers != null) {
+            return;
+        }
+        registers = new byte[1 << precision];
+        int[] s = sparse;
+        int n = sparseSize;
+        sparse = null;
+        sparseSize = 0;
+        sparseSorted = 0;
+        for (int i = 0; i < n; i++) {
+            addDense(s[i]);
+        }
+    }
+
+    /**
+     * Converts a sparse register update to the dense precision: the index
+     * bits beyond the dense precision become the leading bits of the rank.
+     */
+    void addDense(int encoded) {
+        int sparseIndex = encoded >>> 6;
+        int shift = SPARSE_PRECISION - precision;
+        int index = sparseIndex >>> shift;
+        int extra = sparseIndex & ((1 << shift) - 1);
+        int rank;
+        if (extra != 0) {
+            rank = Integer.numberOfLeadingZeros(extra) - (32 - shift) + 1;
+        } else {
+            rank = shift + (encoded & 63);
+        }
+        if (registers[index] < rank) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * @return one plus the number of leading zeros in the top {@code bits} bits of {@code w}
+     */
+    static int rank(long w, int bits) {
+        return w == 0L ? bits + 1 : Math.min(Long.numberOfLeadingZeros(w), bits) + 1;
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    static double sigma(double x) {
+        if (x == 1d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1d;
+        double z = x;
+        double zPrev;
+        do {
+            x *= x;
+            zPrev = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    static double tau(double x) {
+        if (x == 0d || x == 1d) {
+            return 0d;
+        }
+        double y = 1d;
+        double z = 1d - x;
+        double zPrev;
+        do {
+            x = Math.sqrt(x);
+            zPrev = z;
+            y *= 0.5d;
+            z -= (1d - x) * (1d - x) * y;
+        } while (z != zPrev);
+        return z / 3d;
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog[precision=" + precision + ", sparse=" + isSparse() + ", estimate=" + getEstimate() + "]";
+    }
+}
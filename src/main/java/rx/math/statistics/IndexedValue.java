@@ -0,0 +1,65 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable pair of an item and its zero-based position in a sequence.
+ *
+ * @param <T> the item type
+ */
+public final class IndexedValue<T> {
+
+    final long index;
+
+    final T value;
+
+    public IndexedValue(long index, T value) {
+        this.index = index;
+        this.value = value;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IndexedValue)) {
+            return false;
+        }
+        IndexedValue<?> other = (IndexedValue<?>) obj;
+        return index == other.index && (value == null ? other.value == null : value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (int) (index ^ (index >>> 32)) + (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedValue[index=" + index + ", value=" + value + "]";
+    }
+}
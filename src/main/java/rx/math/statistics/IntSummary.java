@@ -0,0 +1,73 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable count, sum, minimum, maximum and average of a sequence of
+ * int values, computed in a single pass. The sum is kept in a long so it
+ * does not overflow.
+ * <p>
+ * For an empty sequence the count and sum are zero, the minimum is
+ * {@code Integer.MAX_VALUE} and the maximum is {@code Integer.MIN_VALUE}.
+ */
+public final class IntSummary {
+
+    final long count;
+
+    final long sum;
+
+    final int min;
+
+    final int max;
+
+    public IntSummary(long count, long sum, int min, int max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return the arithmetic mean of the values or zero if there were none
+     */
+    public double getAverage() {
+        return count > 0 ? (double) sum / count : 0d;
+    }
+
+    @Override
+    public String toString() {
+        return "IntSummary[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                + ", average=" + getAverage() + "]";
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+import java.util.Arrays;
+
+/**
+ * The count, sum, minimum, maximum and average of double values per key,
+ * compared with {@code equals}, accumulated in a single compact hash table.
+ * <p>
+ * The keys and their aggregates live in parallel primitive arrays in the
+ * order the keys were first seen, and an open-addressing {@code int[]}
+ * index with linear probing maps a key to its position, so a key costs no
+ * object beyond the arrays themselves. A null key is allowed. Lookups by
+ * key take expected O(1) time, and the positions {@code 0 .. size() - 1}
+ * can be iterated directly. The sums use compensated summation like
+ * {@link DoubleSummary}.
+ * <p>
+ * Tables built over separate shards can be combined with
+ * {@link #merge(KeyedSummaries)}. The table is not thread-safe.
+ *
+ * @param <K> the key type
+ */
+public final class KeyedSummaries<K> extends AbstractKeyedSummaries {
+
+    K[] keys;
+
+    /**
+     * Constructs an empty table.
+     */
+    public KeyedSummaries() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty table sized for the given number of keys.
+     * @param expectedKeys the number of keys to make room for
+     */
+    @SuppressWarnings("unchecked")
+    public KeyedSummaries(int expectedKeys) {
+        super(expectedKeys);
+        keys = (K[]) new Object[counts.length];
+    }
+
+    /**
+     * Adds a value to the aggregate of a key.
+     * @param key the key
+     * @param value the value
+     */
+    public void add(K key, double value) {
+        accumulate(position(key), value);
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the position of the key or -1 if it has no values
+     */
+    public int indexOf(K key) {
+        return index[slot(key)] - 1;
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the summary of the values of the key or null if it has none
+     */
+    public DoubleSummary get(K key) {
+        int i = indexOf(key);
+        return i < 0 ? null : getSummary(i);
+    }
+
+    /**
+     * @param index the position, between 0 and {@code size() - 1}
+     * @return the key at the position
+     */
+    public K getKey(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    /**
+     * Returns a new table with the aggregates of both tables, as if all their
+     * values had been added to one.
+     * @param other the table to merge with
+     * @return the merged table
+     */
+    public KeyedSummaries<K> merge(KeyedSummaries<K> other) {
+        KeyedSummaries<K> r = new KeyedSummaries<K>(size + other.size);
+        r.addAll(this);
+        r.addAll(other);
+        return r;
+    }
+
+    void addAll(KeyedSummaries<K> other) {
+        for (int j = 0; j < other.size; j++) {
+            combine(position(other.keys[j]), other, j);
+        }
+    }
+
+    /**
+     * Returns the position of a key, appending it with empty aggregates if it
+     * is not in the table yet.
+     */
+    int position(K key) {
+        int h = slot(key);
+        int p = index[h];
+        if (p != 0) {
+            return p - 1;
+        }
+        if (isFull()) {
+            grow();
+            h = slot(key);
+        }
+        keys[size] = key;
+        return insert(h);
+    }
+
+    /**
+     * Returns the index slot holding the key, or the empty slot its probe
+     * ended at.
+     */
+    int slot(K key) {
+        int[] idx = index;
+        int m = idx.length - 1;
+        int h = hash(key, m);
+        for (;;) {
+            int p = idx[h];
+            if (p == 0) {
+                return h;
+            }
+            K k = keys[p - 1];
+            if (k == key || (k != null && k.equals(key))) {
+                return h;
+            }
+            h = (h + 1) & m;
+        }
+    }
+
+    @Override
+    void growKeys(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    int hashAt(int position, int mask) {
+        return hash(keys[position], mask);
+    }
+
+    @Override
+    void appendKey(StringBuilder b, int position) {
+        b.append(keys[position]);
+    }
+
+    static int hash(Object key, int mask) {
+        int h = key == null ? 0 : key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
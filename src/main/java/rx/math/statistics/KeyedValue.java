@@ -0,0 +1,68 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable aggregate of the values of a single key.
+ *
+ * @param <K> the key type
+ * @param <T> the aggregate type
+ */
+public final class KeyedValue<K, T> {
+
+    final K key;
+
+    final T value;
+
+    public KeyedValue(K key, T value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof KeyedValue)) {
+            return false;
+        }
+        KeyedValue<?, ?> other = (KeyedValue<?, ?>) obj;
+        return (key == null ? other.key == null : key.equals(other.key))
+                && (value == null ? other.value == null : value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = key == null ? 0 : key.hashCode();
+        return 31 * h + (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedValue[key=" + key + ", value=" + value + "]";
+    }
+}
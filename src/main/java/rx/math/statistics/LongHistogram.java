@@ -0,0 +1,317 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * A histogram of non-negative long values, such as latencies in nanoseconds,
+ * with a fixed relative precision, laid out like HdrHistogram.
+ * <p>
+ * The value range is split into buckets covering successive powers of two,
+ * each divided into linear sub-buckets, so that any recorded value is
+ * represented by a bucket no wider than {@code 10^-significantDigits} of the
+ * value. Recording a value is a constant-time increment in a primitive
+ * {@code long[]} and allocates nothing.
+ * <p>
+ * The total count and the minimum and maximum are tracked exactly; the mean
+ * and percentiles are computed from the buckets. Histograms of separate
+ * shards can be combined with {@link #merge(LongHistogram)}.
+ * <p>
+ * The histogram is not thread-safe.
+ */
+public final class LongHistogram {
+
+    /** The largest accepted number of significant decimal digits. */
+    public static final int MAX_SIGNIFICANT_DIGITS = 5;
+
+    final long highestTrackableValue;
+
+    final int significantDigits;
+
+    final int subBucketHalfCountMagnitude;
+
+    final int subBucketHalfCount;
+
+    final long subBucketMask;
+
+    final int leadingZeroCountBase;
+
+    final long[] counts;
+
+    long totalCount;
+
+    long min;
+
+    long max;
+
+    /**
+     * Constructs an empty histogram.
+     * @param highestTrackableValue the largest value that can be recorded, at least 2
+     * @param significantDigits the number of significant decimal digits to keep, between 0 and
+     *        {@link #MAX_SIGNIFICANT_DIGITS}
+     */
+    public LongHistogram(long highestTrackableValue, int significantDigits) {
+        checkLayout(highestTrackableValue, significantDigits);
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+
+        long largestValueWithSingleUnitResolution = 2L * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+        if (subBucketCountMagnitude < 1) {
+            subBucketCountMagnitude = 1;
+        }
+        int subBucketCount = 1 << subBucketCountMagnitude;
+        this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        this.subBucketHalfCount = subBucketCount >> 1;
+        this.subBucketMask = subBucketCount - 1;
+        this.leadingZeroCountBase = 64 - subBucketCountMagnitude;
+
+        long smallestUntrackableValue = subBucketCount;
+        int bucketCount = 1;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+                bucketCount++;
+                break;
+            }
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+        this.counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    /**
+     * Validates the layout parameters without allocating the counts, so
+     * operators can reject them at assembly time.
+     * @param highestTrackableValue the highest value to be tracked, at least 2
+     * @param significantDigits the number of significant decimal digits, between 0 and 5
+     * @throws IllegalArgumentException if either parameter is out of range
+     */
+    public static void checkLayout(long highestTrackableValue, int significantDigits) {
+        if (highestTrackableValue < 2L) {
+            throw new IllegalArgumentException("highestTrackableValue >= 2 required but it was " + highestTrackableValue);
+        }
+        if (significantDigits < 0 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            throw new IllegalArgumentException("0 <= significantDigits <= " + MAX_SIGNIFICANT_DIGITS
+                    + " required but it was " + significantDigits);
+        }
+    }
+
+    /**
+     * Records a single occurrence of the given value.
+     * @param value the value, between 0 and the highest trackable value
+     */
+    public void recordValue(long value) {
+        recordValueWithCount(value, 1L);
+    }
+
+    /**
+     * Records multiple occurrences of the given value.
+     * @param value the value, between 0 and the highest trackable value
+     * @param count the number of occurrences
+     */
+    public void recordValueWithCount(long value, long count) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("Negative values can't be recorded: " + value);
+        }
+        int index = countsIndex(value);
+        if (index >= counts.length) {
+            throw new IllegalArgumentException("Value " + value + " exceeds the highest trackable value "
+                    + highestTrackableValue);
+        }
+        counts[index] += count;
+        if (totalCount == 0L) {
+            min = value;
+            max = value;
+        } else {
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        totalCount += count;
+    }
+
+    /**
+     * Combines this histogram with the histogram of another sequence. Neither
+     * histogram is modified; the result keeps the precision of this histogram
+     * and the larger of the two trackable ranges.
+     * @param other the other histogram
+     * @return the histogram of both sequences
+     */
+    public LongHistogram merge(LongHistogram other) {
+        LongHistogram result = new LongHistogram(Math.max(highestTrackableValue, other.highestTrackableValue),
+                significantDigits);
+        result.addAll(this);
+        result.addAll(other);
+        return result;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the exact minimum or zero if the histogram is empty
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * @return the exact maximum or zero if the histogram is empty
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean of the recorded values, each counted at the middle of its bucket, or zero if the
+     *         histogram is empty
+     */
+    public double getMean() {
+        if (totalCount == 0L) {
+            return 0d;
+        }
+        double sum = 0d;
+        long[] a = counts;
+        for (int i = 0; i < a.length; i++) {
+            long c = a[i];
+            if (c != 0L) {
+                long v = valueFromIndex(i);
+                sum += (double) (v + (sizeOfEquivalentValueRange(v) >> 1)) * c;
+            }
+        }
+        return sum / totalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile, i.e., the highest value
+     * equivalent to the bucket where the cumulative count reaches
+     * {@code percentile} percent of the total count, capped at the maximum.
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the percentile or zero if the histogram is empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0d && percentile <= 100d)) {
+            throw new IllegalArgumentException("0 <= percentile <= 100 required but it was " + percentile);
+        }
+        if (totalCount == 0L) {
+            return 0L;
+        }
+        if (percentile == 0d) {
+            return min;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100d * totalCount));
+        long cumulative = 0L;
+        long[] a = counts;
+        for (int i = 0; i < a.length; i++) {
+            cumulative += a[i];
+            if (cumulative >= target) {
+                long v = valueFromIndex(i);
+                return Math.min(v + sizeOfEquivalentValueRange(v) - 1, max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param value the value
+     * @return the number of recorded values in the bucket the given value falls into
+     */
+    public long getCountAtValue(long value) {
+        if (value < 0L) {
+            return 0L;
+        }
+        int index = countsIndex(value);
+        return index < counts.length ? counts[index] : 0L;
+    }
+
+    /**
+     * @param value the value
+     * @return the smallest value that falls into the same bucket as the given value
+     */
+    public long lowestEquivalentValue(long value) {
+        int bucketIndex = bucketIndex(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    /**
+     * @param value the value
+     * @return the width of the bucket the given value falls into
+     */
+    public long sizeOfEquivalentValueRange(long value) {
+        int bucketIndex = bucketIndex(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return 1L << (subBucketIndex > subBucketMask ? bucketIndex + 1 : bucketIndex);
+    }
+
+    void addAll(LongHistogram other) {
+        if (other.totalCount == 0L) {
+            return;
+        }
+        boolean empty = totalCount == 0L;
+        long exactMin = min;
+        long exactMax = max;
+        long[] a = other.counts;
+        for (int i = 0; i < a.length; i++) {
+            long c = a[i];
+            if (c != 0L) {
+                recordValueWithCount(other.valueFromIndex(i), c);
+            }
+        }
+        // the buckets only know the lowest equivalent values, restore the exact extremes
+        min = empty ? other.min : Math.min(exactMin, other.min);
+        max = empty ? other.max : Math.max(exactMax, other.max);
+    }
+
+    int bucketIndex(long value) {
+        return leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+    }
+
+    int countsIndex(long value) {
+        int bucketIndex = bucketIndex(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    long valueFromIndex(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "LongHistogram[totalCount=" + totalCount + ", min=" + min + ", max=" + max + ", mean=" + getMean()
+                + ", p50=" + getValueAtPercentile(50d) + ", p99=" + getValueAtPercentile(99d) + "]";
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable pair of the minimum and maximum of a sequence of long values.
+ */
+public final class LongMinMax {
+
+    final long min;
+
+    final long max;
+
+    public LongMinMax(long min, long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongMinMax)) {
+            return false;
+        }
+        LongMinMax other = (LongMinMax) obj;
+        return min == other.min && max == other.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (int) (min ^ (min >>> 32)) + (int) (max ^ (max >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "LongMinMax[min=" + min + ", max=" + max + "]";
+    }
+}
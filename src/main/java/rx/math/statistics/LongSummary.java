@@ -0,0 +1,112 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable count, sum, minimum, maximum and average of a sequence of
+ * long values, computed in a single pass. The sum does not overflow: it is
+ * kept in a long and spills into a BigInteger only if it outgrows it, so
+ * {@link #getAverage()} and {@link #getExactSum()} stay exact while
+ * {@link #getSum()} wraps around like {@code MathObservable.sumLong}.
+ * <p>
+ * For an empty sequence the count and sum are zero, the minimum is
+ * {@code Long.MAX_VALUE} and the maximum is {@code Long.MIN_VALUE}.
+ */
+public final class LongSummary {
+
+    final long count;
+
+    final long sum;
+
+    final long min;
+
+    final long max;
+
+    /** The sum if it does not fit into a long, null otherwise. */
+    final BigInteger exactSum;
+
+    public LongSummary(long count, long sum, long min, long max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.exactSum = null;
+    }
+
+    public LongSummary(long count, BigInteger sum, long min, long max) {
+        this.count = count;
+        this.sum = sum.longValue();
+        this.min = min;
+        this.max = max;
+        this.exactSum = sum.bitLength() < 64 ? null : sum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the values, wrapped around if it does not fit into a long
+     * @see #getExactSum()
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the exact sum of the values
+     */
+    public BigInteger getExactSum() {
+        BigInteger e = exactSum;
+        return e != null ? e : BigInteger.valueOf(sum);
+    }
+
+    /**
+     * @return true if the sum does not fit into a long and {@link #getSum()} wrapped around
+     */
+    public boolean isSumOverflow() {
+        return exactSum != null;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the arithmetic mean of the values or zero if there were none
+     */
+    public double getAverage() {
+        if (count == 0) {
+            return 0d;
+        }
+        BigInteger e = exactSum;
+        return e != null ? e.doubleValue() / count : (double) sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "LongSummary[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                + ", average=" + getAverage() + "]";
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable pair of the minimum and maximum item of a sequence.
+ *
+ * @param <T> the item type
+ */
+public final class MinMax<T> {
+
+    final T min;
+
+    final T max;
+
+    public MinMax(T min, T max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public T getMin() {
+        return min;
+    }
+
+    public T getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MinMax)) {
+            return false;
+        }
+        MinMax<?> other = (MinMax<?>) obj;
+        return (min == null ? other.min == null : min.equals(other.min))
+                && (max == null ? other.max == null : max.equals(other.max));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (min == null ? 0 : min.hashCode()) + (max == null ? 0 : max.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "MinMax[min=" + min + ", max=" + max + "]";
+    }
+}
@@ -0,0 +1,384 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+import java.util.Arrays;
+
+/**
+ * A KLL (Karnin, Lang, Liberty) quantile sketch of a sequence of double
+ * values that answers approximate rank and quantile queries in memory that
+ * grows only logarithmically with the number of values.
+ * <p>
+ * The values are kept in a hierarchy of compactors where an item on level
+ * {@code h} stands for {@code 2^h} original values. Whenever the sketch
+ * exceeds its capacity the lowest full level is sorted and every other item
+ * of it is promoted to the next level. The parameter {@code k} is the
+ * capacity of the top level and trades accuracy for memory: the rank error
+ * shrinks roughly as {@code 1/k} while about {@code 3k} items are retained.
+ * Sequences shorter than the capacity of the sketch are represented exactly.
+ * <p>
+ * The minimum, maximum and count are tracked exactly. NaN values are ignored.
+ * Sketches of separate shards can be combined with {@link #merge(QuantileSketch)}.
+ * <p>
+ * The sketch is not thread-safe.
+ */
+public final class QuantileSketch {
+
+    /** The default accuracy parameter, giving a rank error of about 1.3%. */
+    public static final int DEFAULT_K = 200;
+
+    /** The smallest accepted accuracy parameter. */
+    public static final int MIN_K = 8;
+
+    /** The smallest capacity of the lower levels, keeps compactions of the lowest levels infrequent. */
+    static final int MIN_LEVEL_CAPACITY = 8;
+
+    final int k;
+
+    double[][] levels;
+
+    int[] sizes;
+
+    int numLevels;
+
+    int retained;
+
+    int capacity;
+
+    long count;
+
+    double min;
+
+    double max;
+
+    long seed;
+
+    double[] sortedValues;
+
+    long[] sortedWeights;
+
+    /**
+     * Constructs an empty sketch with the {@link #DEFAULT_K default} accuracy.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Constructs an empty sketch.
+     * @param k the accuracy parameter, at least {@link #MIN_K}
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k >= " + MIN_K + " required but it was " + k);
+        }
+        this.k = k;
+        this.levels = new double[4][];
+        this.sizes = new int[4];
+        this.min = Double.NaN;
+        this.max = Double.NaN;
+        this.seed = 0x9E3779B97F4A7C15L;
+        addLevel();
+    }
+
+    /**
+     * Adds a value to the sketch.
+     * @param v the value, ignored if NaN
+     */
+    public void update(double v) {
+        if (Double.isNaN(v)) {
+            return;
+        }
+        if (count++ == 0L) {
+            min = v;
+            max = v;
+        } else {
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+        append(0, v);
+        compress();
+    }
+
+    /**
+     * Combines this sketch with the sketch of another sequence. Neither
+     * sketch is modified; the result uses the smaller of the two accuracy
+     * parameters.
+     * @param other the other sketch
+     * @return the sketch of both sequences
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        QuantileSketch result = new QuantileSketch(Math.min(k, other.k));
+        result.seed = seed ^ other.seed;
+        result.addAll(this);
+        result.addAll(other);
+        return result;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return the number of non-NaN values added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0L;
+    }
+
+    /**
+     * @return the exact minimum or NaN if the sketch is empty
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the exact maximum or NaN if the sketch is empty
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the number of items the sketch currently stores
+     */
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    /**
+     * Returns the approximate value at the given normalized rank, i.e., the
+     * smallest retained value such that at least {@code q * count} values
+     * are less than or equal to it.
+     * @param q the rank between 0 (the minimum) and 1 (the maximum)
+     * @return the approximate quantile or NaN if the sketch is empty
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0d && q <= 1d)) {
+            throw new IllegalArgumentException("0 <= q <= 1 required but it was " + q);
+        }
+        if (count == 0L) {
+            return Double.NaN;
+        }
+        if (q == 0d) {
+            return min;
+        }
+        if (q == 1d) {
+            return max;
+        }
+        sortedView();
+        long target = (long) Math.ceil(q * count);
+        long[] w = sortedWeights;
+        int lo = 0;
+        int hi = w.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (w[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return sortedValues[lo];
+    }
+
+    /**
+     * Returns the approximate values at each of the given normalized ranks.
+     * @param qs the ranks between 0 and 1
+     * @return the approximate quantiles, NaN for each if the sketch is empty
+     */
+    public double[] getQuantiles(double... qs) {
+        double[] result = new double[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            result[i] = getQuantile(qs[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the approximate fraction of values less than or equal to the given value.
+     * @param v the value
+     * @return the normalized rank between 0 and 1 or NaN if the sketch is empty
+     */
+    public double getRank(double v) {
+        if (count == 0L) {
+            return Double.NaN;
+        }
+        sortedView();
+        double[] a = sortedValues;
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo == 0 ? 0d : (double) sortedWeights[lo - 1] / count;
+    }
+
+    void addAll(QuantileSketch other) {
+        if (other.count == 0L) {
+            return;
+        }
+        if (count == 0L) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        count += other.count;
+        for (int h = 0; h < other.numLevels; h++) {
+            while (numLevels <= h) {
+                addLevel();
+            }
+            double[] a = other.levels[h];
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, a[i]);
+            }
+        }
+        compress();
+    }
+
+    void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            sizes = Arrays.copyOf(sizes, numLevels * 2);
+        }
+        levels[numLevels] = new double[16];
+        numLevels++;
+        int c = 0;
+        for (int h = 0; h < numLevels; h++) {
+            c += levelCapacity(h);
+        }
+        capacity = c;
+    }
+
+    int levelCapacity(int h) {
+        int c = (int) Math.ceil(k * Math.pow(2d / 3d, numLevels - 1 - h));
+        return Math.max(MIN_LEVEL_CAPACITY, c);
+    }
+
+    void append(int h, double v) {
+        double[] a = levels[h];
+        int n = sizes[h];
+        if (n == a.length) {
+            a = Arrays.copyOf(a, n * 2);
+            levels[h] = a;
+        }
+        a[n] = v;
+        sizes[h] = n + 1;
+        retained++;
+        sortedValues = null;
+    }
+
+    void compress() {
+        while (retained > capacity) {
+            for (int h = 0; h < numLevels; h++) {
+                if (sizes[h] >= levelCapacity(h)) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the given level and promotes every other item of it, starting at
+     * a random offset, to the next level with twice the weight. With an odd
+     * number of items the smallest one stays behind.
+     */
+    void compact(int h) {
+        if (h + 1 == numLevels) {
+            addLevel();
+        }
+        double[] a = levels[h];
+        int n = sizes[h];
+        Arrays.sort(a, 0, n);
+        int keep = n & 1;
+        long s = seed;
+        s ^= s << 13;
+        s ^= s >>> 7;
+        s ^= s << 17;
+        seed = s;
+        int offset = (int) (s & 1L);
+        for (int i = keep + offset; i < n; i += 2) {
+            append(h + 1, a[i]);
+        }
+        sizes[h] = keep;
+        retained -= n - keep;
+    }
+
+    void sortedView() {
+        if (sortedValues != null) {
+            return;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int h = 0; h < numLevels; h++) {
+            int m = sizes[h];
+            if (m == 0) {
+                continue;
+            }
+            double[] a = levels[h];
+            Arrays.sort(a, 0, m);
+            long w = 1L << h;
+            // merge the sorted level from the back into the sorted prefix
+            int i = n - 1;
+            int j = m - 1;
+            int d = n + m - 1;
+            while (j >= 0) {
+                if (i >= 0 && values[i] > a[j]) {
+                    values[d] = values[i];
+                    weights[d] = weights[i];
+                    i--;
+                } else {
+                    values[d] = a[j];
+                    weights[d] = w;
+                    j--;
+                }
+                d--;
+            }
+            n += m;
+        }
+        for (int i = 1; i < n; i++) {
+            weights[i] += weights[i - 1];
+        }
+        sortedWeights = weights;
+        sortedValues = values;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch[k=" + k + ", count=" + count + ", retained=" + retained + ", min=" + min
+                + ", max=" + max + "]";
+    }
+}
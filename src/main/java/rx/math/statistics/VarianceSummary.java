@@ -0,0 +1,118 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable count, mean and sum of squared deviations (M2) of a sequence of
+ * double values, from which the variance, standard deviation and
+ * coefficient of variation are derived.
+ * <p>
+ * Partial results computed over separate shards can be combined with
+ * {@link #merge(VarianceSummary)}.
+ */
+public final class VarianceSummary {
+
+    /** The summary of an empty sequence. */
+    public static final VarianceSummary EMPTY = new VarianceSummary(0L, 0d, 0d);
+
+    final long count;
+
+    final double mean;
+
+    final double m2;
+
+    public VarianceSummary(long count, double mean, double m2) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the arithmetic mean or zero if the sequence was empty
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the sum of the squared deviations from the mean
+     */
+    public double getSumOfSquaredDeviations() {
+        return m2;
+    }
+
+    /**
+     * @return the population variance, NaN if the sequence was empty
+     */
+    public double getPopulationVariance() {
+        return count > 0 ? m2 / count : Double.NaN;
+    }
+
+    /**
+     * @return the sample (Bessel-corrected) variance, NaN if the sequence had fewer than two values
+     */
+    public double getSampleVariance() {
+        return count > 1 ? m2 / (count - 1) : Double.NaN;
+    }
+
+    public double getPopulationStdDev() {
+        return Math.sqrt(getPopulationVariance());
+    }
+
+    public double getSampleStdDev() {
+        return Math.sqrt(getSampleVariance());
+    }
+
+    /**
+     * @return the population standard deviation divided by the mean
+     */
+    public double getCoefficientOfVariation() {
+        return getPopulationStdDev() / mean;
+    }
+
+    /**
+     * Combines this summary with the summary of another, disjoint sequence
+     * using Chan et al.'s parallel formula.
+     * @param other the other summary
+     * @return the summary of both sequences
+     */
+    public VarianceSummary merge(VarianceSummary other) {
+        long n1 = count;
+        long n2 = other.count;
+        if (n2 == 0L) {
+            return this;
+        }
+        if (n1 == 0L) {
+            return other;
+        }
+        long n = n1 + n2;
+        double delta = other.mean - mean;
+        double m = mean + delta * ((double) n2 / n);
+        double s = m2 + other.m2 + delta * delta * ((double) n1 * n2 / n);
+        return new VarianceSummary(n, m, s);
+    }
+
+    @Override
+    public String toString() {
+        return "VarianceSummary[count=" + count + ", mean=" + mean + ", m2=" + m2 + "]";
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.statistics;
+
+/**
+ * Immutable aggregate of the values whose timestamps fall into the half-open
+ * window {@code [start, end)}.
+ *
+ * @param <T> the aggregate type
+ */
+public final class WindowedValue<T> {
+
+    final long start;
+
+    final long end;
+
+    final T value;
+
+    public WindowedValue(long start, long end, T value) {
+        this.start = start;
+        this.end = end;
+        this.value = value;
+    }
+
+    /**
+     * @return the first timestamp of the window, inclusive
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return the end of the window, exclusive
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WindowedValue)) {
+            return false;
+        }
+        WindowedValue<?> other = (WindowedValue<?>) obj;
+        return start == other.start && end == other.end
+                && (value == null ? other.value == null : value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = (int) (start ^ (start >>> 32));
+        h = 31 * h + (int) (end ^ (end >>> 32));
+        return 31 * h + (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "WindowedValue[start=" + start + ", end=" + end + ", value=" + value + "]";
+    }
+}
@@ -15,16 +15,33 @@
  */
 package rx.observables;
 
+import java.math.BigInteger;
 import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Action1;
 import rx.functions.Func1;
+import rx.math.functions.*;
+import rx.math.operators.OperatorAverage;
+import rx.math.operators.OperatorByKey;
+import rx.math.operators.OperatorDistinctCount;
+import rx.math.operators.OperatorEventTime;
+import rx.math.operators.OperatorHistogram;
+import rx.math.operators.OperatorHopping;
 import rx.math.operators.OperatorMinMax;
+import rx.math.operators.OperatorQuantile;
+import rx.math.operators.OperatorRolling;
+import rx.math.operators.OperatorSession;
 import rx.math.operators.OperatorSum;
-import rx.math.operators.OperatorAverageDouble;
-import rx.math.operators.OperatorAverageFloat;
-import rx.math.operators.OperatorAverageInteger;
-import rx.math.operators.OperatorAverageLong;
+import rx.math.operators.OperatorSummary;
+import rx.math.operators.OperatorTopK;
+import rx.math.operators.OperatorTumbling;
+import rx.math.operators.OperatorVariance;
+import rx.math.statistics.*;
 
 public class MathObservable<T> {
 
@@ -37,18 +54,6 @@ public class MathObservable<T> {
     public static <T> MathObservable<T> from(Observable<T> o) {
         return new MathObservable<T>(o);
     }
-    
-    @SuppressWarnings("rawtypes")
-    private static Func1 INDENTITY = new Func1() {
-        @Override
-        public Object call(Object t1) {
-            return t1;
-        }
-    };
-    @SuppressWarnings("unchecked")
-    private static <T> Func1<T, T> identity() {
-        return INDENTITY;
-    }
 
     /**
      * Returns an Observable that emits the average of the Doubles emitted by the source Observable.
@@ -63,7 +68,7 @@ public class MathObservable<T> {
      * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
      */
     public final static Observable<Double> averageDouble(Observable<Double> source) {
-        return source.lift(new OperatorAverageDouble<Double>(MathObservable.<Double>identity()));
+        return OperatorAverage.averageDoubles(source);
     }
 
     /**
@@ -79,7 +84,7 @@ public class MathObservable<T> {
      * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
      */
     public final static Observable<Float> averageFloat(Observable<Float> source) {
-        return source.lift(new OperatorAverageFloat<Float>(MathObservable.<Float>identity()));
+        return OperatorAverage.averageFloats(source);
     }
 
     /**
@@ -97,7 +102,7 @@ public class MathObservable<T> {
      * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
      */
     public final static Observable<Integer> averageInteger(Observable<Integer> source) {
-        return source.lift(new OperatorAverageInteger<Integer>(MathObservable.<Integer>identity()));
+        return OperatorAverage.averageIntegers(source);
     }
 
     /**
@@ -113,7 +118,24 @@ public class MathObservable<T> {
      * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
      */
     public final static Observable<Long> averageLong(Observable<Long> source) {
-        return source.lift(new OperatorAverageLong<Long>(MathObservable.<Long>identity()));
+        return OperatorAverage.averageLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the average of the Doubles emitted by the source Observable, using
+     * compensated (Neumaier) summation to keep the rounding error independent of the number of items.
+     * <p>
+     * This trades some throughput for accuracy compared to {@link #averageDouble(Observable)}.
+     * 
+     * @param source
+     *            source Observable to compute the average of
+     * @return an Observable that emits a single item: the average of all the Doubles emitted by the source
+     *         Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final static Observable<Double> averageDoubleCompensated(Observable<Double> source) {
+        return OperatorAverage.averageDoublesCompensated(source);
     }
 
     /**
@@ -217,177 +239,3645 @@ public class MathObservable<T> {
     }
 
     /**
-     * Returns an Observable that transforms items emitted by the source Observable into Doubles by using a
-     * function you provide and then emits the Double average of the complete sequence of transformed values.
+     * Returns an Observable that emits the sum of all the Integers emitted by the source Observable,
+     * accumulated in a long so that it does not wrap around when it exceeds the Integer range.
+     * 
+     * @param source
+     *            source Observable to compute the sum of
+     * @return an Observable that emits a single item: the Long sum of all the Integers emitted by the source
+     *         Observable
+     */
+    public final static Observable<Long> sumIntegerToLong(Observable<Integer> source) {
+        return OperatorSum.sumIntegersToLong(source);
+    }
+
+    /**
+     * Returns an Observable that emits the exact sum of all the Longs emitted by the source Observable.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * The sum is accumulated in a long as long as it fits and is promoted to a BigInteger only when an
+     * addition overflows, so streams that never overflow cost about as much as {@link #sumLong(Observable)}.
      * 
-     * @param valueExtractor
-     *            the function to transform an item emitted by the source Observable into a Double
-     * @return an Observable that emits a single item: the Double average of the complete sequence of items
-     *         emitted by the source Observable when transformed into Doubles by the specified function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageDouble()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     * @param source
+     *            source Observable to compute the sum of
+     * @return an Observable that emits a single item: the exact sum of all the Longs emitted by the source
+     *         Observable
      */
-    public final Observable<Double> averageDouble(Func1<? super T, Double> valueExtractor) {
-        return o.lift(new OperatorAverageDouble<T>(valueExtractor));
+    public final static Observable<BigInteger> sumLongExact(Observable<Long> source) {
+        return OperatorSum.sumLongsExact(source);
     }
 
     /**
-     * Returns an Observable that transforms items emitted by the source Observable into Floats by using a
-     * function you provide and then emits the Float average of the complete sequence of transformed values.
+     * Returns an Observable that emits the sum of all the Doubles emitted by the source Observable, using
+     * compensated (Neumaier) summation to keep the rounding error independent of the number of items.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * This trades some throughput for accuracy compared to {@link #sumDouble(Observable)}.
      * 
-     * @param valueExtractor
-     *            the function to transform an item emitted by the source Observable into a Float
-     * @return an Observable that emits a single item: the Float average of the complete sequence of items
-     *         emitted by the source Observable when transformed into Floats by the specified function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageFloat()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     * @param source
+     *            the source Observable to compute the sum of
+     * @return an Observable that emits a single item: the sum of all the Doubles emitted by the source
+     *         Observable
      */
-    public final Observable<Float> averageFloat(Func1<? super T, Float> valueExtractor) {
-        return o.lift(new OperatorAverageFloat<T>(valueExtractor));
+    public final static Observable<Double> sumDoubleCompensated(Observable<Double> source) {
+        return OperatorSum.sumDoublesCompensated(source);
     }
 
     /**
-     * Returns an Observable that transforms items emitted by the source Observable into Integers by using a
-     * function you provide and then emits the Integer average of the complete sequence of transformed values.
+     * Returns an Observable that emits the sum of all the Floats emitted by the source Observable, using
+     * compensated (Neumaier) summation in double precision and rounding to a Float once at the end.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * This trades some throughput for accuracy compared to {@link #sumFloat(Observable)}.
      * 
-     * @param valueExtractor
-     *            the function to transform an item emitted by the source Observable into an Integer
-     * @return an Observable that emits a single item: the Integer average of the complete sequence of items
-     *         emitted by the source Observable when transformed into Integers by the specified function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageInteger()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     * @param source
+     *            the source Observable to compute the sum of
+     * @return an Observable that emits a single item: the sum of all the Floats emitted by the source
+     *         Observable
      */
-    public final Observable<Integer> averageInteger(Func1<? super T, Integer> valueExtractor) {
-        return o.lift(new OperatorAverageInteger<T>(valueExtractor));
+    public final static Observable<Float> sumFloatCompensated(Observable<Float> source) {
+        return OperatorSum.sumFloatsCompensated(source);
     }
 
     /**
-     * Returns an Observable that transforms items emitted by the source Observable into Longs by using a
-     * function you provide and then emits the Long average of the complete sequence of transformed values.
+     * Returns an Observable that emits the sum of all the elements of the double arrays emitted by the
+     * source Observable. Each array is summed pairwise and the per-array sums are combined with
+     * compensated (Neumaier) summation.
+     * 
+     * @param source
+     *            the source Observable of chunks to compute the sum of
+     * @return an Observable that emits a single item: the sum of all the elements of the arrays emitted
+     *         by the source Observable
+     */
+    public final static Observable<Double> sumDoubleChunks(Observable<double[]> source) {
+        return OperatorSum.sumDoubleChunks(source);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Integers emitted
+     * by the source Observable, computed in a single pass.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * An empty source results in a summary with a count of zero.
      * 
-     * @param valueExtractor
-     *            the function to transform an item emitted by the source Observable into a Long
-     * @return an Observable that emits a single item: the Long average of the complete sequence of items
-     *         emitted by the source Observable when transformed into Longs by the specified function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageLong()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     * @param source
+     *            source Observable to summarize
+     * @return an Observable that emits a single IntSummary of all the Integers emitted by the source
+     *         Observable
      */
-    public final Observable<Long> averageLong(Func1<? super T, Long> valueExtractor) {
-        return o.lift(new OperatorAverageLong<T>(valueExtractor));
+    public final static Observable<IntSummary> summarizeInt(Observable<Integer> source) {
+        return OperatorSummary.summarizeIntegers(source);
     }
 
     /**
-     * Returns an Observable that emits the maximum item emitted by the source Observable, according to the
-     * specified comparator. If there is more than one item with the same maximum value, it emits the
-     * last-emitted of these.
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Longs emitted
+     * by the source Observable, computed in a single pass.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/max.png" alt="">
+     * An empty source results in a summary with a count of zero.
      * 
-     * @param comparator
-     *            the comparer used to compare items
-     * @return an Observable that emits the maximum item emitted by the source Observable, according to the
-     *         specified comparator
+     * @param source
+     *            source Observable to summarize
+     * @return an Observable that emits a single LongSummary of all the Longs emitted by the source
+     *         Observable
+     */
+    public final static Observable<LongSummary> summarizeLong(Observable<Long> source) {
+        return OperatorSummary.summarizeLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Doubles emitted
+     * by the source Observable, computed in a single pass.
+     * <p>
+     * An empty source results in a summary with a count of zero.
+     * 
+     * @param source
+     *            source Observable to summarize
+     * @return an Observable that emits a single DoubleSummary of all the Doubles emitted by the source
+     *         Observable
+     */
+    public final static Observable<DoubleSummary> summarizeDouble(Observable<Double> source) {
+        return OperatorSummary.summarizeDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits the population variance of the Doubles emitted by the source Observable,
+     * computed in a single pass with Welford's numerically stable algorithm.
+     * 
+     * @param source
+     *            source Observable to compute the population variance of
+     * @return an Observable that emits a single item: the population variance of all the Doubles emitted by the
+     *         source Observable
      * @throws IllegalArgumentException
-     *             if the source is empty
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-max">RxJava Wiki: max()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/hh211635.aspx">MSDN: Observable.Max</a>
+     *             if the source Observable emits no items
      */
-    public final Observable<T> max(Comparator<? super T> comparator) {
-        return OperatorMinMax.max(o, comparator);
+    public final static Observable<Double> varianceDouble(Observable<Double> source) {
+        return OperatorVariance.varianceDoubles(source, false);
     }
 
     /**
-     * Returns an Observable that emits the minimum item emitted by the source Observable, according to a
-     * specified comparator. If there is more than one such item, it returns the last-emitted one.
+     * Returns an Observable that emits the sample (Bessel-corrected) variance of the Doubles emitted by the source Observable,
+     * computed in a single pass with Welford's numerically stable algorithm.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/min.png" alt="">
+     * A source with a single item results in NaN.
      * 
-     * @param comparator
-     *            the comparer used to compare elements
-     * @return an Observable that emits the minimum item emitted by the source Observable according to the
-     *         specified comparator
+     * @param source
+     *            source Observable to compute the sample (Bessel-corrected) variance of
+     * @return an Observable that emits a single item: the sample (Bessel-corrected) variance of all the Doubles emitted by the
+     *         source Observable
      * @throws IllegalArgumentException
-     *             if the source is empty
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-min">RxJava Wiki: min()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/hh229095.aspx">MSDN: Observable.Min</a>
+     *             if the source Observable emits no items
      */
-    public final Observable<T> min(Comparator<? super T> comparator) {
-        return OperatorMinMax.min(o, comparator);
+    public final static Observable<Double> sampleVarianceDouble(Observable<Double> source) {
+        return OperatorVariance.varianceDoubles(source, true);
     }
 
     /**
-     * Returns an Observable that extracts a Double from each of the items emitted by the source Observable via
-     * a function you specify, and then emits the sum of these Doubles.
+     * Returns an Observable that emits the population standard deviation of the Doubles emitted by the source Observable,
+     * computed in a single pass with Welford's numerically stable algorithm.
+     * 
+     * @param source
+     *            source Observable to compute the population standard deviation of
+     * @return an Observable that emits a single item: the population standard deviation of all the Doubles emitted by the
+     *         source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final static Observable<Double> stdDevDouble(Observable<Double> source) {
+        return OperatorVariance.stdDevDoubles(source, false);
+    }
+
+    /**
+     * Returns an Observable that emits the sample (Bessel-corrected) standard deviation of the Doubles emitted by the source Observable,
+     * computed in a single pass with Welford's numerically stable algorithm.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * A source with a single item results in NaN.
      * 
-     * @param valueExtractor
-     *            the function to extract a Double from each item emitted by the source Observable
-     * @return an Observable that emits the Double sum of the Double values corresponding to the items emitted
-     *         by the source Observable as transformed by the provided function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumDouble()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     * @param source
+     *            source Observable to compute the sample (Bessel-corrected) standard deviation of
+     * @return an Observable that emits a single item: the sample (Bessel-corrected) standard deviation of all the Doubles emitted by the
+     *         source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
      */
-    public final Observable<Double> sumDouble(Func1<? super T, Double> valueExtractor) {
-        return OperatorSum.sumAtLeastOneDoubles(o.map(valueExtractor));
+    public final static Observable<Double> sampleStdDevDouble(Observable<Double> source) {
+        return OperatorVariance.stdDevDoubles(source, true);
     }
 
     /**
-     * Returns an Observable that extracts a Float from each of the items emitted by the source Observable via
-     * a function you specify, and then emits the sum of these Floats.
+     * Returns an Observable that emits the count, mean and sum of squared deviations of the Doubles emitted by
+     * the source Observable, computed in a single pass with Welford's algorithm.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * The resulting {@link VarianceSummary} provides the population and sample variance, standard deviation and
+     * coefficient of variation, and summaries of separate shards can be combined with
+     * {@link VarianceSummary#merge(VarianceSummary)}. An empty source results in {@link VarianceSummary#EMPTY}.
      * 
-     * @param valueExtractor
-     *            the function to extract a Float from each item emitted by the source Observable
-     * @return an Observable that emits the Float sum of the Float values corresponding to the items emitted by
-     *         the source Observable as transformed by the provided function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumFloat()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     * @param source
+     *            source Observable to summarize
+     * @return an Observable that emits a single VarianceSummary of all the Doubles emitted by the source
+     *         Observable
      */
-    public final Observable<Float> sumFloat(Func1<? super T, Float> valueExtractor) {
-        return OperatorSum.sumAtLeastOneFloats(o.map(valueExtractor));
+    public final static Observable<VarianceSummary> varianceSummaryDouble(Observable<Double> source) {
+        return OperatorVariance.varianceSummaryDoubles(source);
     }
 
     /**
-     * Returns an Observable that extracts an Integer from each of the items emitted by the source Observable
-     * via a function you specify, and then emits the sum of these Integers.
+     * Returns an Observable that emits a {@link QuantileSketch} of the Doubles emitted by the source Observable,
+     * with the {@link QuantileSketch#DEFAULT_K default} accuracy.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * The sketch answers approximate quantile and rank queries in memory that grows only logarithmically with
+     * the number of items, and sketches of separate shards can be combined with
+     * {@link QuantileSketch#merge(QuantileSketch)}. NaN values are ignored.
      * 
-     * @param valueExtractor
-     *            the function to extract an Integer from each item emitted by the source Observable
-     * @return an Observable that emits the Integer sum of the Integer values corresponding to the items emitted
-     *         by the source Observable as transformed by the provided function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumInteger()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     * @param source
+     *            source Observable to sketch
+     * @return an Observable that emits a single QuantileSketch of all the Doubles emitted by the source
+     *         Observable
      */
-    public final Observable<Integer> sumInteger(Func1<? super T, Integer> valueExtractor) {
-        return OperatorSum.sumAtLeastOneIntegers(o.map(valueExtractor));
+    public final static Observable<QuantileSketch> quantileSketchDouble(Observable<Double> source) {
+        return OperatorQuantile.quantileSketchDoubles(source, QuantileSketch.DEFAULT_K);
     }
 
     /**
-     * Returns an Observable that extracts a Long from each of the items emitted by the source Observable via a
-     * function you specify, and then emits the sum of these Longs.
+     * Returns an Observable that emits a {@link QuantileSketch} of the Doubles emitted by the source Observable.
      * <p>
-     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * The rank error of the sketch shrinks roughly as {@code 1/k} while it retains about {@code 3k} items.
      * 
-     * @param valueExtractor
-     *            the function to extract a Long from each item emitted by the source Observable
-     * @return an Observable that emits the Long sum of the Long values corresponding to the items emitted by
-     *         the source Observable as transformed by the provided function
-     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumLong()</a>
-     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     * @param source
+     *            source Observable to sketch
+     * @param k
+     *            the accuracy parameter, at least {@link QuantileSketch#MIN_K}
+     * @return an Observable that emits a single QuantileSketch of all the Doubles emitted by the source
+     *         Observable
+     * @throws IllegalArgumentException
+     *             if {@code k} is less than {@link QuantileSketch#MIN_K}
      */
-    public final Observable<Long> sumLong(Func1<? super T, Long> valueExtractor) {
-        return OperatorSum.sumAtLeastOneLongs(o.map(valueExtractor));
+    public final static Observable<QuantileSketch> quantileSketchDouble(Observable<Double> source, int k) {
+        return OperatorQuantile.quantileSketchDoubles(source, k);
+    }
+
+    /**
+     * Returns an Observable that records the Longs emitted by the source Observable, such as latencies in
+     * nanoseconds, into a {@link LongHistogram} of fixed relative precision.
+     * <p>
+     * Recording is a constant-time increment of a primitive array slot. The histogram answers percentile, mean
+     * and maximum queries, and histograms of separate shards can be combined with
+     * {@link LongHistogram#merge(LongHistogram)}. A value that is negative or beyond the trackable range
+     * results in an {@code IllegalArgumentException}.
+     * 
+     * @param source
+     *            source Observable to record
+     * @param highestTrackableValue
+     *            the largest value that can be recorded, at least 2
+     * @param significantDigits
+     *            the number of significant decimal digits to keep, between 0 and
+     *            {@link LongHistogram#MAX_SIGNIFICANT_DIGITS}
+     * @return an Observable that emits a single LongHistogram of all the Longs emitted by the source
+     *         Observable
+     * @throws IllegalArgumentException
+     *             if {@code highestTrackableValue} or {@code significantDigits} is out of range
+     */
+    public final static Observable<LongHistogram> histogramLong(Observable<Long> source, long highestTrackableValue, int significantDigits) {
+        return OperatorHistogram.histogramLongs(source, highestTrackableValue, significantDigits);
+    }
+
+    /**
+     * Returns an Observable that emits a {@link HyperLogLog} estimate of the number of distinct Longs emitted by
+     * the source Observable, with the {@link HyperLogLog#DEFAULT_PRECISION default} precision.
+     * <p>
+     * Unlike {@code distinct().count()}, the estimator uses a fixed amount of memory regardless of the
+     * cardinality. Estimators of separate shards can be combined with {@link HyperLogLog#merge(HyperLogLog)}.
+     * 
+     * @param source
+     *            source Observable to count the distinct values of
+     * @return an Observable that emits a single HyperLogLog of all the Longs emitted by the source Observable
+     */
+    public final static Observable<HyperLogLog> distinctCountLong(Observable<Long> source) {
+        return OperatorDistinctCount.distinctCountLongs(source, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns an Observable that emits a {@link HyperLogLog} estimate of the number of distinct Longs emitted by
+     * the source Observable.
+     * <p>
+     * The estimator keeps {@code 2^precision} byte registers and has a relative standard error of about
+     * {@code 1.04 / sqrt(2^precision)}.
+     * 
+     * @param source
+     *            source Observable to count the distinct values of
+     * @param precision
+     *            the number of index bits, between {@link HyperLogLog#MIN_PRECISION} and
+     *            {@link HyperLogLog#MAX_PRECISION}
+     * @return an Observable that emits a single HyperLogLog of all the Longs emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code precision} is out of range
+     */
+    public final static Observable<HyperLogLog> distinctCountLong(Observable<Long> source, int precision) {
+        return OperatorDistinctCount.distinctCountLongs(source, precision);
+    }
+
+    /**
+     * Returns an Observable that emits a {@link HyperLogLog} estimate of the number of distinct items emitted by
+     * the source Observable, as told apart by their {@code hashCode()}, with the
+     * {@link HyperLogLog#DEFAULT_PRECISION default} precision.
+     * 
+     * @param source
+     *            source Observable to count the distinct items of
+     * @return an Observable that emits a single HyperLogLog of all the items emitted by the source Observable
+     */
+    public final static <T> Observable<HyperLogLog> distinctCount(Observable<T> source) {
+        return OperatorDistinctCount.distinctCount(source, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns an Observable that emits a {@link HyperLogLog} estimate of the number of distinct items emitted by
+     * the source Observable, as told apart by their {@code hashCode()}.
+     * 
+     * @param source
+     *            source Observable to count the distinct items of
+     * @param precision
+     *            the number of index bits, between {@link HyperLogLog#MIN_PRECISION} and
+     *            {@link HyperLogLog#MAX_PRECISION}
+     * @return an Observable that emits a single HyperLogLog of all the items emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code precision} is out of range
+     */
+    public final static <T> Observable<HyperLogLog> distinctCount(Observable<T> source, int precision) {
+        return OperatorDistinctCount.distinctCount(source, precision);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} largest items emitted by the source Observable,
+     * in descending order.
+     * <p>
+     * Only the {@code n} largest items seen so far are kept, in a bounded heap, so memory is proportional to
+     * {@code n} instead of the length of the source and each item costs {@code O(log n)} comparisons. Equal
+     * items keep their arrival order and the earlier ones are preferred. An empty source results in an empty
+     * list.
+     * 
+     * @param source
+     *            source Observable to select the items from
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final static <T extends Comparable<? super T>> Observable<List<T>> topK(Observable<T> source, int n) {
+        return OperatorTopK.topK(source, n);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} smallest items emitted by the source Observable,
+     * in ascending order.
+     * <p>
+     * Only the {@code n} smallest items seen so far are kept, in a bounded heap. Equal items keep their arrival
+     * order and the earlier ones are preferred. An empty source results in an empty list.
+     * 
+     * @param source
+     *            source Observable to select the items from
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final static <T extends Comparable<? super T>> Observable<List<T>> bottomK(Observable<T> source, int n) {
+        return OperatorTopK.bottomK(source, n);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum of the Integers emitted by the source Observable, compared as
+     * primitive ints without a Comparator.
+     * 
+     * @param source
+     *            source Observable to compute the minimum of
+     * @return an Observable that emits the minimum of all the Integers emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Integer> minInt(Observable<Integer> source) {
+        return OperatorMinMax.minIntegers(source);
+    }
+
+    /**
+     * Returns an Observable that emits the maximum of the Integers emitted by the source Observable, compared as
+     * primitive ints without a Comparator.
+     * 
+     * @param source
+     *            source Observable to compute the maximum of
+     * @return an Observable that emits the maximum of all the Integers emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Integer> maxInt(Observable<Integer> source) {
+        return OperatorMinMax.maxIntegers(source);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum of the Longs emitted by the source Observable, compared as
+     * primitive longs without a Comparator.
+     * 
+     * @param source
+     *            source Observable to compute the minimum of
+     * @return an Observable that emits the minimum of all the Longs emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Long> minLong(Observable<Long> source) {
+        return OperatorMinMax.minLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the maximum of the Longs emitted by the source Observable, compared as
+     * primitive longs without a Comparator.
+     * 
+     * @param source
+     *            source Observable to compute the maximum of
+     * @return an Observable that emits the maximum of all the Longs emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Long> maxLong(Observable<Long> source) {
+        return OperatorMinMax.maxLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum of the Doubles emitted by the source Observable, compared as
+     * primitive doubles without a Comparator.
+     * <p>
+     * Follows {@link Math#min(double, double)}: if any value is NaN the result is NaN, and -0.0 is
+     * considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to compute the minimum of
+     * @return an Observable that emits the minimum of all the Doubles emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Double> minDouble(Observable<Double> source) {
+        return OperatorMinMax.minDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits the maximum of the Doubles emitted by the source Observable, compared as
+     * primitive doubles without a Comparator.
+     * <p>
+     * Follows {@link Math#max(double, double)}: if any value is NaN the result is NaN, and -0.0 is
+     * considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to compute the maximum of
+     * @return an Observable that emits the maximum of all the Doubles emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<Double> maxDouble(Observable<Double> source) {
+        return OperatorMinMax.maxDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits both the minimum and the maximum item emitted by the source Observable,
+     * tracked in a single pass.
+     * <p>
+     * Items are compared in pairs, which takes 3 comparisons per 2 items instead of the 4 of separate
+     * {@link #min(Observable)} and {@link #max(Observable)} subscriptions. Among equal items the earliest one
+     * is kept.
+     * 
+     * @param source
+     *            source Observable to scan for the extremes
+     * @return an Observable that emits a single MinMax of the items emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static <T extends Comparable<? super T>> Observable<MinMax<T>> minMax(Observable<T> source) {
+        return OperatorMinMax.minMax(source);
+    }
+
+    /**
+     * Returns an Observable that emits both the minimum and the maximum of the Integers emitted by the source
+     * Observable, compared as primitive ints in pairs, 3 comparisons per 2 values.
+     * 
+     * @param source
+     *            source Observable to scan for the extremes
+     * @return an Observable that emits a single IntMinMax of the Integers emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IntMinMax> minMaxInt(Observable<Integer> source) {
+        return OperatorMinMax.minMaxIntegers(source);
+    }
+
+    /**
+     * Returns an Observable that emits both the minimum and the maximum of the Longs emitted by the source
+     * Observable, compared as primitive longs in pairs, 3 comparisons per 2 values.
+     * 
+     * @param source
+     *            source Observable to scan for the extremes
+     * @return an Observable that emits a single LongMinMax of the Longs emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<LongMinMax> minMaxLong(Observable<Long> source) {
+        return OperatorMinMax.minMaxLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits both the minimum and the maximum of the Doubles emitted by the source
+     * Observable, compared as primitive doubles in pairs, 3 comparisons per 2 values.
+     * <p>
+     * A NaN value makes both extremes NaN, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to scan for the extremes
+     * @return an Observable that emits a single DoubleMinMax of the Doubles emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<DoubleMinMax> minMaxDouble(Observable<Double> source) {
+        return OperatorMinMax.minMaxDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first minimum item emitted by the source Observable together with
+     * its zero-based position.
+     * <p>
+     * The position is counted in a primitive field, without pairing each item with its index.
+     * 
+     * @param source
+     *            source Observable to scan for the minimum
+     * @return an Observable that emits a single IndexedValue of the minimum item and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static <T extends Comparable<? super T>> Observable<IndexedValue<T>> argMin(Observable<T> source) {
+        return OperatorMinMax.argMin(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first maximum item emitted by the source Observable together with
+     * its zero-based position.
+     * <p>
+     * The position is counted in a primitive field, without pairing each item with its index.
+     * 
+     * @param source
+     *            source Observable to scan for the maximum
+     * @return an Observable that emits a single IndexedValue of the maximum item and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static <T extends Comparable<? super T>> Observable<IndexedValue<T>> argMax(Observable<T> source) {
+        return OperatorMinMax.argMax(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first minimum of the Integers emitted by the source Observable,
+     * compared as primitive ints, together with its zero-based position.
+     * 
+     * @param source
+     *            source Observable to scan for the minimum
+     * @return an Observable that emits a single IndexedValue of the minimum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Integer>> argMinInt(Observable<Integer> source) {
+        return OperatorMinMax.argMinIntegers(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first maximum of the Integers emitted by the source Observable,
+     * compared as primitive ints, together with its zero-based position.
+     * 
+     * @param source
+     *            source Observable to scan for the maximum
+     * @return an Observable that emits a single IndexedValue of the maximum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Integer>> argMaxInt(Observable<Integer> source) {
+        return OperatorMinMax.argMaxIntegers(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first minimum of the Longs emitted by the source Observable,
+     * compared as primitive longs, together with its zero-based position.
+     * 
+     * @param source
+     *            source Observable to scan for the minimum
+     * @return an Observable that emits a single IndexedValue of the minimum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Long>> argMinLong(Observable<Long> source) {
+        return OperatorMinMax.argMinLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first maximum of the Longs emitted by the source Observable,
+     * compared as primitive longs, together with its zero-based position.
+     * 
+     * @param source
+     *            source Observable to scan for the maximum
+     * @return an Observable that emits a single IndexedValue of the maximum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Long>> argMaxLong(Observable<Long> source) {
+        return OperatorMinMax.argMaxLongs(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first minimum of the Doubles emitted by the source Observable,
+     * compared as primitive doubles, together with its zero-based position.
+     * <p>
+     * The first NaN value wins over every other value, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to scan for the minimum
+     * @return an Observable that emits a single IndexedValue of the minimum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Double>> argMinDouble(Observable<Double> source) {
+        return OperatorMinMax.argMinDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits the first maximum of the Doubles emitted by the source Observable,
+     * compared as primitive doubles, together with its zero-based position.
+     * <p>
+     * The first NaN value wins over every other value, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to scan for the maximum
+     * @return an Observable that emits a single IndexedValue of the maximum and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final static Observable<IndexedValue<Double>> argMaxDouble(Observable<Double> source) {
+        return OperatorMinMax.argMaxDoubles(source);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the sum of the last
+     * {@code size} Doubles, or of all the Doubles so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The window is kept in a ring buffer with a running total, so each item costs O(1) instead of re-summing
+     * the window. To bound the drift of the running total, it is recomputed from the buffer once every
+     * {@code size} items.
+     * 
+     * @param source
+     *            source Observable to compute the rolling sum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> rollingSumDouble(Observable<Double> source, int size) {
+        return OperatorRolling.rollingSumDoubles(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the sum of the last
+     * {@code size} Doubles, recomputing the running total from the window once every {@code resumInterval}
+     * items.
+     * 
+     * @param source
+     *            source Observable to compute the rolling sum of
+     * @param size
+     *            the number of most recent items in the window
+     * @param resumInterval
+     *            the number of items between recomputations of the running total, zero to never recompute
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code resumInterval} is negative
+     */
+    public final static Observable<Double> rollingSumDouble(Observable<Double> source, int size, int resumInterval) {
+        return OperatorRolling.rollingSumDoubles(source, size, resumInterval);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the average of the
+     * last {@code size} Doubles, or of all the Doubles so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The window is kept in a ring buffer with a running total, so each item costs O(1) instead of re-averaging
+     * the window. To bound the drift of the running total, it is recomputed from the buffer once every
+     * {@code size} items.
+     * 
+     * @param source
+     *            source Observable to compute the rolling average of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling average for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> rollingAverageDouble(Observable<Double> source, int size) {
+        return OperatorRolling.rollingAverageDoubles(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the average of the
+     * last {@code size} Doubles, recomputing the running total from the window once every
+     * {@code resumInterval} items.
+     * 
+     * @param source
+     *            source Observable to compute the rolling average of
+     * @param size
+     *            the number of most recent items in the window
+     * @param resumInterval
+     *            the number of items between recomputations of the running total, zero to never recompute
+     * @return an Observable that emits the rolling average for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code resumInterval} is negative
+     */
+    public final static Observable<Double> rollingAverageDouble(Observable<Double> source, int size, int resumInterval) {
+        return OperatorRolling.rollingAverageDoubles(source, size, resumInterval);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Long emitted by the source Observable, the sum of the last
+     * {@code size} Longs, or of all the Longs so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The window is kept in a ring buffer with a running total, so each item costs O(1). Like
+     * {@link #sumLong(Observable)}, the sum wraps around on overflow.
+     * 
+     * @param source
+     *            source Observable to compute the rolling sum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Long> rollingSumLong(Observable<Long> source, int size) {
+        return OperatorRolling.rollingSumLongs(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each item emitted by the source Observable, the minimum of the last
+     * {@code size} items, or of all the items so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the minimum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents. Among equal items the latest one
+     * is emitted.
+     * 
+     * @param source
+     *            source Observable to compute the rolling minimum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static <T extends Comparable<? super T>> Observable<T> rollingMin(Observable<T> source, int size) {
+        return OperatorRolling.rollingMin(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each item emitted by the source Observable, the maximum of the last
+     * {@code size} items, or of all the items so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the maximum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents. Among equal items the latest one
+     * is emitted.
+     * 
+     * @param source
+     *            source Observable to compute the rolling maximum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static <T extends Comparable<? super T>> Observable<T> rollingMax(Observable<T> source, int size) {
+        return OperatorRolling.rollingMax(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Long emitted by the source Observable, the minimum of the last
+     * {@code size} Longs, or of all the Longs so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the minimum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents.
+     * 
+     * @param source
+     *            source Observable to compute the rolling minimum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Long> rollingMinLong(Observable<Long> source, int size) {
+        return OperatorRolling.rollingMinLongs(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Long emitted by the source Observable, the maximum of the last
+     * {@code size} Longs, or of all the Longs so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the maximum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents.
+     * 
+     * @param source
+     *            source Observable to compute the rolling maximum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Long> rollingMaxLong(Observable<Long> source, int size) {
+        return OperatorRolling.rollingMaxLongs(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the minimum of the last
+     * {@code size} Doubles, or of all the Doubles so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the minimum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents.
+     * A NaN is emitted while it is in the window, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to compute the rolling minimum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> rollingMinDouble(Observable<Double> source, int size) {
+        return OperatorRolling.rollingMinDoubles(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each Double emitted by the source Observable, the maximum of the last
+     * {@code size} Doubles, or of all the Doubles so far while fewer than {@code size} have been emitted.
+     * <p>
+     * The candidates for the maximum are kept in a monotonic deque, so each item costs amortized O(1) and the
+     * memory is bounded by {@code size} regardless of the window contents.
+     * A NaN is emitted while it is in the window, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param source
+     *            source Observable to compute the rolling maximum of
+     * @param size
+     *            the number of most recent items in the window
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> rollingMaxDouble(Observable<Double> source, int size) {
+        return OperatorRolling.rollingMaxDoubles(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the sum of each consecutive, non-overlapping window of {@code size}
+     * Doubles emitted by the source Observable, and of the remaining Doubles when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> sumDoubleEvery(Observable<Double> source, int size) {
+        return OperatorTumbling.sumDoublesEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the average of each consecutive, non-overlapping window of {@code size}
+     * Doubles emitted by the source Observable, and of the remaining Doubles when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Double> averageDoubleEvery(Observable<Double> source, int size) {
+        return OperatorTumbling.averageDoublesEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the sum of each consecutive, non-overlapping window of {@code size}
+     * Longs emitted by the source Observable, and of the remaining Longs when the source completes with a partial
+     * window. The sums wrap around on overflow.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<Long> sumLongEvery(Observable<Long> source, int size) {
+        return OperatorTumbling.sumLongsEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum and maximum of each consecutive, non-overlapping window of {@code size}
+     * Doubles emitted by the source Observable, and of the remaining Doubles when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<DoubleMinMax> minMaxDoubleEvery(Observable<Double> source, int size) {
+        return OperatorTumbling.minMaxDoublesEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum and maximum of each consecutive, non-overlapping window of {@code size}
+     * Longs emitted by the source Observable, and of the remaining Longs when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<LongMinMax> minMaxLongEvery(Observable<Long> source, int size) {
+        return OperatorTumbling.minMaxLongsEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of each consecutive, non-overlapping window of {@code size}
+     * Doubles emitted by the source Observable, and of the remaining Doubles when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<DoubleSummary> summarizeDoubleEvery(Observable<Double> source, int size) {
+        return OperatorTumbling.summarizeDoublesEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of each consecutive, non-overlapping window of {@code size}
+     * Longs emitted by the source Observable, and of the remaining Longs when the source completes with a partial
+     * window.
+     * <p>
+     * This is equivalent to applying the aggregate to each {@code buffer(size)}, but the accumulators are reset
+     * in place instead of allocating a List or an inner Observable per window. Each request for a window is
+     * turned into a request for {@code size} items from the source.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final static Observable<LongSummary> summarizeLongEvery(Observable<Long> source, int size) {
+        return OperatorTumbling.summarizeLongsEvery(source, size);
+    }
+
+    /**
+     * Returns an Observable that emits the number of items emitted by the source Observable in each consecutive
+     * period of {@code time}, including zero for periods without items, and the number of the remaining items
+     * when the source completes within a period.
+     * <p>
+     * Unlike {@code window(time, unit, scheduler)} followed by {@code count()}, no inner Observable is created
+     * per period. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a period closes before its count has been requested.
+     * 
+     * @param source
+     *            source Observable to count the items of
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the number of items in each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static <T> Observable<Long> countEvery(Observable<T> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.countEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the sum of the Doubles emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Doubles when the source completes within a
+     * period. Periods without items emit zero.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the sum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<Double> sumDoubleEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.sumDoublesEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the average of the Doubles emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Doubles when the source completes within a
+     * period. Periods without items are skipped.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<Double> averageDoubleEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.averageDoublesEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the sum of the Longs emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Longs when the source completes within a
+     * period. Periods without items emit zero and the sums wrap around on overflow.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the sum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<Long> sumLongEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.sumLongsEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum and maximum of the Doubles emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Doubles when the source completes within a
+     * period. Periods without items are skipped.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the minimum and maximum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<DoubleMinMax> minMaxDoubleEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.minMaxDoublesEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum and maximum of the Longs emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Longs when the source completes within a
+     * period. Periods without items are skipped.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the minimum and maximum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<LongMinMax> minMaxLongEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.minMaxLongsEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Doubles emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Doubles when the source completes within a
+     * period. Periods without items emit an empty summary.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<DoubleSummary> summarizeDoubleEvery(Observable<Double> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.summarizeDoublesEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Longs emitted by the source Observable in each
+     * consecutive period of {@code time}, and of the remaining Longs when the source completes within a
+     * period. Periods without items emit an empty summary.
+     * <p>
+     * The values are accumulated in place and the accumulators are reset when the scheduler closes a period,
+     * without locking and without creating an inner Observable per period. The source is consumed without
+     * backpressure; the sequence fails with a {@code MissingBackpressureException} if a period closes before
+     * its aggregate has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final static Observable<LongSummary> summarizeLongEvery(Observable<Long> source, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.summarizeLongsEvery(source, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the number of items emitted by the source
+     * Observable in the last {@code timespan}. While less than {@code timespan} has elapsed, the window starts
+     * at the subscription.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each item is counted once into the current pane and the
+     * counts of the last {@code timespan / timeshift} panes are combined on emission, instead of adding each
+     * item to every overlapping {@code window(timespan, timeshift, unit, scheduler)}. The source is consumed
+     * without backpressure; the sequence fails with a {@code MissingBackpressureException} if a window is
+     * due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to count the items of
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the number of items in each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static <T> Observable<Long> countEvery(Observable<T> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.countEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the sum of the Doubles emitted by the
+     * source Observable in the last {@code timespan}. Windows without items emit zero.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Double is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<Double> sumDoubleEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.sumDoublesEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the average of the Doubles emitted by the
+     * source Observable in the last {@code timespan}. Windows without items are skipped.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Double is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<Double> averageDoubleEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.averageDoublesEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the sum of the Longs emitted by the
+     * source Observable in the last {@code timespan}. Windows without items emit zero and the sums wrap around on overflow.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Long is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<Long> sumLongEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.sumLongsEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the minimum and maximum of the Doubles emitted by the
+     * source Observable in the last {@code timespan}. Windows without items are skipped.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Double is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<DoubleMinMax> minMaxDoubleEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.minMaxDoublesEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the minimum and maximum of the Longs emitted by the
+     * source Observable in the last {@code timespan}. Windows without items are skipped.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Long is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<LongMinMax> minMaxLongEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.minMaxLongsEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the count, sum, minimum, maximum and average of the Doubles emitted by the
+     * source Observable in the last {@code timespan}. Windows without items emit an empty summary.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Double is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<DoubleSummary> summarizeDoubleEvery(Observable<Double> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.summarizeDoublesEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits, every {@code timeshift}, the count, sum, minimum, maximum and average of the Longs emitted by the
+     * source Observable in the last {@code timespan}. Windows without items emit an empty summary.
+     * <p>
+     * Time is split into panes of {@code timeshift}, each Long is accumulated once into a primitive partial
+     * of the current pane and the partials of the last {@code timespan / timeshift} panes are combined on
+     * emission. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a window is due before it has been requested.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final static Observable<LongSummary> summarizeLongEvery(Observable<Long> source, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.summarizeLongsEvery(source, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Doubles emitted by the
+     * source Observable in each session, a session closing once no Double has been emitted for {@code gap}.
+     * Each session is emitted with the time of its first Double and the time of its last Double plus the gap.
+     * <p>
+     * Only the running aggregates of the open session are kept; each item records the scheduler's current
+     * time and a single timer per session checks for inactivity. The source is consumed without backpressure;
+     * the sequence fails with a {@code MissingBackpressureException} if a session closes before it has been
+     * requested. To aggregate sessions per key, apply this operator to each group of {@code groupBy}.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param gap
+     *            the period of inactivity after which a session closes, measured in whole milliseconds of at least one
+     * @param unit
+     *            the unit of {@code gap}
+     * @param scheduler
+     *            the scheduler that provides the time and closes the sessions
+     * @return an Observable that emits the summary of each session with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code gap} is not positive
+     */
+    public final static Observable<WindowedValue<DoubleSummary>> summarizeDoubleBySession(Observable<Double> source, long gap, TimeUnit unit, Scheduler scheduler) {
+        return OperatorSession.summarizeDoublesBySession(source, gap, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that emits the count, sum, minimum, maximum and average of the Longs emitted by the
+     * source Observable in each session, a session closing once no Long has been emitted for {@code gap}. The sums wrap around on overflow.
+     * Each session is emitted with the time of its first Long and the time of its last Long plus the gap.
+     * <p>
+     * Only the running aggregates of the open session are kept; each item records the scheduler's current
+     * time and a single timer per session checks for inactivity. The source is consumed without backpressure;
+     * the sequence fails with a {@code MissingBackpressureException} if a session closes before it has been
+     * requested. To aggregate sessions per key, apply this operator to each group of {@code groupBy}.
+     * 
+     * @param source
+     *            source Observable to aggregate
+     * @param gap
+     *            the period of inactivity after which a session closes, measured in whole milliseconds of at least one
+     * @param unit
+     *            the unit of {@code gap}
+     * @param scheduler
+     *            the scheduler that provides the time and closes the sessions
+     * @return an Observable that emits the summary of each session with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code gap} is not positive
+     */
+    public final static Observable<WindowedValue<LongSummary>> summarizeLongBySession(Observable<Long> source, long gap, TimeUnit unit, Scheduler scheduler) {
+        return OperatorSession.summarizeLongsBySession(source, gap, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that transforms items emitted by the source Observable into Doubles by using a
+     * function you provide and then emits the Double average of the complete sequence of transformed values.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to transform an item emitted by the source Observable into a Double
+     * @return an Observable that emits a single item: the Double average of the complete sequence of items
+     *         emitted by the source Observable when transformed into Doubles by the specified function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageDouble()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     */
+    public final Observable<Double> averageDouble(Func1<? super T, Double> valueExtractor) {
+        return OperatorAverage.averageDoubles(o, PrimitiveFunctions.<T> toDoubleFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that transforms items emitted by the source Observable into Floats by using a
+     * function you provide and then emits the Float average of the complete sequence of transformed values.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to transform an item emitted by the source Observable into a Float
+     * @return an Observable that emits a single item: the Float average of the complete sequence of items
+     *         emitted by the source Observable when transformed into Floats by the specified function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageFloat()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     */
+    public final Observable<Float> averageFloat(Func1<? super T, Float> valueExtractor) {
+        return OperatorAverage.averageFloats(o, PrimitiveFunctions.<T> toFloatFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that transforms items emitted by the source Observable into Integers by using a
+     * function you provide and then emits the Integer average of the complete sequence of transformed values.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to transform an item emitted by the source Observable into an Integer
+     * @return an Observable that emits a single item: the Integer average of the complete sequence of items
+     *         emitted by the source Observable when transformed into Integers by the specified function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageInteger()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     */
+    public final Observable<Integer> averageInteger(Func1<? super T, Integer> valueExtractor) {
+        return OperatorAverage.averageIntegers(o, PrimitiveFunctions.<T> toIntFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that transforms items emitted by the source Observable into Longs by using a
+     * function you provide and then emits the Long average of the complete sequence of transformed values.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to transform an item emitted by the source Observable into a Long
+     * @return an Observable that emits a single item: the Long average of the complete sequence of items
+     *         emitted by the source Observable when transformed into Longs by the specified function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-averageinteger-averagelong-averagefloat-and-averagedouble">RxJava Wiki: averageLong()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.average.aspx">MSDN: Observable.Average</a>
+     */
+    public final Observable<Long> averageLong(Func1<? super T, Long> valueExtractor) {
+        return OperatorAverage.averageLongs(o, PrimitiveFunctions.<T> toLongFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you provide and then emits the Double average of these values.
+     * <p>
+     * Unlike {@link #averageDouble(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the Double average of the complete sequence of items
+     *         emitted by the source Observable when transformed into doubles by the specified function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> averageDoubleOf(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorAverage.averageDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive float from each of the items emitted by the source
+     * Observable via a function you provide and then emits the Float average of these values.
+     * <p>
+     * Unlike {@link #averageFloat(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a float from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the Float average of the complete sequence of items
+     *         emitted by the source Observable when transformed into floats by the specified function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Float> averageFloatOf(ToFloatFunc1<? super T> valueExtractor) {
+        return OperatorAverage.averageFloats(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you provide and then emits the Integer average of these values.
+     * <p>
+     * Unlike {@link #averageInteger(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract an int from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the Integer average of the complete sequence of items
+     *         emitted by the source Observable when transformed into ints by the specified function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Integer> averageIntegerOf(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorAverage.averageIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you provide and then emits the Long average of these values.
+     * <p>
+     * Unlike {@link #averageLong(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/average.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the Long average of the complete sequence of items
+     *         emitted by the source Observable when transformed into longs by the specified function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Long> averageLongOf(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorAverage.averageLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you provide and then emits the Double average of these values, using
+     * compensated (Neumaier) summation.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the Double average of the complete sequence of items
+     *         emitted by the source Observable when transformed into doubles by the specified function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> averageDoubleCompensated(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorAverage.averageDoublesCompensated(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that emits the maximum item emitted by the source Observable, according to the
+     * specified comparator. If there is more than one item with the same maximum value, it emits the
+     * last-emitted of these.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/max.png" alt="">
+     * 
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits the maximum item emitted by the source Observable, according to the
+     *         specified comparator
+     * @throws IllegalArgumentException
+     *             if the source is empty
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-max">RxJava Wiki: max()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/hh211635.aspx">MSDN: Observable.Max</a>
+     */
+    public final Observable<T> max(Comparator<? super T> comparator) {
+        return OperatorMinMax.max(o, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits the minimum item emitted by the source Observable, according to a
+     * specified comparator. If there is more than one such item, it returns the last-emitted one.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/min.png" alt="">
+     * 
+     * @param comparator
+     *            the comparer used to compare elements
+     * @return an Observable that emits the minimum item emitted by the source Observable according to the
+     *         specified comparator
+     * @throws IllegalArgumentException
+     *             if the source is empty
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-min">RxJava Wiki: min()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/hh229095.aspx">MSDN: Observable.Min</a>
+     */
+    public final Observable<T> min(Comparator<? super T> comparator) {
+        return OperatorMinMax.min(o, comparator);
+    }
+
+    /**
+     * Returns an Observable that extracts a Double from each of the items emitted by the source Observable via
+     * a function you specify, and then emits the sum of these Doubles.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a Double from each item emitted by the source Observable
+     * @return an Observable that emits the Double sum of the Double values corresponding to the items emitted
+     *         by the source Observable as transformed by the provided function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumDouble()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     */
+    public final Observable<Double> sumDouble(Func1<? super T, Double> valueExtractor) {
+        return OperatorSum.sumAtLeastOneDoubles(o, PrimitiveFunctions.<T> toDoubleFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that extracts a Float from each of the items emitted by the source Observable via
+     * a function you specify, and then emits the sum of these Floats.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a Float from each item emitted by the source Observable
+     * @return an Observable that emits the Float sum of the Float values corresponding to the items emitted by
+     *         the source Observable as transformed by the provided function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumFloat()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     */
+    public final Observable<Float> sumFloat(Func1<? super T, Float> valueExtractor) {
+        return OperatorSum.sumAtLeastOneFloats(o, PrimitiveFunctions.<T> toFloatFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that extracts an Integer from each of the items emitted by the source Observable
+     * via a function you specify, and then emits the sum of these Integers.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract an Integer from each item emitted by the source Observable
+     * @return an Observable that emits the Integer sum of the Integer values corresponding to the items emitted
+     *         by the source Observable as transformed by the provided function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumInteger()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     */
+    public final Observable<Integer> sumInteger(Func1<? super T, Integer> valueExtractor) {
+        return OperatorSum.sumAtLeastOneIntegers(o, PrimitiveFunctions.<T> toIntFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that extracts a Long from each of the items emitted by the source Observable via a
+     * function you specify, and then emits the sum of these Longs.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a Long from each item emitted by the source Observable
+     * @return an Observable that emits the Long sum of the Long values corresponding to the items emitted by
+     *         the source Observable as transformed by the provided function
+     * @see <a href="https://github.com/ReactiveX/RxJava/wiki/Mathematical-and-Aggregate-Operators#wiki-suminteger-sumlong-sumfloat-and-sumdouble">RxJava Wiki: sumLong()</a>
+     * @see <a href="http://msdn.microsoft.com/en-us/library/system.reactive.linq.observable.sum.aspx">MSDN: Observable.Sum</a>
+     */
+    public final Observable<Long> sumLong(Func1<? super T, Long> valueExtractor) {
+        return OperatorSum.sumAtLeastOneLongs(o, PrimitiveFunctions.<T> toLongFunc(valueExtractor));
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values.
+     * <p>
+     * Unlike {@link #sumDouble(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the Double sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> sumDoubleOf(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive float from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values.
+     * <p>
+     * Unlike {@link #sumFloat(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a float from each item emitted by the source Observable
+     * @return an Observable that emits the Float sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Float> sumFloatOf(ToFloatFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneFloats(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values.
+     * <p>
+     * Unlike {@link #sumInteger(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract an int from each item emitted by the source Observable
+     * @return an Observable that emits the Integer sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Integer> sumIntegerOf(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values.
+     * <p>
+     * Unlike {@link #sumLong(Func1)}, the extracted values are not boxed.
+     * <p>
+     * <img width="640" src="https://raw.github.com/wiki/ReactiveX/RxJava/images/rx-operators/sum.f.png" alt="">
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits the Long sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Long> sumLongOf(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values computed with
+     * compensated (Neumaier) summation.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the Double sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> sumDoubleCompensated(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneDoublesCompensated(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive float from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of these values computed with
+     * compensated (Neumaier) summation in double precision.
+     * 
+     * @param valueExtractor
+     *            the function to extract a float from each item emitted by the source Observable
+     * @return an Observable that emits the Float sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Float> sumFloatCompensated(ToFloatFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneFloatsCompensated(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the exact sum of these values.
+     * <p>
+     * The sum is accumulated in a long as long as it fits and is promoted to a BigInteger only when an
+     * addition overflows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits the exact sum of the values extracted from the items emitted
+     *         by the source Observable by the provided function
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<BigInteger> sumLongExact(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorSum.sumAtLeastOneLongsExact(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average
+     * of these values, computed in a single pass.
+     * <p>
+     * An empty source results in a summary with a count of zero.
+     * 
+     * @param valueExtractor
+     *            the function to extract an int from each item emitted by the source Observable
+     * @return an Observable that emits a single IntSummary of the values extracted from the items
+     *         emitted by the source Observable
+     */
+    public final Observable<IntSummary> summarizeInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorSummary.summarizeIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average
+     * of these values, computed in a single pass.
+     * <p>
+     * An empty source results in a summary with a count of zero.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits a single LongSummary of the values extracted from the items
+     *         emitted by the source Observable
+     */
+    public final Observable<LongSummary> summarizeLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorSummary.summarizeLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average
+     * of these values, computed in a single pass.
+     * <p>
+     * An empty source results in a summary with a count of zero.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single DoubleSummary of the values extracted from the items
+     *         emitted by the source Observable
+     */
+    public final Observable<DoubleSummary> summarizeDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorSummary.summarizeDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the population variance of these values, computed in a
+     * single pass with Welford's numerically stable algorithm.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the population variance of the values extracted from the items
+     *         emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> varianceDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorVariance.varianceDoubles(o, valueExtractor, false);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sample (Bessel-corrected) variance of these values, computed in a
+     * single pass with Welford's numerically stable algorithm.
+     * <p>
+     * A source with a single item results in NaN.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the sample (Bessel-corrected) variance of the values extracted from the items
+     *         emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> sampleVarianceDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorVariance.varianceDoubles(o, valueExtractor, true);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the population standard deviation of these values, computed in a
+     * single pass with Welford's numerically stable algorithm.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the population standard deviation of the values extracted from the items
+     *         emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> stdDevDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorVariance.stdDevDoubles(o, valueExtractor, false);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sample (Bessel-corrected) standard deviation of these values, computed in a
+     * single pass with Welford's numerically stable algorithm.
+     * <p>
+     * A source with a single item results in NaN.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single item: the sample (Bessel-corrected) standard deviation of the values extracted from the items
+     *         emitted by the source Observable
+     * @throws IllegalArgumentException
+     *             if the source Observable emits no items
+     */
+    public final Observable<Double> sampleStdDevDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorVariance.stdDevDoubles(o, valueExtractor, true);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, mean and sum of squared deviations of
+     * these values, computed in a single pass with Welford's algorithm.
+     * <p>
+     * Summaries of separate shards can be combined with {@link VarianceSummary#merge(VarianceSummary)}. An
+     * empty source results in {@link VarianceSummary#EMPTY}.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single VarianceSummary of the values extracted from the items
+     *         emitted by the source Observable
+     */
+    public final Observable<VarianceSummary> varianceSummaryDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorVariance.varianceSummaryDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits a {@link QuantileSketch} of these values with the
+     * {@link QuantileSketch#DEFAULT_K default} accuracy.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single QuantileSketch of the values extracted from the items emitted
+     *         by the source Observable
+     */
+    public final Observable<QuantileSketch> quantileSketchDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorQuantile.quantileSketchDoubles(o, valueExtractor, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits a {@link QuantileSketch} of these values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param k
+     *            the accuracy parameter, at least {@link QuantileSketch#MIN_K}
+     * @return an Observable that emits a single QuantileSketch of the values extracted from the items emitted
+     *         by the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code k} is less than {@link QuantileSketch#MIN_K}
+     */
+    public final Observable<QuantileSketch> quantileSketchDouble(ToDoubleFunc1<? super T> valueExtractor, int k) {
+        return OperatorQuantile.quantileSketchDoubles(o, valueExtractor, k);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then records these values into a {@link LongHistogram} of
+     * fixed relative precision.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param highestTrackableValue
+     *            the largest value that can be recorded, at least 2
+     * @param significantDigits
+     *            the number of significant decimal digits to keep, between 0 and
+     *            {@link LongHistogram#MAX_SIGNIFICANT_DIGITS}
+     * @return an Observable that emits a single LongHistogram of the values extracted from the items emitted
+     *         by the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code highestTrackableValue} or {@code significantDigits} is out of range
+     */
+    public final Observable<LongHistogram> histogramLong(ToLongFunc1<? super T> valueExtractor, long highestTrackableValue, int significantDigits) {
+        return OperatorHistogram.histogramLongs(o, valueExtractor, highestTrackableValue, significantDigits);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long key from each of the items emitted by the source
+     * Observable via a function you specify, and then emits a {@link HyperLogLog} estimate of the number of
+     * distinct keys with the {@link HyperLogLog#DEFAULT_PRECISION default} precision.
+     * 
+     * @param keyExtractor
+     *            the function to extract a long key from each item emitted by the source Observable
+     * @return an Observable that emits a single HyperLogLog of the keys extracted from the items emitted by the
+     *         source Observable
+     */
+    public final Observable<HyperLogLog> distinctCountLong(ToLongFunc1<? super T> keyExtractor) {
+        return OperatorDistinctCount.distinctCountLongs(o, keyExtractor, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long key from each of the items emitted by the source
+     * Observable via a function you specify, and then emits a {@link HyperLogLog} estimate of the number of
+     * distinct keys.
+     * 
+     * @param keyExtractor
+     *            the function to extract a long key from each item emitted by the source Observable
+     * @param precision
+     *            the number of index bits, between {@link HyperLogLog#MIN_PRECISION} and
+     *            {@link HyperLogLog#MAX_PRECISION}
+     * @return an Observable that emits a single HyperLogLog of the keys extracted from the items emitted by the
+     *         source Observable
+     * @throws IllegalArgumentException
+     *             if {@code precision} is out of range
+     */
+    public final Observable<HyperLogLog> distinctCountLong(ToLongFunc1<? super T> keyExtractor, int precision) {
+        return OperatorDistinctCount.distinctCountLongs(o, keyExtractor, precision);
+    }
+
+    /**
+     * Returns an Observable that extracts a key from each of the items emitted by the source Observable via a
+     * function you specify, and then emits a {@link HyperLogLog} estimate of the number of distinct keys, as
+     * told apart by their {@code hashCode()}, with the {@link HyperLogLog#DEFAULT_PRECISION default} precision.
+     * 
+     * @param keyExtractor
+     *            the function to extract a key from each item emitted by the source Observable
+     * @return an Observable that emits a single HyperLogLog of the keys extracted from the items emitted by the
+     *         source Observable
+     */
+    public final Observable<HyperLogLog> distinctCount(Func1<? super T, ?> keyExtractor) {
+        return OperatorDistinctCount.distinctCount(o, keyExtractor, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns an Observable that extracts a key from each of the items emitted by the source Observable via a
+     * function you specify, and then emits a {@link HyperLogLog} estimate of the number of distinct keys, as
+     * told apart by their {@code hashCode()}.
+     * 
+     * @param keyExtractor
+     *            the function to extract a key from each item emitted by the source Observable
+     * @param precision
+     *            the number of index bits, between {@link HyperLogLog#MIN_PRECISION} and
+     *            {@link HyperLogLog#MAX_PRECISION}
+     * @return an Observable that emits a single HyperLogLog of the keys extracted from the items emitted by the
+     *         source Observable
+     * @throws IllegalArgumentException
+     *             if {@code precision} is out of range
+     */
+    public final Observable<HyperLogLog> distinctCount(Func1<? super T, ?> keyExtractor, int precision) {
+        return OperatorDistinctCount.distinctCount(o, keyExtractor, precision);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} largest items emitted by the source Observable,
+     * according to the specified comparator, in descending order.
+     * <p>
+     * Only the {@code n} largest items seen so far are kept, in a bounded heap, so memory is proportional to
+     * {@code n} instead of the length of the source. An empty source results in an empty list.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final Observable<List<T>> topK(int n, Comparator<? super T> comparator) {
+        return OperatorTopK.topK(o, n, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} smallest items emitted by the source Observable,
+     * according to the specified comparator, in ascending order.
+     * <p>
+     * Only the {@code n} smallest items seen so far are kept, in a bounded heap. An empty source results in an
+     * empty list.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final Observable<List<T>> bottomK(int n, Comparator<? super T> comparator) {
+        return OperatorTopK.bottomK(o, n, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} items emitted by the source Observable with the
+     * largest keys, in descending key order.
+     * <p>
+     * The key selector is called once per item and its result is kept with the item. Only the {@code n} items
+     * with the largest keys seen so far are kept, in a bounded heap. Items with equal keys keep their arrival
+     * order and the earlier ones are preferred. An empty source results in an empty list.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param selector
+     *            the function to extract the key of each item
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final <R extends Comparable<? super R>> Observable<List<T>> topKBy(int n, Func1<? super T, ? extends R> selector) {
+        return OperatorTopK.topKBy(o, n, selector);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} items emitted by the source Observable with the
+     * largest keys according to the specified comparator, in descending key order.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param selector
+     *            the function to extract the key of each item
+     * @param comparator
+     *            the comparer used to compare keys
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final <R> Observable<List<T>> topKBy(int n, Func1<? super T, ? extends R> selector, Comparator<? super R> comparator) {
+        return OperatorTopK.topKBy(o, n, selector, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} items emitted by the source Observable with the
+     * smallest keys, in ascending key order.
+     * <p>
+     * The key selector is called once per item and its result is kept with the item. Items with equal keys
+     * keep their arrival order and the earlier ones are preferred. An empty source results in an empty list.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param selector
+     *            the function to extract the key of each item
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final <R extends Comparable<? super R>> Observable<List<T>> bottomKBy(int n, Func1<? super T, ? extends R> selector) {
+        return OperatorTopK.bottomKBy(o, n, selector);
+    }
+
+    /**
+     * Returns an Observable that emits a list of the {@code n} items emitted by the source Observable with the
+     * smallest keys according to the specified comparator, in ascending key order.
+     * 
+     * @param n
+     *            the maximum number of items to emit in the list
+     * @param selector
+     *            the function to extract the key of each item
+     * @param comparator
+     *            the comparer used to compare keys
+     * @return an Observable that emits a single list of at most {@code n} items
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public final <R> Observable<List<T>> bottomKBy(int n, Func1<? super T, ? extends R> selector, Comparator<? super R> comparator) {
+        return OperatorTopK.bottomKBy(o, n, selector, comparator);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum of these values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a int from each item emitted by the source Observable
+     * @return an Observable that emits the minimum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Integer> minInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the maximum of these values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a int from each item emitted by the source Observable
+     * @return an Observable that emits the maximum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Integer> maxInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.maxIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum of these values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits the minimum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Long> minLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the maximum of these values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits the maximum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Long> maxLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.maxLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum of these values.
+     * <p>
+     * Follows {@link Math#min(double, double)}: if any value is NaN the result is NaN, and -0.0 is
+     * considered smaller than 0.0.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the minimum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Double> minDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the maximum of these values.
+     * <p>
+     * Follows {@link Math#max(double, double)}: if any value is NaN the result is NaN, and -0.0 is
+     * considered smaller than 0.0.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the maximum of the values extracted from the items emitted by the
+     *         source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<Double> maxDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.maxDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that emits both the minimum and the maximum item emitted by the source Observable,
+     * according to the specified comparator, tracked in a single pass.
+     * <p>
+     * Items are compared in pairs, which takes 3 comparisons per 2 items. Among equal items the earliest one
+     * is kept.
+     * 
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits a single MinMax of the items emitted by the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<MinMax<T>> minMax(Comparator<? super T> comparator) {
+        return OperatorMinMax.minMax(o, comparator);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits both the minimum and the maximum of these values,
+     * compared in pairs, 3 comparisons per 2 values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a int from each item emitted by the source Observable
+     * @return an Observable that emits a single IntMinMax of the values extracted from the items emitted by
+     *         the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IntMinMax> minMaxInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minMaxIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits both the minimum and the maximum of these values,
+     * compared in pairs, 3 comparisons per 2 values.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits a single LongMinMax of the values extracted from the items emitted by
+     *         the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<LongMinMax> minMaxLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minMaxLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits both the minimum and the maximum of these values,
+     * compared in pairs, 3 comparisons per 2 values.
+     * <p>
+     * A NaN value makes both extremes NaN, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single DoubleMinMax of the values extracted from the items emitted by
+     *         the source Observable
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<DoubleMinMax> minMaxDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.minMaxDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that emits the first minimum item emitted by the source Observable, according to
+     * the specified comparator, together with its zero-based position.
+     * 
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits a single IndexedValue of the minimum item and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMin(Comparator<? super T> comparator) {
+        return OperatorMinMax.argMin(o, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits the first maximum item emitted by the source Observable, according to
+     * the specified comparator, together with its zero-based position.
+     * 
+     * @param comparator
+     *            the comparer used to compare items
+     * @return an Observable that emits a single IndexedValue of the maximum item and its position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMax(Comparator<? super T> comparator) {
+        return OperatorMinMax.argMax(o, comparator);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the minimum value together
+     * with its zero-based position.
+     * 
+     * @param valueExtractor
+     *            the function to extract a int from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the minimum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMinInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMinIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive int from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the maximum value together
+     * with its zero-based position.
+     * 
+     * @param valueExtractor
+     *            the function to extract a int from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the maximum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMaxInt(ToIntFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMaxIntegers(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the minimum value together
+     * with its zero-based position.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the minimum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMinLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMinLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the maximum value together
+     * with its zero-based position.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the maximum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMaxLong(ToLongFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMaxLongs(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the minimum value together
+     * with its zero-based position.
+     * <p>
+     * The first NaN value wins over every other value, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the minimum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMinDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMinDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the first item with the maximum value together
+     * with its zero-based position.
+     * <p>
+     * The first NaN value wins over every other value, and -0.0 is considered smaller than 0.0.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits a single IndexedValue of the item with the maximum value and its
+     *         position
+     * @throws NoSuchElementException
+     *             if the source is empty
+     */
+    public final Observable<IndexedValue<T>> argMaxDouble(ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorMinMax.argMaxDoubles(o, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the sum of the last {@code size}
+     * values, recomputing the running total from the window once every {@code size} items.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> rollingSumDouble(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingSumDoubles(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the sum of the last {@code size}
+     * values, recomputing the running total from the window once every {@code resumInterval} items.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @param resumInterval
+     *            the number of items between recomputations of the running total, zero to never recompute
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code resumInterval} is negative
+     */
+    public final Observable<Double> rollingSumDouble(ToDoubleFunc1<? super T> valueExtractor, int size, int resumInterval) {
+        return OperatorRolling.rollingSumDoubles(o, valueExtractor, size, resumInterval);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the average of the last
+     * {@code size} values, recomputing the running total from the window once every {@code size} items.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling average for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> rollingAverageDouble(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingAverageDoubles(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the average of the last
+     * {@code size} values, recomputing the running total from the window once every {@code resumInterval}
+     * items.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @param resumInterval
+     *            the number of items between recomputations of the running total, zero to never recompute
+     * @return an Observable that emits the rolling average for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code resumInterval} is negative
+     */
+    public final Observable<Double> rollingAverageDouble(ToDoubleFunc1<? super T> valueExtractor, int size, int resumInterval) {
+        return OperatorRolling.rollingAverageDoubles(o, valueExtractor, size, resumInterval);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the sum of the last {@code size}
+     * values. The sum wraps around on overflow.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling sum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Long> rollingSumLong(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingSumLongs(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that emits, for each item emitted by the source Observable, the minimum of the last
+     * {@code size} items according to the specified comparator, keeping the candidates in a monotonic deque.
+     * Among equal items the latest one is emitted.
+     * 
+     * @param size
+     *            the number of most recent items in the window
+     * @param comparator
+     *            the comparer used to compare elements
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<T> rollingMin(int size, Comparator<? super T> comparator) {
+        return OperatorRolling.rollingMin(o, size, comparator);
+    }
+
+    /**
+     * Returns an Observable that emits, for each item emitted by the source Observable, the maximum of the last
+     * {@code size} items according to the specified comparator, keeping the candidates in a monotonic deque.
+     * Among equal items the latest one is emitted.
+     * 
+     * @param size
+     *            the number of most recent items in the window
+     * @param comparator
+     *            the comparer used to compare elements
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<T> rollingMax(int size, Comparator<? super T> comparator) {
+        return OperatorRolling.rollingMax(o, size, comparator);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the minimum of the last
+     * {@code size} values, keeping the candidates in a monotonic deque over primitive arrays.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Long> rollingMinLong(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingMinLongs(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the maximum of the last
+     * {@code size} values, keeping the candidates in a monotonic deque over primitive arrays.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Long> rollingMaxLong(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingMaxLongs(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the minimum of the last
+     * {@code size} values, keeping the candidates in a monotonic deque over primitive arrays.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling minimum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> rollingMinDouble(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingMinDoubles(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits for each item the maximum of the last
+     * {@code size} values, keeping the candidates in a monotonic deque over primitive arrays.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of most recent values in the window
+     * @return an Observable that emits the rolling maximum for each item of the source Observable
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> rollingMaxDouble(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorRolling.rollingMaxDoubles(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> sumDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.sumDoublesEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the average of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Double> averageDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.averageDoublesEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows. The sums wrap around on overflow.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<Long> sumLongEvery(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.sumLongsEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum and maximum of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<DoubleMinMax> minMaxDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.minMaxDoublesEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum and maximum of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<LongMinMax> minMaxLongEvery(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.minMaxLongsEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<DoubleSummary> summarizeDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.summarizeDoublesEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of each consecutive, non-overlapping
+     * window of {@code size} values, resetting the accumulators in place between windows.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<LongSummary> summarizeLongEvery(ToLongFunc1<? super T> valueExtractor, int size) {
+        return OperatorTumbling.summarizeLongsEvery(o, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items emit zero.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the sum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<Double> sumDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.sumDoublesEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the average of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<Double> averageDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.averageDoublesEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the sum of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items emit zero and the sums wrap around on overflow.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the sum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<Long> sumLongEvery(ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.sumLongsEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum and maximum of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the minimum and maximum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<DoubleMinMax> minMaxDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.minMaxDoublesEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the minimum and maximum of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the minimum and maximum of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<LongMinMax> minMaxLongEvery(ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.minMaxLongsEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items emit an empty summary.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<DoubleSummary> summarizeDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.summarizeDoublesEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of the values in each consecutive
+     * period of {@code time}, resetting the accumulators in place when the scheduler closes a period. Periods without items emit an empty summary.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<LongSummary> summarizeLongEvery(ToLongFunc1<? super T> valueExtractor, long time, TimeUnit unit, Scheduler scheduler) {
+        return OperatorTumbling.summarizeLongsEvery(o, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the sum of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items emit zero.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<Double> sumDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.sumDoublesEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the average of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<Double> averageDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.averageDoublesEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the sum of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items emit zero and the sums wrap around on overflow.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the sum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<Long> sumLongEvery(ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.sumLongsEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the minimum and maximum of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<DoubleMinMax> minMaxDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.minMaxDoublesEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the minimum and maximum of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items are skipped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the minimum and maximum of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<LongMinMax> minMaxLongEvery(ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.minMaxLongsEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the count, sum, minimum, maximum and average of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items emit an empty summary.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<DoubleSummary> summarizeDoubleEvery(ToDoubleFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.summarizeDoublesEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits, every {@code timeshift}, the count, sum, minimum, maximum and average of the
+     * values in the last {@code timespan}, combining one partial per {@code timeshift} pane. Windows without items emit an empty summary.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timespan
+     *            the length of each window, a multiple of {@code timeshift}
+     * @param timeshift
+     *            the period after which a new window is emitted
+     * @param unit
+     *            the unit of {@code timespan} and {@code timeshift}
+     * @param scheduler
+     *            the scheduler that closes the panes
+     * @return an Observable that emits the count, sum, minimum, maximum and average of each window
+     * @throws IllegalArgumentException
+     *             if {@code timeshift} is not positive or {@code timespan} is not a positive multiple of it
+     */
+    public final Observable<LongSummary> summarizeLongEvery(ToLongFunc1<? super T> valueExtractor, long timespan, long timeshift, TimeUnit unit, Scheduler scheduler) {
+        return OperatorHopping.summarizeLongsEvery(o, valueExtractor, timespan, timeshift, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each consecutive, non-overlapping window of {@code size}.
+     * <p>
+     * A window is emitted once the watermark, the largest timestamp seen minus {@code allowedLateness},
+     * reaches its end, so items arriving out of order by up to {@code allowedLateness} are still counted.
+     * Later items are dropped. Windows without items are not emitted, and the open windows are emitted when
+     * the source completes. The timestamps, {@code size} and {@code allowedLateness} share the same unit.
+     * <p>
+     * Each item is accumulated once into a primitive partial, and at most {@code allowedLateness / size + 2}
+     * windows are kept open. The source is consumed without backpressure; the
+     * sequence fails with a {@code MissingBackpressureException} if a window closes before it has been
+     * requested.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<DoubleSummary>> summarizeDoubleByEventTime(ToDoubleFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long allowedLateness) {
+        return OperatorEventTime.summarizeDoublesByEventTime(o, valueExtractor, timestampExtractor, size, allowedLateness);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each window of {@code size} starting every {@code slide}.
+     * <p>
+     * Time is split into panes of {@code slide} so that each item is accumulated once, and a window is
+     * emitted once the largest timestamp seen minus {@code allowedLateness} reaches its end. Items older than
+     * every open window are dropped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window, a multiple of {@code slide}
+     * @param slide
+     *            the distance between the starts of consecutive windows
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code slide} is not positive, {@code size} is not a positive multiple of it or
+     *             {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<DoubleSummary>> summarizeDoubleByEventTime(ToDoubleFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness) {
+        return OperatorEventTime.summarizeDoublesByEventTime(o, valueExtractor, timestampExtractor, size, slide, allowedLateness);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each window of {@code size} starting every {@code slide}, handing
+     * the items older than every open window to {@code onLate}.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window, a multiple of {@code slide}
+     * @param slide
+     *            the distance between the starts of consecutive windows
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @param onLate
+     *            called with each item that arrives after all of its windows have been emitted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code slide} is not positive, {@code size} is not a positive multiple of it or
+     *             {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<DoubleSummary>> summarizeDoubleByEventTime(ToDoubleFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        return OperatorEventTime.summarizeDoublesByEventTime(o, valueExtractor, timestampExtractor, size, slide, allowedLateness, onLate);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each consecutive, non-overlapping window of {@code size}. The sums wrap around on overflow.
+     * <p>
+     * A window is emitted once the watermark, the largest timestamp seen minus {@code allowedLateness},
+     * reaches its end, so items arriving out of order by up to {@code allowedLateness} are still counted.
+     * Later items are dropped. Windows without items are not emitted, and the open windows are emitted when
+     * the source completes. The timestamps, {@code size} and {@code allowedLateness} share the same unit.
+     * <p>
+     * Each item is accumulated once into a primitive partial, and at most {@code allowedLateness / size + 2}
+     * windows are kept open. The source is consumed without backpressure; the
+     * sequence fails with a {@code MissingBackpressureException} if a window closes before it has been
+     * requested.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive or {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<LongSummary>> summarizeLongByEventTime(ToLongFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long allowedLateness) {
+        return OperatorEventTime.summarizeLongsByEventTime(o, valueExtractor, timestampExtractor, size, allowedLateness);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each window of {@code size} starting every {@code slide}.
+     * <p>
+     * Time is split into panes of {@code slide} so that each item is accumulated once, and a window is
+     * emitted once the largest timestamp seen minus {@code allowedLateness} reaches its end. Items older than
+     * every open window are dropped.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window, a multiple of {@code slide}
+     * @param slide
+     *            the distance between the starts of consecutive windows
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code slide} is not positive, {@code size} is not a positive multiple of it or
+     *             {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<LongSummary>> summarizeLongByEventTime(ToLongFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness) {
+        return OperatorEventTime.summarizeLongsByEventTime(o, valueExtractor, timestampExtractor, size, slide, allowedLateness);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long and a timestamp from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of
+     * the values whose timestamps fall into each window of {@code size} starting every {@code slide}, handing
+     * the items older than every open window to {@code onLate}.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param timestampExtractor
+     *            the function to extract the event time from each item emitted by the source Observable
+     * @param size
+     *            the length of each window, a multiple of {@code slide}
+     * @param slide
+     *            the distance between the starts of consecutive windows
+     * @param allowedLateness
+     *            how far behind the largest timestamp seen an item may be and still be counted
+     * @param onLate
+     *            called with each item that arrives after all of its windows have been emitted
+     * @return an Observable that emits the summary of each window with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code slide} is not positive, {@code size} is not a positive multiple of it or
+     *             {@code allowedLateness} is negative
+     */
+    public final Observable<WindowedValue<LongSummary>> summarizeLongByEventTime(ToLongFunc1<? super T> valueExtractor, ToLongFunc1<? super T> timestampExtractor,
+            long size, long slide, long allowedLateness, Action1<? super T> onLate) {
+        return OperatorEventTime.summarizeLongsByEventTime(o, valueExtractor, timestampExtractor, size, slide, allowedLateness, onLate);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive double from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of
+     * the values in each session, a session closing once no item has been emitted for {@code gap}.
+     * 
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param gap
+     *            the period of inactivity after which a session closes, measured in whole milliseconds of at least one
+     * @param unit
+     *            the unit of {@code gap}
+     * @param scheduler
+     *            the scheduler that provides the time and closes the sessions
+     * @return an Observable that emits the summary of each session with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code gap} is not positive
+     */
+    public final Observable<WindowedValue<DoubleSummary>> summarizeDoubleBySession(ToDoubleFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        return OperatorSession.summarizeDoublesBySession(o, valueExtractor, gap, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a primitive long from each of the items emitted by the source
+     * Observable via a function you specify, and then emits the count, sum, minimum, maximum and average of
+     * the values in each session, a session closing once no item has been emitted for {@code gap}. The sums wrap around on overflow.
+     * 
+     * @param valueExtractor
+     *            the function to extract a long from each item emitted by the source Observable
+     * @param gap
+     *            the period of inactivity after which a session closes, measured in whole milliseconds of at least one
+     * @param unit
+     *            the unit of {@code gap}
+     * @param scheduler
+     *            the scheduler that provides the time and closes the sessions
+     * @return an Observable that emits the summary of each session with its bounds
+     * @throws IllegalArgumentException
+     *             if {@code gap} is not positive
+     */
+    public final Observable<WindowedValue<LongSummary>> summarizeLongBySession(ToLongFunc1<? super T> valueExtractor, long gap, TimeUnit unit, Scheduler scheduler) {
+        return OperatorSession.summarizeLongsBySession(o, valueExtractor, gap, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key when the source completes.
+     * <p>
+     * All the per-key accumulators live in one compact open-addressing hash table, so unlike
+     * {@code groupBy(key).flatMap(...)} no group, subscriber or boxed accumulator is created per key. The table
+     * is emitted as is and is empty for an empty source.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive long key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the per-key summaries of the source Observable
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByLongKey(ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorByKey.summarizeDoublesByLongKey(o, keyExtractor, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key when the source completes. The int keys are kept in the table for long keys.
+     * <p>
+     * All the per-key accumulators live in one compact open-addressing hash table, so unlike
+     * {@code groupBy(key).flatMap(...)} no group, subscriber or boxed accumulator is created per key. The table
+     * is emitted as is and is empty for an empty source.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive int key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the per-key summaries of the source Observable
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByIntKey(ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorByKey.summarizeDoublesByIntKey(o, keyExtractor, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key when the source completes.
+     * <p>
+     * All the per-key accumulators live in one compact open-addressing hash table, so unlike
+     * {@code groupBy(key).flatMap(...)} no group, subscriber or boxed accumulator is created per key. The table
+     * is emitted as is and is empty for an empty source.
+     * 
+     * @param <K>
+     *            the key type
+     * @param keySelector
+     *            the function to select the key of each item emitted by the source Observable, compared with {@code equals}
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @return an Observable that emits the per-key summaries of the source Observable
+     */
+    public final <K> Observable<KeyedSummaries<K>> summarizeDoubleByKey(Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor) {
+        return OperatorByKey.summarizeDoublesByKey(o, keySelector, valueExtractor);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive, non-overlapping window of {@code size} items, and for the remaining
+     * items when the source completes with a partial window.
+     * <p>
+     * Each window is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive long key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the per-key summaries of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByLongKeyEvery(ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorByKey.summarizeDoublesByLongKeyEvery(o, keyExtractor, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive, non-overlapping window of {@code size} items, and for the remaining
+     * items when the source completes with a partial window.
+     * <p>
+     * Each window is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive int key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the per-key summaries of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByIntKeyEvery(ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorByKey.summarizeDoublesByIntKeyEvery(o, keyExtractor, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive, non-overlapping window of {@code size} items, and for the remaining
+     * items when the source completes with a partial window.
+     * <p>
+     * Each window is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys.
+     * 
+     * @param <K>
+     *            the key type
+     * @param keySelector
+     *            the function to select the key of each item emitted by the source Observable, compared with {@code equals}
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param size
+     *            the number of items in each window
+     * @return an Observable that emits the per-key summaries of each window
+     * @throws IllegalArgumentException
+     *             if {@code size} is not positive
+     */
+    public final <K> Observable<KeyedSummaries<K>> summarizeDoubleByKeyEvery(Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor, int size) {
+        return OperatorByKey.summarizeDoublesByKeyEvery(o, keySelector, valueExtractor, size);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive period of {@code time}, and for the remaining items when the source
+     * completes within a period. Periods without items emit an empty table.
+     * <p>
+     * Each period is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a period closes before its table has been requested.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive long key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the per-key summaries of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByLongKeyEvery(ToLongFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit,
+            Scheduler scheduler) {
+        return OperatorByKey.summarizeDoublesByLongKeyEvery(o, keyExtractor, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive period of {@code time}, and for the remaining items when the source
+     * completes within a period. Periods without items emit an empty table.
+     * <p>
+     * Each period is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a period closes before its table has been requested.
+     * 
+     * @param keyExtractor
+     *            the function to extract a primitive int key from each item emitted by the source Observable
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the per-key summaries of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final Observable<LongKeyedSummaries> summarizeDoubleByIntKeyEvery(ToIntFunc1<? super T> keyExtractor, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit,
+            Scheduler scheduler) {
+        return OperatorByKey.summarizeDoublesByIntKeyEvery(o, keyExtractor, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that extracts a key and a primitive double from each of the items emitted by the
+     * source Observable via functions you specify, and emits the count, sum, minimum, maximum and average of the
+     * values per key for each consecutive period of {@code time}, and for the remaining items when the source
+     * completes within a period. Periods without items emit an empty table.
+     * <p>
+     * Each period is accumulated into one compact hash table, which is emitted and replaced by a fresh table
+     * sized for as many keys. The source is consumed without backpressure; the sequence fails with a
+     * {@code MissingBackpressureException} if a period closes before its table has been requested.
+     * 
+     * @param <K>
+     *            the key type
+     * @param keySelector
+     *            the function to select the key of each item emitted by the source Observable, compared with {@code equals}
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param time
+     *            the length of each period
+     * @param unit
+     *            the unit of {@code time}
+     * @param scheduler
+     *            the scheduler that closes the periods
+     * @return an Observable that emits the per-key summaries of each period
+     * @throws IllegalArgumentException
+     *             if {@code time} is not positive
+     */
+    public final <K> Observable<KeyedSummaries<K>> summarizeDoubleByKeyEvery(Func1<? super T, ? extends K> keySelector, ToDoubleFunc1<? super T> valueExtractor, long time, TimeUnit unit,
+            Scheduler scheduler) {
+        return OperatorByKey.summarizeDoublesByKeyEvery(o, keySelector, valueExtractor, time, unit, scheduler);
+    }
+
+    /**
+     * Returns an Observable that keeps the running count, sum, minimum, maximum and average of the primitive
+     * doubles extracted from the items emitted by the source Observable per key, and emits the final summary of
+     * a key when it is evicted. Once {@code maxKeys} keys are live, a new key evicts the least recently updated
+     * one; the keys still live when the source completes are emitted before the completion, least recently
+     * updated first.
+     * <p>
+     * The source is consumed without backpressure; the sequence fails with a {@code MissingBackpressureException}
+     * if a key is evicted before its summary has been requested.
+     * 
+     * @param <K>
+     *            the key type
+     * @param keySelector
+     *            the function to select the key of each item emitted by the source Observable, compared with {@code equals}
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param maxKeys
+     *            the maximum number of live keys
+     * @return an Observable that emits the summary of each evicted key
+     * @throws IllegalArgumentException
+     *             if {@code maxKeys} is not positive
+     */
+    public final <K> Observable<KeyedValue<K, DoubleSummary>> summarizeDoubleByKeyEvicting(Func1<? super T, ? extends K> keySelector,
+            ToDoubleFunc1<? super T> valueExtractor, int maxKeys) {
+        return OperatorByKey.summarizeDoublesByKeyEvicting(o, keySelector, valueExtractor, maxKeys);
+    }
+
+    /**
+     * Returns an Observable that keeps the running count, sum, minimum, maximum and average of the primitive
+     * doubles extracted from the items emitted by the source Observable per key, and emits the final summary of
+     * a key when it is evicted. A key is evicted once it has not been updated for {@code ttl}, or, once
+     * {@code maxKeys} keys are live, when a new key arrives and it is the least recently updated one; the keys
+     * still live when the source completes are emitted before the completion, least recently updated first.
+     * <p>
+     * The memory held is bounded by {@code maxKeys}, and keys that stop reporting are released after the ttl,
+     * so the operator suits infinite streams keyed by, for example, connection ids. A single timer is pending
+     * for the least recently updated key at any time. The source is consumed without backpressure; the
+     * sequence fails with a {@code MissingBackpressureException} if a key is evicted before its summary has
+     * been requested.
+     * 
+     * @param <K>
+     *            the key type
+     * @param keySelector
+     *            the function to select the key of each item emitted by the source Observable, compared with {@code equals}
+     * @param valueExtractor
+     *            the function to extract a double from each item emitted by the source Observable
+     * @param maxKeys
+     *            the maximum number of live keys
+     * @param ttl
+     *            the time after its last update a key is evicted
+     * @param unit
+     *            the unit of {@code ttl}
+     * @param scheduler
+     *            the scheduler that provides the current time and runs the eviction timer
+     * @return an Observable that emits the summary of each evicted key
+     * @throws IllegalArgumentException
+     *             if {@code maxKeys} or {@code ttl} is not positive
+     */
+    public final <K> Observable<KeyedValue<K, DoubleSummary>> summarizeDoubleByKeyEvicting(Func1<? super T, ? extends K> keySelector,
+            ToDoubleFunc1<? super T> valueExtractor, int maxKeys, long ttl, TimeUnit unit, Scheduler scheduler) {
+        return OperatorByKey.summarizeDoublesByKeyEvicting(o, keySelector, valueExtractor, maxKeys, ttl, unit, scheduler);
     }
 }
@@ -15,6 +15,7 @@
  */
 package rx.math.operators;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Matchers.anyFloat;
@@ -26,12 +27,20 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import rx.Observable;
 import rx.Observer;
+import rx.functions.Action1;
 import rx.functions.Func1;
+import rx.math.functions.*;
 import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
 import static rx.observables.MathObservable.*;
 
 public class OperatorAverageTest {
@@ -356,7 +365,225 @@ public class OperatorAverageTest {
 
         testThrows(o, CustomException.class);
     }
+    @Test
+    public void testIntegerAveragePrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "aa", "c");
+        ToIntFunc1<String> length = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Integer> result = MathObservable.from(source).averageIntegerOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 1);
+    }
+
+    @Test
+    public void testLongAveragePrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "aa", "c");
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Long> result = MathObservable.from(source).averageLongOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 1L);
+    }
+
+    @Test
+    public void testFloatAveragePrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "aa", "c");
+        ToFloatFunc1<String> length = new ToFloatFunc1<String>() {
+            @Override
+            public float call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Float> result = MathObservable.from(source).averageFloatOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 1.5f);
+    }
+
+    @Test
+    public void testDoubleAveragePrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "aa", "c");
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Double> result = MathObservable.from(source).averageDoubleOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 1.5d);
+    }
+
+    @Test
+    public void testDoubleAveragePrimitiveSelectorEmpty() {
+        Observable<String> source = Observable.empty();
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Double> result = MathObservable.from(source).averageDoubleOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, IllegalArgumentException.class);
+    }
+    @Test
+    public void testAverageEmittedOnlyWhenRequested() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>(0);
+
+        averageDouble(Observable.just(1.0d, 2.0d, 3.0d)).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertNoTerminalEvent();
+
+        ts.requestMore(1);
+
+        ts.assertValue(2.0d);
+        ts.assertCompleted();
+        ts.assertNoErrors();
+    }
+
+    @Test
+    public void testAverageRequestsUnboundedFromUpstream() {
+        final List<Long> requests = new ArrayList<Long>();
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>(1);
+
+        averageInteger(Observable.range(1, 1000).doOnRequest(new Action1<Long>() {
+            @Override
+            public void call(Long n) {
+                requests.add(n);
+            }
+        })).subscribe(ts);
+
+        assertEquals(Arrays.asList(Long.MAX_VALUE), requests);
+        ts.assertValue(500);
+        ts.assertCompleted();
+    }
+    @Test
+    public void testCompensatedAverageOfDoubles() {
+        Observable<Double> src = Observable.just(1e16, 3.0d, -1e16, 1.0d);
+        averageDoubleCompensated(src).subscribe(wd);
+
+        verify(wd, times(1)).onNext(anyDouble());
+        verify(wd).onNext(1.0d);
+        verify(wd, never()).onError(any(Throwable.class));
+        verify(wd, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testCompensatedEmptyAverageDoubles() {
+        Observable<Double> src = Observable.empty();
+        averageDoubleCompensated(src).subscribe(wd);
+
+        verify(wd, never()).onNext(anyDouble());
+        verify(wd, times(1)).onError(isA(IllegalArgumentException.class));
+        verify(wd, never()).onCompleted();
+    }
+
+    @Test
+    public void testFloatAverageKeepsPrecision() {
+        TestSubscriber<Float> ts = new TestSubscriber<Float>();
+        averageFloat(Observable.just(16777216f, 1f, 1f, 1f, 1f)).subscribe(ts);
+
+        ts.assertValue(3355444f);
+    }
+    @Test
+    public void testIntegerAverageDoesNotOverflow() {
+        averageInteger(Observable.just(Integer.MAX_VALUE, Integer.MAX_VALUE - 2)).subscribe(w);
+
+        verify(w).onNext(Integer.MAX_VALUE - 1);
+        verify(w, never()).onError(any(Throwable.class));
+        verify(w, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testLongAverageDoesNotOverflow() {
+        averageLong(Observable.just(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE - 3)).subscribe(wl);
+
+        verify(wl).onNext(Long.MAX_VALUE - 1);
+        verify(wl, never()).onError(any(Throwable.class));
+        verify(wl, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testLongAverageNegativeTruncatesTowardZero() {
+        averageLong(Observable.just(Long.MIN_VALUE, Long.MIN_VALUE, -1L)).subscribe(wl);
+
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        long expected = min.add(min).subtract(BigInteger.ONE).divide(BigInteger.valueOf(3)).longValue();
+        verify(wl).onNext(expected);
+        verify(wl, times(1)).onCompleted();
+    }
     
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedLiftOperators() {
+        Func1<String, Double> d = new Func1<String, Double>() {
+            @Override
+            public Double call(String t1) {
+                return (double) t1.length();
+            }
+        };
+        Func1<String, Float> f = new Func1<String, Float>() {
+            @Override
+            public Float call(String t1) {
+                return (float) t1.length();
+            }
+        };
+        Func1<String, Integer> i = new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return t1.length();
+            }
+        };
+        Func1<String, Long> l = new Func1<String, Long>() {
+            @Override
+            public Long call(String t1) {
+                return (long) t1.length();
+            }
+        };
+        Observable<String> source = Observable.just("a", "bb", "ccc");
+
+        assertEquals(2d, source.lift(new OperatorAverageDouble<String>(d)).toBlocking().single(), 0d);
+        assertEquals(2f, source.lift(new OperatorAverageFloat<String>(f)).toBlocking().single(), 0f);
+        assertEquals(2, source.lift(new OperatorAverageInteger<String>(i)).toBlocking().single().intValue());
+        assertEquals(2L, source.lift(new OperatorAverageLong<String>(l)).toBlocking().single().longValue());
+
+        TestSubscriber<Double> ts = new TestSubscriber<Double>(0L);
+        source.lift(new OperatorAverageDouble<String>(d)).subscribe(ts);
+        ts.assertNoValues();
+        ts.requestMore(1);
+        ts.assertValue(2d);
+        ts.assertCompleted();
+    }
+
     static class CustomException extends RuntimeException {
         private static final long serialVersionUID = 6873927510089089979L;
     }
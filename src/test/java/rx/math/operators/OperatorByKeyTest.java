@@ -0,0 +1,531 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorByKey.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.exceptions.MissingBackpressureException;
+import rx.functions.Func1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+import rx.plugins.*;
+import rx.schedulers.*;
+import rx.subjects.PublishSubject;
+
+public class OperatorByKeyTest {
+
+    static final ToLongFunc1<long[]> KEY = new ToLongFunc1<long[]>() {
+        @Override
+        public long call(long[] t1) {
+            return t1[0];
+        }
+    };
+
+    static final ToDoubleFunc1<long[]> VALUE = new ToDoubleFunc1<long[]>() {
+        @Override
+        public double call(long[] t1) {
+            return t1[1];
+        }
+    };
+
+    static final ToDoubleFunc1<String> LENGTH = new ToDoubleFunc1<String>() {
+        @Override
+        public double call(String t1) {
+            return t1.length();
+        }
+    };
+
+    static final Func1<String, Character> FIRST = new Func1<String, Character>() {
+        @Override
+        public Character call(String t1) {
+            return t1.isEmpty() ? null : t1.charAt(0);
+        }
+    };
+
+    static long[] pair(long key, long value) {
+        return new long[] { key, value };
+    }
+
+    @Test
+    public void testMatchesHashMapOverManyKeys() {
+        Random random = new Random(7);
+        List<long[]> items = new ArrayList<long[]>();
+        Map<Long, List<Long>> expected = new HashMap<Long, List<Long>>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(3000) * 0x100000000L - 1500;
+            long value = random.nextInt(1000) - 500;
+            items.add(pair(key, value));
+            List<Long> values = expected.get(key);
+            if (values == null) {
+                values = new ArrayList<Long>();
+                expected.put(key, values);
+            }
+            values.add(value);
+        }
+
+        LongKeyedSummaries table = summarizeDoublesByLongKey(Observable.from(items), KEY, VALUE).toBlocking().single();
+
+        assertEquals(expected.size(), table.size());
+        for (Map.Entry<Long, List<Long>> e : expected.entrySet()) {
+            int i = table.indexOf(e.getKey());
+            assertTrue(i >= 0);
+            assertEquals(e.getKey().longValue(), table.getKey(i));
+            List<Long> values = e.getValue();
+            assertEquals(values.size(), table.getCount(i));
+            long sum = 0L;
+            for (Long v : values) {
+                sum += v;
+            }
+            assertEquals(sum, table.getSum(i), 0d);
+            assertEquals(Collections.min(values), table.getMin(i), 0d);
+            assertEquals(Collections.max(values), table.getMax(i), 0d);
+            assertEquals((double) sum / values.size(), table.getAverage(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testKeysInFirstSeenOrder() {
+        LongKeyedSummaries table = summarizeDoublesByLongKey(Observable.just(pair(5, 1), pair(-2, 4), pair(5, 3), pair(0, -1)), KEY, VALUE)
+                .toBlocking().single();
+
+        assertEquals(3, table.size());
+        assertEquals(5L, table.getKey(0));
+        assertEquals(-2L, table.getKey(1));
+        assertEquals(0L, table.getKey(2));
+        assertEquals(2L, table.getCount(0));
+        assertEquals(2d, table.get(5L).getAverage(), 0d);
+        assertEquals(-1, table.indexOf(7L));
+        assertNull(table.get(7L));
+    }
+
+    @Test
+    public void testEmptySource() {
+        LongKeyedSummaries table = summarizeDoublesByLongKey(Observable.<long[]> empty(), KEY, VALUE).toBlocking().single();
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void testObjectKeysWithNull() {
+        TestSubscriber<KeyedSummaries<Character>> ts = new TestSubscriber<KeyedSummaries<Character>>();
+        MathObservable.from(Observable.just("apple", "", "avocado", "banana", "")).summarizeDoubleByKey(FIRST, LENGTH).subscribe(ts);
+
+        ts.assertValueCount(1);
+        ts.assertCompleted();
+        KeyedSummaries<Character> table = ts.getOnNextEvents().get(0);
+        assertEquals(3, table.size());
+        assertEquals(2L, table.get('a').getCount());
+        assertEquals(12d, table.get('a').getSum(), 0d);
+        assertEquals(7d, table.get('a').getMax(), 0d);
+        assertEquals(2L, table.get(null).getCount());
+        assertNull(table.get('c'));
+    }
+
+    @Test
+    public void testIntKeys() {
+        LongKeyedSummaries table = MathObservable.from(Observable.just("a", "bb", "cc", "ddd"))
+                .summarizeDoubleByIntKey(new ToIntFunc1<String>() {
+                    @Override
+                    public int call(String t1) {
+                        return t1.length();
+                    }
+                }, LENGTH).toBlocking().single();
+
+        assertEquals(3, table.size());
+        assertEquals(4d, table.get(2L).getSum(), 0d);
+    }
+
+    @Test
+    public void testEachKeyKindHasItsOwnName() {
+        TestScheduler scheduler = new TestScheduler();
+        MathObservable<String> source = MathObservable.from(Observable.just("a", "bb", "cc"));
+        ToLongFunc1<String> longKey = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        };
+        ToIntFunc1<String> intKey = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                return t1.length();
+            }
+        };
+        Func1<String, Integer> key = new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return t1.length();
+            }
+        };
+
+        assertEquals(2, source.summarizeDoubleByLongKey(longKey, LENGTH).toBlocking().single().size());
+        assertEquals(2, source.summarizeDoubleByIntKey(intKey, LENGTH).toBlocking().single().size());
+        assertEquals(2, source.summarizeDoubleByKey(key, LENGTH).toBlocking().single().size());
+        assertEquals(2, source.summarizeDoubleByLongKeyEvery(longKey, LENGTH, 2).toList().toBlocking().single().size());
+        assertEquals(2, source.summarizeDoubleByIntKeyEvery(intKey, LENGTH, 2).toList().toBlocking().single().size());
+        assertEquals(2, source.summarizeDoubleByKeyEvery(key, LENGTH, 2).toList().toBlocking().single().size());
+        assertEquals(1, source.summarizeDoubleByLongKeyEvery(longKey, LENGTH, 1, TimeUnit.SECONDS, scheduler).toList().toBlocking().single().size());
+        assertEquals(1, source.summarizeDoubleByIntKeyEvery(intKey, LENGTH, 1, TimeUnit.SECONDS, scheduler).toList().toBlocking().single().size());
+        assertEquals(1, source.summarizeDoubleByKeyEvery(key, LENGTH, 1, TimeUnit.SECONDS, scheduler).toList().toBlocking().single().size());
+    }
+
+    /**
+     * Two same-arity overloads that take unrelated functional interfaces at the
+     * same position trigger javac's [overloads] warning and are ambiguous for
+     * lambda callers.
+     */
+    @Test
+    public void testNoAmbiguousFunctionalOverloads() {
+        for (Class<?> c : new Class<?>[] { OperatorByKey.class, MathObservable.class }) {
+            Method[] methods = c.getDeclaredMethods();
+            for (int i = 0; i < methods.length; i++) {
+                for (int j = i + 1; j < methods.length; j++) {
+                    Method a = methods[i];
+                    Method b = methods[j];
+                    if (!Modifier.isPublic(a.getModifiers()) || !Modifier.isPublic(b.getModifiers())
+                            || !a.getName().equals(b.getName()) || a.getParameterTypes().length != b.getParameterTypes().length) {
+                        continue;
+                    }
+                    Class<?>[] pa = a.getParameterTypes();
+                    Class<?>[] pb = b.getParameterTypes();
+                    for (int k = 0; k < pa.length; k++) {
+                        boolean ambiguous = pa[k] != pb[k] && pa[k].isInterface() && pb[k].isInterface()
+                                && !pa[k].isAssignableFrom(pb[k]) && !pb[k].isAssignableFrom(pa[k]);
+                        assertFalse(c.getSimpleName() + "." + a.getName() + " overloads " + pa[k].getSimpleName()
+                                + " and " + pb[k].getSimpleName(), ambiguous);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMergeShards() {
+        LongKeyedSummaries a = summarizeDoublesByLongKey(Observable.just(pair(1, 1), pair(2, 10)), KEY, VALUE).toBlocking().single();
+        LongKeyedSummaries b = summarizeDoublesByLongKey(Observable.just(pair(2, -4), pair(3, 7)), KEY, VALUE).toBlocking().single();
+
+        LongKeyedSummaries m = a.merge(b);
+        assertEquals(3, m.size());
+        assertEquals(2L, m.get(2L).getCount());
+        assertEquals(6d, m.get(2L).getSum(), 0d);
+        assertEquals(-4d, m.get(2L).getMin(), 0d);
+        assertEquals(7d, m.get(3L).getMax(), 0d);
+        assertEquals(2, a.size());
+    }
+
+    @Test
+    public void testSumsAreCompensated() {
+        KeyedSummaries<String> a = new KeyedSummaries<String>();
+        LongKeyedSummaries b = new LongKeyedSummaries();
+        a.add("x", 1e16);
+        b.add(1L, 1e16);
+        for (int i = 0; i < 10; i++) {
+            a.add("x", 1d);
+            b.add(1L, 1d);
+        }
+        KeyedSummaries<String> c = new KeyedSummaries<String>();
+        c.add("x", -1e16);
+        LongKeyedSummaries d = new LongKeyedSummaries();
+        d.add(1L, -1e16);
+
+        assertEquals(1e16 + 10d, a.getSum(0), 0d);
+        assertEquals(10d, a.merge(c).get("x").getSum(), 0d);
+        assertEquals(10d, b.merge(d).getSum(0), 0d);
+        assertEquals(10d, c.merge(a).getSum(0), 0d);
+
+        b.add(2L, Double.MAX_VALUE);
+        b.add(2L, Double.MAX_VALUE);
+        assertEquals(Double.POSITIVE_INFINITY, b.getSum(1), 0d);
+    }
+
+    @Test
+    public void testCountWindows() {
+        TestSubscriber<LongKeyedSummaries> ts = new TestSubscriber<LongKeyedSummaries>();
+        summarizeDoublesByLongKeyEvery(Observable.just(pair(1, 1), pair(2, 2), pair(1, 3), pair(3, 4), pair(3, 5)), KEY, VALUE, 2).subscribe(ts);
+
+        List<LongKeyedSummaries> list = ts.getOnNextEvents();
+        assertEquals(3, list.size());
+        assertEquals(2, list.get(0).size());
+        assertEquals(1d, list.get(0).get(1L).getSum(), 0d);
+        assertEquals(2, list.get(1).size());
+        assertEquals(3d, list.get(1).get(1L).getSum(), 0d);
+        assertEquals(1, list.get(2).size());
+        assertEquals(5d, list.get(2).get(3L).getSum(), 0d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testTimeWindows() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        TestSubscriber<KeyedSummaries<Character>> ts = new TestSubscriber<KeyedSummaries<Character>>();
+        MathObservable.from(ps).summarizeDoubleByKeyEvery(FIRST, LENGTH, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("ab");
+        ps.onNext("ac");
+        ps.onNext("b");
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValueCount(1);
+        assertEquals(2L, ts.getOnNextEvents().get(0).get('a').getCount());
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValueCount(2);
+        assertTrue(ts.getOnNextEvents().get(1).isEmpty());
+
+        ps.onNext("ccc");
+        ps.onCompleted();
+        ts.assertValueCount(3);
+        assertEquals(3d, ts.getOnNextEvents().get(2).get('c').getSum(), 0d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testKeySelectorThrows() {
+        TestSubscriber<KeyedSummaries<Object>> ts = new TestSubscriber<KeyedSummaries<Object>>();
+        PublishSubject<String> ps = PublishSubject.create();
+        summarizeDoublesByKey(ps, new Func1<String, Object>() {
+            @Override
+            public Object call(String t1) {
+                throw new IllegalStateException();
+            }
+        }, LENGTH).subscribe(ts);
+
+        ps.onNext("a");
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        summarizeDoublesByLongKeyEvery(Observable.<long[]> empty(), KEY, VALUE, 0);
+    }
+
+    static final Func1<long[], Long> BOXED_KEY = new Func1<long[], Long>() {
+        @Override
+        public Long call(long[] t1) {
+            return t1[0];
+        }
+    };
+
+    @Test
+    public void testEvictLeastRecentlyUpdatedKey() {
+        TestSubscriber<KeyedValue<Long, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Long, DoubleSummary>>();
+        PublishSubject<long[]> ps = PublishSubject.create();
+        summarizeDoublesByKeyEvicting(ps, BOXED_KEY, VALUE, 2).subscribe(ts);
+
+        ps.onNext(pair(1, 1));
+        ps.onNext(pair(2, 2));
+        ps.onNext(pair(1, 3));
+        ts.assertNoValues();
+
+        ps.onNext(pair(3, 4));
+        ts.assertValueCount(1);
+        assertEquals(2L, ts.getOnNextEvents().get(0).getKey().longValue());
+        assertEquals(2d, ts.getOnNextEvents().get(0).getValue().getSum(), 0d);
+
+        ps.onNext(pair(2, 5));
+        ts.assertValueCount(2);
+        KeyedValue<Long, DoubleSummary> evicted = ts.getOnNextEvents().get(1);
+        assertEquals(1L, evicted.getKey().longValue());
+        assertEquals(2L, evicted.getValue().getCount());
+        assertEquals(4d, evicted.getValue().getSum(), 0d);
+
+        ps.onCompleted();
+        List<KeyedValue<Long, DoubleSummary>> list = ts.getOnNextEvents();
+        assertEquals(4, list.size());
+        assertEquals(3L, list.get(2).getKey().longValue());
+        assertEquals(2L, list.get(3).getKey().longValue());
+        assertEquals(5d, list.get(3).getValue().getSum(), 0d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testEvictIdleKeys() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        TestSubscriber<KeyedValue<Character, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Character, DoubleSummary>>();
+        MathObservable.from(ps).summarizeDoubleByKeyEvicting(FIRST, LENGTH, 100, 10, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("ab");
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+        ps.onNext("b");
+        scheduler.advanceTimeBy(4, TimeUnit.SECONDS);
+        ps.onNext("abc");
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+        ts.assertNoValues();
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValueCount(1);
+        assertEquals(Character.valueOf('b'), ts.getOnNextEvents().get(0).getKey());
+
+        scheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+        ts.assertValueCount(1);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValueCount(2);
+        KeyedValue<Character, DoubleSummary> a = ts.getOnNextEvents().get(1);
+        assertEquals(Character.valueOf('a'), a.getKey());
+        assertEquals(2L, a.getValue().getCount());
+        assertEquals(5d, a.getValue().getSum(), 0d);
+
+        ps.onNext("a");
+        ps.onCompleted();
+        ts.assertValueCount(3);
+        assertEquals(1d, ts.getOnNextEvents().get(2).getValue().getSum(), 0d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testEvictingKeepsEveryValue() {
+        Random random = new Random(11);
+        List<long[]> items = new ArrayList<long[]>();
+        long total = 0L;
+        for (int i = 0; i < 10000; i++) {
+            long v = random.nextInt(100);
+            items.add(pair(random.nextInt(500), v));
+            total += v;
+        }
+
+        List<KeyedValue<Long, DoubleSummary>> list = summarizeDoublesByKeyEvicting(Observable.from(items), BOXED_KEY, VALUE, 64)
+                .toList().toBlocking().single();
+
+        long count = 0L;
+        double sum = 0d;
+        for (KeyedValue<Long, DoubleSummary> e : list) {
+            count += e.getValue().getCount();
+            sum += e.getValue().getSum();
+        }
+        assertEquals(items.size(), count);
+        assertEquals(total, sum, 0d);
+    }
+
+    @Test
+    public void testConcurrentEvictionKeepsEveryValue() {
+        final int n = 200000;
+        Observable<long[]> source = Observable.range(0, n).map(new Func1<Integer, long[]>() {
+            @Override
+            public long[] call(Integer t) {
+                if (t % 50000 == 0) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }
+                return pair(t % 1000, 1);
+            }
+        }).subscribeOn(Schedulers.newThread());
+        TestSubscriber<KeyedValue<Long, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Long, DoubleSummary>>();
+        summarizeDoublesByKeyEvicting(source, BOXED_KEY, VALUE, 100, 1, TimeUnit.MILLISECONDS, Schedulers.computation()).subscribe(ts);
+
+        ts.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        ts.assertCompleted();
+        long total = 0L;
+        for (KeyedValue<Long, DoubleSummary> e : ts.getOnNextEvents()) {
+            total += e.getValue().getCount();
+        }
+        assertEquals(n, total);
+    }
+
+    @Test
+    public void testEvictingMissingBackpressure() {
+        TestSubscriber<KeyedValue<Long, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Long, DoubleSummary>>(0L);
+        PublishSubject<long[]> ps = PublishSubject.create();
+        summarizeDoublesByKeyEvicting(ps, BOXED_KEY, VALUE, 1).subscribe(ts);
+
+        ps.onNext(pair(1, 1));
+        ps.onNext(pair(2, 1));
+        ts.assertError(MissingBackpressureException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test
+    public void testEvictingSumIsCompensated() {
+        List<Double> values = new ArrayList<Double>();
+        values.add(1e16);
+        for (int i = 0; i < 10; i++) {
+            values.add(1d);
+        }
+        values.add(-1e16);
+        TestSubscriber<KeyedValue<Integer, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Integer, DoubleSummary>>();
+        summarizeDoublesByKeyEvicting(Observable.from(values), new Func1<Double, Integer>() {
+            @Override
+            public Integer call(Double t1) {
+                return 0;
+            }
+        }, Unboxing.DOUBLE, 1).subscribe(ts);
+
+        ts.assertCompleted();
+        assertEquals(10d, ts.getOnNextEvents().get(0).getValue().getSum(), 0d);
+    }
+
+    @Test
+    public void testEvictingErrorAfterFailureGoesToPlugins() {
+        final List<Throwable> handled = new ArrayList<Throwable>();
+        RxJavaPlugins.getInstance().reset();
+        RxJavaPlugins.getInstance().registerErrorHandler(new RxJavaErrorHandler() {
+            @Override
+            public void handleError(Throwable e) {
+                handled.add(e);
+            }
+        });
+        try {
+            final RuntimeException late = new RuntimeException("late");
+            Observable<long[]> source = Observable.create(new OnSubscribe<long[]>() {
+                @Override
+                public void call(Subscriber<? super long[]> t) {
+                    t.onNext(new long[] { 1L, 1L });
+                    t.onError(late);
+                }
+            });
+            TestSubscriber<KeyedValue<Long, DoubleSummary>> ts = new TestSubscriber<KeyedValue<Long, DoubleSummary>>();
+            summarizeDoublesByKeyEvicting(source, new Func1<long[], Long>() {
+                @Override
+                public Long call(long[] t1) {
+                    throw new IllegalStateException();
+                }
+            }, VALUE, 1).subscribe(ts);
+
+            ts.assertError(IllegalStateException.class);
+            assertTrue(handled.contains(late));
+        } finally {
+            RxJavaPlugins.getInstance().reset();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxKeys() {
+        summarizeDoublesByKeyEvicting(Observable.<long[]> empty(), BOXED_KEY, VALUE, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTtl() {
+        summarizeDoublesByKeyEvicting(Observable.<long[]> empty(), BOXED_KEY, VALUE, 1, 0, TimeUnit.SECONDS, Schedulers.immediate());
+    }
+}
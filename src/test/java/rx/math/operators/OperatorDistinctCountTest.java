@@ -0,0 +1,136 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.HyperLogLog;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorDistinctCountTest {
+
+    /** Each of the {@code count} distinct values repeated {@code repeat} times. */
+    static Observable<Long> longs(final long start, final int count, int repeat) {
+        return Observable.range(0, count * repeat).map(new Func1<Integer, Long>() {
+            @Override
+            public Long call(Integer t) {
+                return start + t % count;
+            }
+        });
+    }
+
+    @Test
+    public void testEmpty() {
+        HyperLogLog h = MathObservable.distinctCountLong(Observable.<Long>empty()).toBlocking().single();
+
+        assertEquals(0L, h.getEstimate());
+        assertTrue(h.isSparse());
+    }
+
+    @Test
+    public void testSmallCardinalityIsSparseAndNearlyExact() {
+        HyperLogLog h = MathObservable.distinctCountLong(longs(0L, 1000, 3)).toBlocking().single();
+
+        assertTrue(h.isSparse());
+        assertEquals(1000d, h.getEstimate(), 2d);
+    }
+
+    @Test
+    public void testLargeCardinalityWithinError() {
+        for (int n : new int[] { 5000, 50000, 1000000 }) {
+            HyperLogLog h = MathObservable.distinctCountLong(longs(12345L, n, 1), 12).toBlocking().single();
+
+            assertFalse(h.isSparse());
+            // 1.04 / sqrt(4096) is about 1.6%, allow three standard errors
+            assertEquals("n = " + n, n, h.getEstimate(), n * 0.05d);
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        HyperLogLog a = MathObservable.distinctCountLong(longs(0L, 60000, 1)).toBlocking().single();
+        HyperLogLog b = MathObservable.distinctCountLong(longs(40000L, 60000, 1)).toBlocking().single();
+        HyperLogLog c = MathObservable.distinctCountLong(longs(0L, 100, 1)).toBlocking().single();
+
+        assertEquals(100000d, a.merge(b).getEstimate(), 100000 * 0.03d);
+        assertEquals(60000d, c.merge(a).getEstimate(), 60000 * 0.03d);
+        assertEquals(a.getEstimate(), a.merge(c).getEstimate());
+        assertTrue(c.isSparse());
+    }
+
+    @Test
+    public void testMergeSparseMatchesSinglePass() {
+        HyperLogLog a = MathObservable.distinctCountLong(longs(0L, 500, 1)).toBlocking().single();
+        HyperLogLog b = MathObservable.distinctCountLong(longs(250L, 500, 1)).toBlocking().single();
+        HyperLogLog all = MathObservable.distinctCountLong(longs(0L, 750, 1)).toBlocking().single();
+
+        assertEquals(all.getEstimate(), a.merge(b).getEstimate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeDifferentPrecision() {
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() {
+        MathObservable.distinctCountLong(Observable.just(1L), 3);
+    }
+
+    @Test
+    public void testDistinctCountByHashCode() {
+        HyperLogLog h = MathObservable.distinctCount(Observable.just("a", "b", "a", "c", "b")).toBlocking().single();
+
+        assertEquals(3L, h.getEstimate());
+    }
+
+    @Test
+    public void testKeySelector() {
+        Func1<String, Integer> length = new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return t1.length();
+            }
+        };
+
+        HyperLogLog h = MathObservable.from(Observable.just("a", "bb", "cc", "ddd")).distinctCount(length).toBlocking().single();
+
+        assertEquals(3L, h.getEstimate());
+    }
+
+    @Test
+    public void testPrimitiveKeySelectorThrows() {
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<HyperLogLog> ts = new TestSubscriber<HyperLogLog>();
+        MathObservable.from(Observable.just("a", "bbb")).distinctCountLong(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorEventTime.*;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.functions.Action1;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorEventTimeTest {
+
+    static final ToLongFunc1<long[]> TIMESTAMP = new ToLongFunc1<long[]>() {
+        @Override
+        public long call(long[] t1) {
+            return t1[0];
+        }
+    };
+
+    static final ToLongFunc1<long[]> VALUE = new ToLongFunc1<long[]>() {
+        @Override
+        public long call(long[] t1) {
+            return t1[1];
+        }
+    };
+
+    static final ToDoubleFunc1<long[]> DOUBLE_VALUE = new ToDoubleFunc1<long[]>() {
+        @Override
+        public double call(long[] t1) {
+            return t1[1];
+        }
+    };
+
+    static Observable<long[]> events(long... timestampValuePairs) {
+        List<long[]> list = new ArrayList<long[]>();
+        for (int i = 0; i < timestampValuePairs.length; i += 2) {
+            list.add(new long[] { timestampValuePairs[i], timestampValuePairs[i + 1] });
+        }
+        return Observable.from(list);
+    }
+
+    @Test
+    public void testTumbling() {
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        summarizeLongsByEventTime(events(1, 1, 5, 2, 12, 3, 25, 4, 45, 5), VALUE, TIMESTAMP, 10, 0).subscribe(ts);
+
+        List<WindowedValue<LongSummary>> list = ts.getOnNextEvents();
+        assertEquals(4, list.size());
+        assertEquals(0L, list.get(0).getStart());
+        assertEquals(10L, list.get(0).getEnd());
+        assertEquals(2L, list.get(0).getValue().getCount());
+        assertEquals(3L, list.get(0).getValue().getSum());
+        assertEquals(10L, list.get(1).getStart());
+        assertEquals(3L, list.get(1).getValue().getSum());
+        assertEquals(20L, list.get(2).getStart());
+        assertEquals(40L, list.get(3).getStart());
+        assertEquals(5L, list.get(3).getValue().getMax());
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testClosesOnWatermark() {
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        final List<long[]> late = new ArrayList<long[]>();
+        Observable<long[]> source = events(8, 1, 12, 10, 9, 2, 14, 20, 16, 30, 3, 100);
+        summarizeLongsByEventTime(source, VALUE, TIMESTAMP, 10, 10, 5, new Action1<long[]>() {
+            @Override
+            public void call(long[] t) {
+                late.add(t);
+            }
+        }).subscribe(ts);
+
+        List<WindowedValue<LongSummary>> list = ts.getOnNextEvents();
+        assertEquals(2, list.size());
+        assertEquals(0L, list.get(0).getStart());
+        assertEquals(3L, list.get(0).getValue().getSum());
+        assertEquals(10L, list.get(1).getStart());
+        assertEquals(60L, list.get(1).getValue().getSum());
+        assertEquals(1, late.size());
+        assertEquals(3L, late.get(0)[0]);
+    }
+
+    @Test
+    public void testHoppingMatchesBruteForce() {
+        final long size = 60;
+        final long slide = 10;
+        final long lateness = 25;
+        Random random = new Random(1);
+        List<long[]> events = new ArrayList<long[]>();
+        long now = -500;
+        for (int i = 0; i < 3000; i++) {
+            now += random.nextInt(4);
+            events.add(new long[] { now - random.nextInt(40), random.nextInt(1000) });
+        }
+
+        // a value counts toward each window covering it that had not closed when it arrived
+        TreeMap<Long, long[]> expected = new TreeMap<Long, long[]>();
+        long max = Long.MIN_VALUE;
+        for (long[] e : events) {
+            max = Math.max(max, e[0]);
+            long watermark = max - lateness;
+            long first = EventTimeSubscriber.floorDiv(e[0] - size, slide) + 1;
+            for (long w = first; w * slide <= e[0]; w++) {
+                if (w * slide + size > watermark) {
+                    long[] agg = expected.get(w);
+                    if (agg == null) {
+                        agg = new long[] { 0, 0, Long.MAX_VALUE, Long.MIN_VALUE };
+                        expected.put(w, agg);
+                    }
+                    agg[0]++;
+                    agg[1] += e[1];
+                    agg[2] = Math.min(agg[2], e[1]);
+                    agg[3] = Math.max(agg[3], e[1]);
+                }
+            }
+        }
+
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        MathObservable.from(Observable.from(events)).summarizeLongByEventTime(VALUE, TIMESTAMP, size, slide, lateness).subscribe(ts);
+        ts.assertCompleted();
+
+        List<WindowedValue<LongSummary>> list = ts.getOnNextEvents();
+        assertEquals(expected.size(), list.size());
+        int i = 0;
+        for (Map.Entry<Long, long[]> entry : expected.entrySet()) {
+            WindowedValue<LongSummary> v = list.get(i++);
+            assertEquals(entry.getKey() * slide, v.getStart());
+            assertEquals(entry.getKey() * slide + size, v.getEnd());
+            assertEquals(entry.getValue()[0], v.getValue().getCount());
+            assertEquals(entry.getValue()[1], v.getValue().getSum());
+            assertEquals(entry.getValue()[2], v.getValue().getMin());
+            assertEquals(entry.getValue()[3], v.getValue().getMax());
+        }
+    }
+
+    @Test
+    public void testDoubleSummaryAndNegativeTimestamps() {
+        TestSubscriber<WindowedValue<DoubleSummary>> ts = new TestSubscriber<WindowedValue<DoubleSummary>>();
+        MathObservable.from(events(-15, 1, -5, 2, -1, 4, 3, 8)).summarizeDoubleByEventTime(DOUBLE_VALUE, TIMESTAMP, 10, 0).subscribe(ts);
+
+        List<WindowedValue<DoubleSummary>> list = ts.getOnNextEvents();
+        assertEquals(3, list.size());
+        assertEquals(-20L, list.get(0).getStart());
+        assertEquals(-10L, list.get(1).getStart());
+        assertEquals(3d, list.get(1).getValue().getAverage(), 0d);
+        assertEquals(0L, list.get(2).getStart());
+        assertEquals(8d, list.get(2).getValue().getSum(), 0d);
+    }
+
+    @Test
+    public void testMissingBackpressure() {
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>(1L);
+        summarizeLongsByEventTime(events(1, 1, 11, 1, 21, 1, 31, 1), VALUE, TIMESTAMP, 10, 0).subscribe(ts);
+
+        ts.assertValueCount(1);
+        ts.assertError(MissingBackpressureException.class);
+    }
+
+    @Test
+    public void testTimestampExtractorThrows() {
+        ToLongFunc1<long[]> fail = new ToLongFunc1<long[]>() {
+            @Override
+            public long call(long[] t1) {
+                if (t1[0] > 10) {
+                    throw new IllegalStateException();
+                }
+                return t1[0];
+            }
+        };
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        summarizeLongsByEventTime(events(1, 1, 20, 1), VALUE, fail, 10, 0).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeNotMultipleOfSlide() {
+        summarizeLongsByEventTime(events(), VALUE, TIMESTAMP, 15, 10, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLateness() {
+        summarizeLongsByEventTime(events(), VALUE, TIMESTAMP, 10, -1);
+    }
+}
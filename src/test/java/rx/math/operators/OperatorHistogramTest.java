@@ -0,0 +1,169 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.functions.ToLongFunc1;
+import rx.math.statistics.LongHistogram;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorHistogramTest {
+
+    static final long HOUR_NANOS = 3600L * 1000L * 1000L * 1000L;
+
+    static Observable<Long> longs(final long start, int count) {
+        return Observable.range(0, count).map(new Func1<Integer, Long>() {
+            @Override
+            public Long call(Integer t) {
+                return start + t;
+            }
+        });
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LongHistogram h = MathObservable.histogramLong(Observable.just(1L, 2L, 2L, 3L, 100L), 1000L, 3).toBlocking().single();
+
+        assertEquals(5, h.getTotalCount());
+        assertEquals(1L, h.getMin());
+        assertEquals(100L, h.getMax());
+        assertEquals(2L, h.getValueAtPercentile(50d));
+        assertEquals(100L, h.getValueAtPercentile(100d));
+        assertEquals(1L, h.getValueAtPercentile(0d));
+        assertEquals(2L, h.getCountAtValue(2L));
+        assertEquals(21.6d, h.getMean(), 1e-9);
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        int n = 100000;
+        LongHistogram h = MathObservable.histogramLong(longs(1000000L, n), HOUR_NANOS, 3).toBlocking().single();
+
+        assertEquals(n, h.getTotalCount());
+        assertEquals(1000000L, h.getMin());
+        assertEquals(1000000L + n - 1, h.getMax());
+        assertEquals(1050000d, h.getValueAtPercentile(50d), 1050000d * 1e-3);
+        assertEquals(1099000d, h.getValueAtPercentile(99d), 1099000d * 1e-3);
+        assertEquals(1049999.5d, h.getMean(), 1049999.5d * 1e-3);
+    }
+
+    @Test
+    public void testBucketWidthMatchesPrecision() {
+        LongHistogram h = new LongHistogram(HOUR_NANOS, 2);
+
+        for (long v : new long[] { 1L, 199L, 1000L, 123456789L, HOUR_NANOS }) {
+            long w = h.sizeOfEquivalentValueRange(v);
+            long low = h.lowestEquivalentValue(v);
+            assertTrue(low <= v && v < low + w);
+            assertTrue("v = " + v, w == 1L || (double) w / low <= 0.01d);
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        LongHistogram h = MathObservable.histogramLong(Observable.<Long>empty(), 1000L, 2).toBlocking().single();
+
+        assertEquals(0, h.getTotalCount());
+        assertEquals(0L, h.getMax());
+        assertEquals(0L, h.getValueAtPercentile(99d));
+        assertEquals(0d, h.getMean(), 0d);
+    }
+
+    @Test
+    public void testMerge() {
+        LongHistogram a = MathObservable.histogramLong(longs(1000L, 5000), 100000L, 3).toBlocking().single();
+        LongHistogram b = MathObservable.histogramLong(longs(6000L, 5000), HOUR_NANOS, 3).toBlocking().single();
+        LongHistogram all = MathObservable.histogramLong(longs(1000L, 10000), HOUR_NANOS, 3).toBlocking().single();
+
+        LongHistogram m = a.merge(b);
+
+        assertEquals(10000, m.getTotalCount());
+        assertEquals(1000L, m.getMin());
+        assertEquals(10999L, m.getMax());
+        assertEquals(HOUR_NANOS, m.getHighestTrackableValue());
+        for (double p : new double[] { 1d, 50d, 90d, 99.9d }) {
+            assertEquals(all.getValueAtPercentile(p), m.getValueAtPercentile(p));
+        }
+        assertEquals(all.getMean(), m.getMean(), 1e-9);
+        assertEquals(5000, a.getTotalCount());
+    }
+
+    @Test
+    public void testValueOutOfRange() {
+        TestSubscriber<LongHistogram> ts = new TestSubscriber<LongHistogram>();
+        MathObservable.histogramLong(Observable.just(1L, 1L << 40), 1000L, 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testNegativeValue() {
+        TestSubscriber<LongHistogram> ts = new TestSubscriber<LongHistogram>();
+        MathObservable.histogramLong(Observable.just(-1L), 1000L, 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalArgumentException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSignificantDigits() {
+        MathObservable.histogramLong(Observable.just(1L), 1000L, 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidHighestTrackableValue() {
+        MathObservable.histogramLong(Observable.just(1L), 1L, 2);
+    }
+
+    @Test
+    public void testPrimitiveSelector() {
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        };
+
+        LongHistogram h = MathObservable.from(Observable.just("a", "bb", "bbb")).histogramLong(length, 100L, 2).toBlocking().single();
+
+        assertEquals(3, h.getTotalCount());
+        assertEquals(2L, h.getValueAtPercentile(50d));
+    }
+
+    @Test
+    public void testPrimitiveSelectorThrows() {
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<LongHistogram> ts = new TestSubscriber<LongHistogram>();
+        MathObservable.from(Observable.just("a", "bbb")).histogramLong(length, 100L, 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorHopping.*;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.*;
+import rx.subjects.PublishSubject;
+
+public class OperatorHoppingTest {
+
+    @Test
+    public void testHoppingSumAndCount() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Double> ps = PublishSubject.create();
+        TestSubscriber<Double> sums = new TestSubscriber<Double>();
+        sumDoublesEvery(ps, 3, 1, TimeUnit.SECONDS, scheduler).subscribe(sums);
+        TestSubscriber<Long> counts = new TestSubscriber<Long>();
+        MathObservable.countEvery(ps, 3, 1, TimeUnit.SECONDS, scheduler).subscribe(counts);
+
+        ps.onNext(1d);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ps.onNext(2d);
+        ps.onNext(2d);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ps.onNext(4d);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        sums.assertValues(1d, 5d, 9d, 8d, 4d, 0d);
+        counts.assertValues(1L, 3L, 4L, 3L, 1L, 0L);
+
+        ps.onNext(7d);
+        ps.onCompleted();
+        sums.assertValues(1d, 5d, 9d, 8d, 4d, 0d, 7d);
+        sums.assertCompleted();
+    }
+
+    @Test
+    public void testEarlyWindowsArePartial() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<Long> counts = new TestSubscriber<Long>();
+        MathObservable.countEvery(ps, 4, 1, TimeUnit.SECONDS, scheduler).subscribe(counts);
+
+        for (int second = 0; second < 6; second++) {
+            ps.onNext(1L);
+            scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        }
+
+        // the first three windows only cover the 1, 2 and 3 seconds since the subscription
+        counts.assertValues(1L, 2L, 3L, 4L, 4L, 4L);
+    }
+
+    @Test
+    public void testHoppingLongSummaryDoesNotOverflow() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<LongSummary> ts = new TestSubscriber<LongSummary>();
+        summarizeLongsEvery(ps, 2, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(Long.MAX_VALUE);
+        ps.onNext(Long.MAX_VALUE);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ps.onNext(Long.MAX_VALUE);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        List<LongSummary> list = ts.getOnNextEvents();
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        assertEquals(max.shiftLeft(1), list.get(0).getExactSum());
+        assertEquals(max.multiply(BigInteger.valueOf(3)), list.get(1).getExactSum());
+        assertEquals(max, list.get(2).getExactSum());
+        assertFalse(list.get(2).isSumOverflow());
+        assertEquals((double) Long.MAX_VALUE, list.get(1).getAverage(), 0d);
+    }
+
+    @Test
+    public void testHoppingMatchesWindow() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<LongSummary> ts = new TestSubscriber<LongSummary>();
+        summarizeLongsEvery(ps, 60, 5, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        Random random = new Random(1);
+        List<Long> values = new ArrayList<Long>();
+        List<Integer> times = new ArrayList<Integer>();
+        for (int second = 0; second < 300; second++) {
+            int n = random.nextInt(4);
+            for (int i = 0; i < n; i++) {
+                long v = random.nextInt(1000) - 500;
+                values.add(v);
+                times.add(second);
+                ps.onNext(v);
+            }
+            scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        }
+
+        List<LongSummary> result = ts.getOnNextEvents();
+        assertEquals(60, result.size());
+        for (int k = 0; k < result.size(); k++) {
+            int end = (k + 1) * 5;
+            long count = 0L;
+            long sum = 0L;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < values.size(); i++) {
+                int t = times.get(i);
+                if (t < end && t >= end - 60) {
+                    long v = values.get(i);
+                    count++;
+                    sum += v;
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+            }
+            LongSummary s = result.get(k);
+            assertEquals(count, s.getCount());
+            assertEquals(sum, s.getSum());
+            assertEquals(min, s.getMin());
+            assertEquals(max, s.getMax());
+        }
+    }
+
+    @Test
+    public void testHoppingAverageAndMinMaxSkipEmptyWindows() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Double> ps = PublishSubject.create();
+        TestSubscriber<Double> avg = new TestSubscriber<Double>();
+        MathObservable.averageDoubleEvery(ps, 2, 1, TimeUnit.SECONDS, scheduler).subscribe(avg);
+        TestSubscriber<DoubleMinMax> mm = new TestSubscriber<DoubleMinMax>();
+        minMaxDoublesEvery(ps, 2, 1, TimeUnit.SECONDS, scheduler).subscribe(mm);
+
+        ps.onNext(1d);
+        ps.onNext(3d);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ps.onNext(8d);
+        scheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+
+        avg.assertValues(2d, 4d, 8d);
+        mm.assertValues(new DoubleMinMax(1d, 3d), new DoubleMinMax(1d, 8d), new DoubleMinMax(8d, 8d));
+    }
+
+    @Test
+    public void testHoppingSummaryDouble() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.from(ps).summarizeDoubleEvery(new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        }, 20, 10, TimeUnit.MILLISECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("a");
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        ps.onNext("ccc");
+        scheduler.advanceTimeBy(20, TimeUnit.MILLISECONDS);
+
+        ts.assertValueCount(3);
+        DoubleSummary second = ts.getOnNextEvents().get(1);
+        assertEquals(2, second.getCount());
+        assertEquals(4d, second.getSum(), 0d);
+        assertEquals(1d, second.getMin(), 0d);
+        assertEquals(3d, second.getMax(), 0d);
+        assertEquals(3d, ts.getOnNextEvents().get(2).getAverage(), 0d);
+    }
+
+    @Test
+    public void testHoppingMissingBackpressure() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<Long> ts = new TestSubscriber<Long>(0L);
+        sumLongsEvery(ps, 2, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertError(MissingBackpressureException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test
+    public void testHoppingSelectorThrows() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        ToLongFunc1<String> fail = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<LongMinMax> ts = new TestSubscriber<LongMinMax>();
+        MathObservable.from(ps).minMaxLongEvery(fail, 2, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("a");
+        ts.assertError(IllegalStateException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimespanNotMultipleOfTimeshift() {
+        countEvery(Observable.just(1), 5, 2, TimeUnit.SECONDS, Schedulers.immediate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimespanShorterThanTimeshift() {
+        countEvery(Observable.just(1), 1, 2, TimeUnit.SECONDS, Schedulers.immediate());
+    }
+}
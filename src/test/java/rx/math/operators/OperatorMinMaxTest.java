@@ -15,12 +15,14 @@
  */
 package rx.math.operators;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import static rx.math.operators.OperatorMinMax.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -31,6 +33,11 @@ import org.mockito.InOrder;
 import rx.Observable;
 import rx.Observer;
 import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.functions.ToIntFunc1;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
 
 public class OperatorMinMaxTest {
     @Test
@@ -352,4 +359,391 @@ public class OperatorMinMaxTest {
         inOrder.verify(observer, times(1)).onCompleted();
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    public void testMinBySelectorCalledOncePerItem() {
+        final int[] calls = { 0 };
+        Observable<List<String>> observable = minBy(
+                Observable.just("1", "2", "3", "4", "5", "6"),
+                new Func1<String, Integer>() {
+                    @Override
+                    public Integer call(String t1) {
+                        calls[0]++;
+                        return Integer.parseInt(t1) % 3;
+                    }
+                });
+
+        @SuppressWarnings("unchecked")
+        Observer<List<String>> observer = (Observer<List<String>>) mock(Observer.class);
+
+        observable.subscribe(observer);
+        InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer, times(1)).onNext(Arrays.asList("3", "6"));
+        inOrder.verify(observer, times(1)).onCompleted();
+        inOrder.verifyNoMoreInteractions();
+        assertEquals(6, calls[0]);
+    }
+
+    @Test
+    public void testMaxByWithMaxTies() {
+        Observable<List<String>> observable = maxBy(
+                Observable.just("1", "2", "3", "4", "5", "6", "7"),
+                new Func1<String, Integer>() {
+                    @Override
+                    public Integer call(String t1) {
+                        return Integer.parseInt(t1) % 2;
+                    }
+                }, 2);
+
+        @SuppressWarnings("unchecked")
+        Observer<List<String>> observer = (Observer<List<String>>) mock(Observer.class);
+
+        observable.subscribe(observer);
+        InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer, times(1)).onNext(Arrays.asList("1", "3"));
+        inOrder.verify(observer, times(1)).onCompleted();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testMinByWithComparatorAndMaxTies() {
+        Observable<List<String>> observable = minBy(
+                Observable.just("1", "2", "3", "4", "5", "6"),
+                new Func1<String, Integer>() {
+                    @Override
+                    public Integer call(String t1) {
+                        return Integer.parseInt(t1) % 2;
+                    }
+                }, new Comparator<Integer>() {
+                    @Override
+                    public int compare(Integer o1, Integer o2) {
+                        return o2 - o1;
+                    }
+                }, 1);
+
+        @SuppressWarnings("unchecked")
+        Observer<List<String>> observer = (Observer<List<String>>) mock(Observer.class);
+
+        observable.subscribe(observer);
+        InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer, times(1)).onNext(Arrays.asList("1"));
+        inOrder.verify(observer, times(1)).onCompleted();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMinByInvalidMaxTies() {
+        minBy(Observable.just("1"), new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return 1;
+            }
+        }, 0);
+    }
+
+    @Test
+    public void testMinBySelectorThrows() {
+        Observable<List<String>> observable = minBy(
+                Observable.just("1", "2"),
+                new Func1<String, Integer>() {
+                    @Override
+                    public Integer call(String t1) {
+                        throw new IllegalStateException();
+                    }
+                });
+
+        @SuppressWarnings("unchecked")
+        Observer<List<String>> observer = (Observer<List<String>>) mock(Observer.class);
+
+        observable.subscribe(observer);
+        InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer, times(1)).onError(isA(IllegalStateException.class));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testMinMaxIntegers() {
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>();
+        minIntegers(Observable.just(2, -3, 1, 4)).subscribe(ts);
+        ts.assertValue(-3);
+        ts.assertCompleted();
+
+        ts = new TestSubscriber<Integer>();
+        maxIntegers(Observable.just(2, -3, 1, 4)).subscribe(ts);
+        ts.assertValue(4);
+    }
+
+    @Test
+    public void testMinMaxLongs() {
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        minLongs(Observable.just(2L, Long.MIN_VALUE, 1L)).subscribe(ts);
+        ts.assertValue(Long.MIN_VALUE);
+
+        ts = new TestSubscriber<Long>();
+        maxLongs(Observable.just(2L, Long.MAX_VALUE, 1L)).subscribe(ts);
+        ts.assertValue(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testMinMaxDoublesNaN() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        minDoubles(Observable.just(2d, Double.NaN, 1d)).subscribe(ts);
+        ts.assertValue(Double.NaN);
+
+        ts = new TestSubscriber<Double>();
+        maxDoubles(Observable.just(2d, Double.NaN, 1d)).subscribe(ts);
+        ts.assertValue(Double.NaN);
+
+        ts = new TestSubscriber<Double>();
+        maxDoubles(Observable.just(Double.NaN, 0d, 5d)).subscribe(ts);
+        ts.assertValue(Double.NaN);
+
+        ts = new TestSubscriber<Double>();
+        minDoubles(Observable.just(-1d, Double.NaN, -0d)).subscribe(ts);
+        ts.assertValue(Double.NaN);
+    }
+
+    @Test
+    public void testMinMaxDoublesSignedZero() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        minDoubles(Observable.just(0d, -0d)).subscribe(ts);
+        assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits(ts.getOnNextEvents().get(0)));
+
+        ts = new TestSubscriber<Double>();
+        maxDoubles(Observable.just(-0d, 0d)).subscribe(ts);
+        assertEquals(Double.doubleToRawLongBits(0d), Double.doubleToRawLongBits(ts.getOnNextEvents().get(0)));
+    }
+
+    @Test
+    public void testMinIntegersWithEmpty() {
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>();
+        minIntegers(Observable.<Integer>empty()).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testMaxIntegersPrimitiveSelector() {
+        ToIntFunc1<String> length = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                return t1.length();
+            }
+        };
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>();
+        MathObservable.from(Observable.just("a", "ccc", "bb")).maxInt(length).subscribe(ts);
+
+        ts.assertValue(3);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testMinDoublesPrimitiveSelectorThrows() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.from(Observable.just("a", "bb")).minDouble(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testMinMax() {
+        TestSubscriber<MinMax<Integer>> ts = new TestSubscriber<MinMax<Integer>>();
+        minMax(Observable.just(2, 3, 1, 4, 0)).subscribe(ts);
+
+        ts.assertValue(new MinMax<Integer>(0, 4));
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testMinMaxSingleAndEmpty() {
+        TestSubscriber<MinMax<Integer>> ts = new TestSubscriber<MinMax<Integer>>();
+        minMax(Observable.just(7)).subscribe(ts);
+        ts.assertValue(new MinMax<Integer>(7, 7));
+
+        ts = new TestSubscriber<MinMax<Integer>>();
+        minMax(Observable.<Integer>empty()).subscribe(ts);
+        ts.assertNoValues();
+        ts.assertError(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testMinMaxKeepsEarliestOfEqualItems() {
+        Comparator<String> byLength = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.length() - o2.length();
+            }
+        };
+        TestSubscriber<MinMax<String>> ts = new TestSubscriber<MinMax<String>>();
+        MathObservable.from(Observable.just("bb", "a", "cc", "d", "ee")).minMax(byLength).subscribe(ts);
+
+        ts.assertValue(new MinMax<String>("a", "bb"));
+    }
+
+    @Test
+    public void testMinMaxOperatorsKeepEarliestOfEqualItems() {
+        Comparator<String> byLength = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.length() - o2.length();
+            }
+        };
+        Observable<String> source = Observable.just("bb", "a", "cc", "d", "ee");
+
+        assertEquals("a", min(source, byLength).toBlocking().single());
+        assertEquals("bb", max(source, byLength).toBlocking().single());
+        assertEquals(new IndexedValue<String>(1L, "a"), argMin(source, byLength).toBlocking().single());
+        assertEquals(new IndexedValue<String>(0L, "bb"), argMax(source, byLength).toBlocking().single());
+        assertEquals(Arrays.asList("bb"), maxBy(source, new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return t1.length();
+            }
+        }, 1).toBlocking().single());
+    }
+
+    @Test
+    public void testMinMaxComparisonCount() {
+        final int[] calls = { 0 };
+        Comparator<Integer> counting = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                calls[0]++;
+                return o1.compareTo(o2);
+            }
+        };
+        TestSubscriber<MinMax<Integer>> ts = new TestSubscriber<MinMax<Integer>>();
+        minMax(Observable.range(0, 1000), counting).subscribe(ts);
+
+        ts.assertValue(new MinMax<Integer>(0, 999));
+        assertEquals(1 + 3 * 499, calls[0]);
+    }
+
+    @Test
+    public void testMinMaxIntegersAndLongs() {
+        TestSubscriber<IntMinMax> ts = new TestSubscriber<IntMinMax>();
+        minMaxIntegers(Observable.just(2, -3, 1, 4, 9)).subscribe(ts);
+        ts.assertValue(new IntMinMax(-3, 9));
+
+        TestSubscriber<LongMinMax> tl = new TestSubscriber<LongMinMax>();
+        minMaxLongs(Observable.just(5L)).subscribe(tl);
+        tl.assertValue(new LongMinMax(5L, 5L));
+    }
+
+    @Test
+    public void testMinMaxDoublesNaNAndSignedZero() {
+        TestSubscriber<DoubleMinMax> ts = new TestSubscriber<DoubleMinMax>();
+        minMaxDoubles(Observable.just(0d, -0d, 0d)).subscribe(ts);
+        ts.assertValue(new DoubleMinMax(-0d, 0d));
+
+        ts = new TestSubscriber<DoubleMinMax>();
+        minMaxDoubles(Observable.just(1d, 2d, Double.NaN)).subscribe(ts);
+        ts.assertValue(new DoubleMinMax(Double.NaN, Double.NaN));
+
+        ts = new TestSubscriber<DoubleMinMax>();
+        minMaxDoubles(Observable.just(Double.NaN, 1d, 2d)).subscribe(ts);
+        ts.assertValue(new DoubleMinMax(Double.NaN, Double.NaN));
+    }
+
+    @Test
+    public void testMinMaxDoublesPrimitiveSelector() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+        TestSubscriber<DoubleMinMax> ts = new TestSubscriber<DoubleMinMax>();
+        MathObservable.from(Observable.just("bb", "a", "ccc")).minMaxDouble(length).subscribe(ts);
+
+        ts.assertValue(new DoubleMinMax(1d, 3d));
+    }
+
+    @Test
+    public void testArgMinArgMax() {
+        TestSubscriber<IndexedValue<Integer>> ts = new TestSubscriber<IndexedValue<Integer>>();
+        argMin(Observable.just(2, 3, 1, 4, 1)).subscribe(ts);
+        ts.assertValue(new IndexedValue<Integer>(2L, 1));
+        ts.assertCompleted();
+
+        ts = new TestSubscriber<IndexedValue<Integer>>();
+        argMax(Observable.just(4, 3, 1, 4, 1)).subscribe(ts);
+        ts.assertValue(new IndexedValue<Integer>(0L, 4));
+    }
+
+    @Test
+    public void testArgMaxWithComparatorAndEmpty() {
+        Comparator<Integer> reverse = Collections.reverseOrder();
+        TestSubscriber<IndexedValue<Integer>> ts = new TestSubscriber<IndexedValue<Integer>>();
+        MathObservable.from(Observable.just(2, 3, 1, 4)).argMax(reverse).subscribe(ts);
+        ts.assertValue(new IndexedValue<Integer>(2L, 1));
+
+        ts = new TestSubscriber<IndexedValue<Integer>>();
+        argMin(Observable.<Integer>empty()).subscribe(ts);
+        ts.assertNoValues();
+        ts.assertError(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testArgMinMaxPrimitive() {
+        TestSubscriber<IndexedValue<Long>> tl = new TestSubscriber<IndexedValue<Long>>();
+        argMaxLongs(Observable.just(5L, 9L, 2L, 9L)).subscribe(tl);
+        tl.assertValue(new IndexedValue<Long>(1L, 9L));
+
+        TestSubscriber<IndexedValue<Integer>> ti = new TestSubscriber<IndexedValue<Integer>>();
+        argMinIntegers(Observable.range(10, 100)).subscribe(ti);
+        ti.assertValue(new IndexedValue<Integer>(0L, 10));
+    }
+
+    @Test
+    public void testArgMinMaxDoublesNaNAndSignedZero() {
+        TestSubscriber<IndexedValue<Double>> ts = new TestSubscriber<IndexedValue<Double>>();
+        argMaxDoubles(Observable.just(1d, Double.NaN, 5d, Double.NaN)).subscribe(ts);
+        ts.assertValue(new IndexedValue<Double>(1L, Double.NaN));
+
+        ts = new TestSubscriber<IndexedValue<Double>>();
+        argMinDoubles(Observable.just(0d, -0d, -0d)).subscribe(ts);
+        ts.assertValue(new IndexedValue<Double>(1L, -0d));
+
+        ts = new TestSubscriber<IndexedValue<Double>>();
+        argMaxDoubles(Observable.just(-0d, 0d, 0d)).subscribe(ts);
+        ts.assertValue(new IndexedValue<Double>(1L, 0d));
+    }
+
+    @Test
+    public void testArgMaxDoublePrimitiveSelector() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+        TestSubscriber<IndexedValue<String>> ts = new TestSubscriber<IndexedValue<String>>();
+        MathObservable.from(Observable.just("a", "ccc", "bb", "ddd")).argMaxDouble(length).subscribe(ts);
+
+        ts.assertValue(new IndexedValue<String>(1L, "ccc"));
+    }
+
+    @Test
+    public void testArgMinIntPrimitiveSelectorThrows() {
+        ToIntFunc1<String> fail = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<IndexedValue<String>> ts = new TestSubscriber<IndexedValue<String>>();
+        MathObservable.from(Observable.just("a", "bb")).argMinInt(fail).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
 }
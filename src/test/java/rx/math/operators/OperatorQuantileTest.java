@@ -0,0 +1,159 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.QuantileSketch;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorQuantileTest {
+
+    static Observable<Double> shuffled(int n, long seed) {
+        List<Double> list = new ArrayList<Double>(n);
+        for (int i = 1; i <= n; i++) {
+            list.add((double) i);
+        }
+        Collections.shuffle(list, new Random(seed));
+        return Observable.from(list);
+    }
+
+    @Test
+    public void testSmallSequenceIsExact() {
+        QuantileSketch s = MathObservable.quantileSketchDouble(Observable.just(4d, 1d, 3d, 2d, 5d)).toBlocking().single();
+
+        assertEquals(5, s.getCount());
+        assertEquals(5, s.getRetainedItems());
+        assertEquals(1d, s.getQuantile(0d), 0d);
+        assertEquals(1d, s.getQuantile(0.2d), 0d);
+        assertEquals(3d, s.getQuantile(0.5d), 0d);
+        assertEquals(5d, s.getQuantile(0.9d), 0d);
+        assertEquals(5d, s.getQuantile(1d), 0d);
+        assertEquals(0.6d, s.getRank(3d), 0d);
+        assertEquals(0d, s.getRank(0.5d), 0d);
+        assertEquals(1d, s.getRank(7d), 0d);
+    }
+
+    @Test
+    public void testEmpty() {
+        QuantileSketch s = MathObservable.quantileSketchDouble(Observable.<Double>empty()).toBlocking().single();
+
+        assertTrue(s.isEmpty());
+        assertTrue(Double.isNaN(s.getQuantile(0.5d)));
+        assertTrue(Double.isNaN(s.getRank(1d)));
+        assertTrue(Double.isNaN(s.getMin()));
+        assertTrue(Double.isNaN(s.getMax()));
+    }
+
+    @Test
+    public void testNaNIsIgnored() {
+        QuantileSketch s = MathObservable.quantileSketchDouble(Observable.just(1d, Double.NaN, 2d)).toBlocking().single();
+
+        assertEquals(2, s.getCount());
+        assertEquals(2d, s.getMax(), 0d);
+    }
+
+    @Test
+    public void testLargeSequenceWithinRankError() {
+        int n = 100000;
+        QuantileSketch s = MathObservable.quantileSketchDouble(shuffled(n, 1L)).toBlocking().single();
+
+        assertEquals(n, s.getCount());
+        assertEquals(1d, s.getMin(), 0d);
+        assertEquals(n, s.getMax(), 0d);
+        assertTrue(s.getRetainedItems() < 4 * QuantileSketch.DEFAULT_K);
+        for (double q : new double[] { 0.01d, 0.25d, 0.5d, 0.75d, 0.99d, 0.999d }) {
+            double v = s.getQuantile(q);
+            assertEquals("q = " + q, q, v / n, 0.02d);
+            assertEquals("v = " + v, v / n, s.getRank(v), 0.02d);
+        }
+    }
+
+    @Test
+    public void testSmallerKRetainsLess() {
+        int n = 100000;
+        QuantileSketch s = MathObservable.quantileSketchDouble(shuffled(n, 2L), 32).toBlocking().single();
+
+        assertEquals(32, s.getK());
+        assertTrue(s.getRetainedItems() < 200);
+        assertEquals(0.5d, s.getQuantile(0.5d) / n, 0.1d);
+    }
+
+    @Test
+    public void testMerge() {
+        int n = 50000;
+        QuantileSketch a = MathObservable.quantileSketchDouble(shuffled(n, 3L)).toBlocking().single();
+        QuantileSketch b = MathObservable.quantileSketchDouble(shuffled(n, 4L).map(new Func1<Double, Double>() {
+            @Override
+            public Double call(Double t) {
+                return t + 50000;
+            }
+        }), 100).toBlocking().single();
+
+        QuantileSketch m = a.merge(b);
+
+        assertEquals(2 * n, m.getCount());
+        assertEquals(100, m.getK());
+        assertEquals(1d, m.getMin(), 0d);
+        assertEquals(2d * n, m.getMax(), 0d);
+        assertEquals(0.5d, m.getQuantile(0.5d) / (2 * n), 0.03d);
+        assertEquals(0.9d, m.getQuantile(0.9d) / (2 * n), 0.03d);
+        assertEquals(n, a.getCount());
+        assertEquals(n, b.getCount());
+    }
+
+    @Test
+    public void testQuantileOutOfRange() {
+        QuantileSketch s = new QuantileSketch();
+        s.update(1d);
+        try {
+            s.getQuantile(1.5d);
+            fail("Should have thrown");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidK() {
+        MathObservable.quantileSketchDouble(Observable.just(1d), 4);
+    }
+
+    @Test
+    public void testPrimitiveSelectorThrows() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<QuantileSketch> ts = new TestSubscriber<QuantileSketch>();
+        MathObservable.from(Observable.just("a", "bbb")).quantileSketchDouble(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorRolling.*;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.math.functions.ToDoubleFunc1;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorRollingTest {
+
+    @Test
+    public void testRollingSumDoubles() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        rollingSumDoubles(Observable.just(1d, 2d, 3d, 4d, 5d), 3).subscribe(ts);
+
+        ts.assertValues(1d, 3d, 6d, 9d, 12d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingAverageDoubles() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.rollingAverageDouble(Observable.just(1d, 2d, 3d, 4d, 5d), 2).subscribe(ts);
+
+        ts.assertValues(1d, 1.5d, 2.5d, 3.5d, 4.5d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingSumLongs() {
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        MathObservable.rollingSumLong(Observable.just(1L, 2L, 3L, 4L, 5L), 2).subscribe(ts);
+
+        ts.assertValues(1L, 3L, 5L, 7L, 9L);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingAverageMatchesWindow() {
+        Random random = new Random(1);
+        List<Double> values = new ArrayList<Double>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(random.nextDouble() * 100);
+        }
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        rollingAverageDoubles(Observable.from(values), 10).subscribe(ts);
+
+        List<Double> result = ts.getOnNextEvents();
+        assertEquals(1000, result.size());
+        for (int i = 9; i < 1000; i++) {
+            double sum = 0d;
+            for (int j = i - 9; j <= i; j++) {
+                sum += values.get(j);
+            }
+            assertEquals(sum / 10, result.get(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testResummationRemovesDrift() {
+        Observable<Double> source = Observable.just(1e17, 1d, 1d, 1d);
+
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        rollingSumDoubles(source, 2, 1).subscribe(ts);
+        ts.assertValues(1e17, 1e17, 2d, 2d);
+
+        ts = new TestSubscriber<Double>();
+        rollingSumDoubles(source, 2, 0).subscribe(ts);
+        assertEquals(1d, ts.getOnNextEvents().get(2), 0d);
+    }
+
+    @Test
+    public void testBackpressure() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>(0L);
+        rollingSumDoubles(Observable.just(1d, 2d, 3d, 4d), 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.requestMore(2);
+        ts.assertValues(1d, 3d);
+        ts.assertNotCompleted();
+        ts.requestMore(2);
+        ts.assertValues(1d, 3d, 5d, 7d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testEmpty() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        rollingAverageDoubles(Observable.<Double>empty(), 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertCompleted();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        rollingSumDoubles(Observable.just(1d), 0);
+    }
+
+    @Test
+    public void testPrimitiveSelectorThrows() {
+        ToDoubleFunc1<String> fail = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                if (t1.length() > 1) {
+                    throw new IllegalStateException();
+                }
+                return 1d;
+            }
+        };
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.from(Observable.just("a", "bb", "c")).rollingSumDouble(fail, 2).subscribe(ts);
+
+        ts.assertValues(1d);
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testRollingMaxLongs() {
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        MathObservable.rollingMaxLong(Observable.just(3L, 1L, 2L, 5L, 4L, 1L, 1L), 3).subscribe(ts);
+
+        ts.assertValues(3L, 3L, 3L, 5L, 5L, 5L, 4L);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingMinLongs() {
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        rollingMinLongs(Observable.just(3L, 1L, 2L, 5L, 4L, 6L, 7L), 3).subscribe(ts);
+
+        ts.assertValues(3L, 1L, 1L, 1L, 2L, 4L, 4L);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingMinMaxMatchesWindow() {
+        Random random = new Random(1);
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(random.nextInt(50));
+        }
+        for (int size : new int[] { 1, 2, 7, 64 }) {
+            TestSubscriber<Integer> min = new TestSubscriber<Integer>();
+            rollingMin(Observable.from(values), size).subscribe(min);
+            TestSubscriber<Integer> max = new TestSubscriber<Integer>();
+            rollingMax(Observable.from(values), size).subscribe(max);
+            TestSubscriber<Double> maxDouble = new TestSubscriber<Double>();
+            MathObservable.from(Observable.from(values)).rollingMaxDouble(new ToDoubleFunc1<Integer>() {
+                @Override
+                public double call(Integer t1) {
+                    return t1;
+                }
+            }, size).subscribe(maxDouble);
+
+            for (int i = 0; i < values.size(); i++) {
+                List<Integer> window = values.subList(Math.max(0, i - size + 1), i + 1);
+                assertEquals(Collections.min(window), min.getOnNextEvents().get(i));
+                assertEquals(Collections.max(window), max.getOnNextEvents().get(i));
+                assertEquals(Collections.max(window), maxDouble.getOnNextEvents().get(i), 0d);
+            }
+        }
+    }
+
+    @Test
+    public void testRollingMaxComparatorKeepsEarliestOfEquals() {
+        Comparator<String> byLength = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.length() - o2.length();
+            }
+        };
+        TestSubscriber<String> ts = new TestSubscriber<String>();
+        MathObservable.from(Observable.just("aa", "b", "cc", "d", "e")).rollingMax(3, byLength).subscribe(ts);
+
+        ts.assertValues("aa", "aa", "aa", "cc", "cc");
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingMinMaxDoublesNaNAndZeros() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        rollingMaxDoubles(Observable.just(1d, Double.NaN, 2d, 3d, -0.0d, 0.0d, -0.0d), 2).subscribe(ts);
+
+        ts.assertValues(1d, Double.NaN, Double.NaN, 3d, 3d, 0.0d, 0.0d);
+
+        ts = new TestSubscriber<Double>();
+        rollingMinDoubles(Observable.just(0.0d, -0.0d, 0.0d, 0.0d), 2).subscribe(ts);
+
+        ts.assertValues(0.0d, -0.0d, -0.0d, 0.0d);
+    }
+
+    @Test
+    public void testRollingMaxBackpressure() {
+        TestSubscriber<Long> ts = new TestSubscriber<Long>(0L);
+        rollingMaxLongs(Observable.just(1L, 2L, 1L), 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.requestMore(1);
+        ts.assertValues(1L);
+        ts.requestMore(2);
+        ts.assertValues(1L, 2L, 2L);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testRollingMaxComparatorThrows() {
+        Comparator<Integer> fail = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>();
+        rollingMax(Observable.just(1, 2, 3), 2, fail).subscribe(ts);
+
+        ts.assertValues(1);
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRollingMinInvalidSize() {
+        rollingMinLongs(Observable.just(1L), 0);
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorSession.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.functions.Func1;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.*;
+import rx.subjects.PublishSubject;
+
+public class OperatorSessionTest {
+
+    @Test
+    public void testSessionsCloseAfterGap() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        summarizeLongsBySession(ps, 30, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(100L);
+        scheduler.advanceTimeBy(20, TimeUnit.SECONDS);
+        ps.onNext(300L);
+        scheduler.advanceTimeBy(20, TimeUnit.SECONDS);
+        ps.onNext(200L);
+        scheduler.advanceTimeBy(29, TimeUnit.SECONDS);
+        ts.assertNoValues();
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValueCount(1);
+        WindowedValue<LongSummary> first = ts.getOnNextEvents().get(0);
+        assertEquals(0L, first.getStart());
+        assertEquals(70000L, first.getEnd());
+        assertEquals(3L, first.getValue().getCount());
+        assertEquals(600L, first.getValue().getSum());
+        assertEquals(300L, first.getValue().getMax());
+
+        scheduler.advanceTimeBy(100, TimeUnit.SECONDS);
+        ts.assertValueCount(1);
+
+        ps.onNext(5L);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        ps.onCompleted();
+
+        ts.assertValueCount(2);
+        WindowedValue<LongSummary> second = ts.getOnNextEvents().get(1);
+        assertEquals(170000L, second.getStart());
+        assertEquals(1L, second.getValue().getCount());
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testDoubleSessionsWithExtractor() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<DoubleSummary>> ts = new TestSubscriber<WindowedValue<DoubleSummary>>();
+        MathObservable.from(ps).summarizeDoubleBySession(new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        }, 100, TimeUnit.MILLISECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("a");
+        ps.onNext("bbb");
+        scheduler.advanceTimeBy(150, TimeUnit.MILLISECONDS);
+        ps.onNext("cc");
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        List<WindowedValue<DoubleSummary>> list = ts.getOnNextEvents();
+        assertEquals(2, list.size());
+        assertEquals(2d, list.get(0).getValue().getAverage(), 0d);
+        assertEquals(150L, list.get(1).getStart());
+        assertEquals(250L, list.get(1).getEnd());
+        assertEquals(2d, list.get(1).getValue().getSum(), 0d);
+    }
+
+    @Test
+    public void testMatchesGroupedByGap() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Double> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<DoubleSummary>> ts = new TestSubscriber<WindowedValue<DoubleSummary>>();
+        MathObservable.summarizeDoubleBySession(ps, 10, TimeUnit.MILLISECONDS, scheduler).subscribe(ts);
+
+        int[] delays = { 0, 5, 9, 10, 3, 25, 1, 1, 11, 2 };
+        int expectedSessions = 1;
+        for (int i = 0; i < delays.length; i++) {
+            scheduler.advanceTimeBy(delays[i], TimeUnit.MILLISECONDS);
+            if (i > 0 && delays[i] >= 10) {
+                expectedSessions++;
+            }
+            ps.onNext(1d);
+        }
+        ps.onCompleted();
+
+        List<WindowedValue<DoubleSummary>> list = ts.getOnNextEvents();
+        assertEquals(expectedSessions, list.size());
+        long total = 0L;
+        for (WindowedValue<DoubleSummary> v : list) {
+            total += v.getValue().getCount();
+        }
+        assertEquals(delays.length, total);
+    }
+
+    @Test
+    public void testMissingBackpressure() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>(0L);
+        summarizeLongsBySession(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertError(MissingBackpressureException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test
+    public void testErrorCancelsTimer() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        summarizeLongsBySession(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        ps.onError(new IllegalStateException());
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testConcurrentTimerKeepsEveryValue() {
+        final int n = 200000;
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        Observable<Long> source = Observable.range(0, n).map(new Func1<Integer, Long>() {
+            @Override
+            public Long call(Integer t) {
+                if (t % 50000 == 0) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }
+                return 1L;
+            }
+        }).subscribeOn(Schedulers.newThread());
+        summarizeLongsBySession(source, 1, TimeUnit.MILLISECONDS, Schedulers.computation()).subscribe(ts);
+
+        ts.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        ts.assertCompleted();
+        long total = 0L;
+        for (WindowedValue<LongSummary> v : ts.getOnNextEvents()) {
+            total += v.getValue().getSum();
+        }
+        assertEquals(n, total);
+    }
+
+    @Test
+    public void testSubMillisecondGap() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<WindowedValue<LongSummary>> ts = new TestSubscriber<WindowedValue<LongSummary>>();
+        summarizeLongsBySession(ps, 500, TimeUnit.MICROSECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        ps.onNext(2L);
+        scheduler.triggerActions();
+        ts.assertNoValues();
+
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        ts.assertValueCount(1);
+        WindowedValue<LongSummary> session = ts.getOnNextEvents().get(0);
+        assertEquals(2L, session.getValue().getCount());
+        assertEquals(0L, session.getStart());
+        assertEquals(1L, session.getEnd());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGap() {
+        summarizeLongsBySession(Observable.just(1L), 0, TimeUnit.SECONDS, Schedulers.immediate());
+    }
+}
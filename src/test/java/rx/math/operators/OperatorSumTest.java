@@ -15,16 +15,28 @@
  */
 package rx.math.operators;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import static rx.math.operators.OperatorSum.*;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 import rx.Observable;
 import rx.Observer;
+import rx.Subscriber;
+import rx.functions.Action1;
 import rx.functions.Func1;
+import rx.math.functions.*;
 import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
 
 public class OperatorSumTest {
 
@@ -353,6 +365,352 @@ public class OperatorSumTest {
         testThrows(o, CustomException.class);
     }
 
+    @Test
+    public void testIntegerSumSelectorNullValue() {
+        Observable<String> source = Observable.just("a", "bb");
+        Func1<String, Integer> length = new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                return null;
+            }
+        };
+
+        Observable<Integer> result = MathObservable.from(source).sumInteger(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, NullPointerException.class);
+    }
+
+    @Test
+    public void testLongSumSelectorThrowsCancelsUpstream() {
+        final AtomicInteger emitted = new AtomicInteger();
+        Observable<Integer> source = Observable.range(1, 100).doOnNext(new Action1<Integer>() {
+            @Override
+            public void call(Integer t) {
+                emitted.getAndIncrement();
+            }
+        });
+        Func1<Integer, Long> length = new Func1<Integer, Long>() {
+            @Override
+            public Long call(Integer t1) {
+                throw new CustomException();
+            }
+        };
+
+        Observable<Long> result = MathObservable.from(source).sumLong(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, CustomException.class);
+        assertEquals(1, emitted.get());
+    }
+
+    @Test
+    public void testIntegerSumPrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "ccc", "dddd");
+        ToIntFunc1<String> length = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Integer> result = MathObservable.from(source).sumIntegerOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 10);
+    }
+
+    @Test
+    public void testLongSumPrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "ccc", "dddd");
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Long> result = MathObservable.from(source).sumLongOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 10L);
+    }
+
+    @Test
+    public void testFloatSumPrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "ccc", "dddd");
+        ToFloatFunc1<String> length = new ToFloatFunc1<String>() {
+            @Override
+            public float call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Float> result = MathObservable.from(source).sumFloatOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 10f);
+    }
+
+    @Test
+    public void testDoubleSumPrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "ccc", "dddd");
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Double> result = MathObservable.from(source).sumDoubleOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 10d);
+    }
+
+    @Test
+    public void testIntegerSumPrimitiveSelectorEmpty() {
+        Observable<String> source = Observable.empty();
+        ToIntFunc1<String> length = new ToIntFunc1<String>() {
+            @Override
+            public int call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Integer> result = MathObservable.from(source).sumIntegerOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDoubleSumPrimitiveSelectorThrows() {
+        Observable<String> source = Observable.just("a", "bb");
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                throw new CustomException();
+            }
+        };
+
+        Observable<Double> result = MathObservable.from(source).sumDoubleOf(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, CustomException.class);
+    }
+
+    @Test
+    public void testCompensatedSumOfDoubles() {
+        Observable<Double> src = Observable.just(1e16, 1.0d, -1e16);
+        MathObservable.sumDoubleCompensated(src).subscribe(wd);
+
+        verify(wd, times(1)).onNext(anyDouble());
+        verify(wd).onNext(1.0d);
+        verify(wd, never()).onError(any(Throwable.class));
+        verify(wd, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testCompensatedSumOfDoublesOverflowsToInfinity() {
+        Observable<Double> src = Observable.just(Double.MAX_VALUE, Double.MAX_VALUE);
+        MathObservable.sumDoubleCompensated(src).subscribe(wd);
+
+        verify(wd).onNext(Double.POSITIVE_INFINITY);
+        verify(wd, never()).onError(any(Throwable.class));
+        verify(wd, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testCompensatedEmptySumDoubles() {
+        Observable<Double> src = Observable.empty();
+        MathObservable.sumDoubleCompensated(src).subscribe(wd);
+
+        verify(wd).onNext(0.0d);
+        verify(wd, never()).onError(any(Throwable.class));
+        verify(wd, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testCompensatedSumOfFloats() {
+        Observable<Float> src = Observable.just(1e8f, 1.0f, -1e8f);
+        MathObservable.sumFloatCompensated(src).subscribe(wf);
+
+        verify(wf, times(1)).onNext(anyFloat());
+        verify(wf).onNext(1.0f);
+        verify(wf, never()).onError(any(Throwable.class));
+        verify(wf, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testCompensatedDoubleSumPrimitiveSelector() {
+        Observable<String> source = Observable.just("a", "bb", "ccc", "dddd");
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length() * 0.1d;
+            }
+        };
+
+        Observable<Double> result = MathObservable.from(source).sumDoubleCompensated(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testValue(o, 1.0d);
+    }
+
+    @Test
+    public void testCompensatedFloatSumPrimitiveSelectorEmpty() {
+        Observable<String> source = Observable.empty();
+        ToFloatFunc1<String> length = new ToFloatFunc1<String>() {
+            @Override
+            public float call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Float> result = MathObservable.from(source).sumFloatCompensated(length);
+        @SuppressWarnings("unchecked")
+        Observer<Object> o = mock(Observer.class);
+        result.subscribe(o);
+
+        testThrows(o, IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSumDoubleChunks() {
+        double[] chunk = new double[1000];
+        Arrays.fill(chunk, 0.1d);
+        double naive = 0d;
+        for (int i = 0; i < 10; i++) {
+            for (double d : chunk) {
+                naive += d;
+            }
+        }
+
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.sumDoubleChunks(Observable.just(chunk).repeat(10)).subscribe(ts);
+
+        ts.assertValueCount(1);
+        ts.assertCompleted();
+        double sum = ts.getOnNextEvents().get(0);
+        assertEquals(1000d, sum, 1e-12);
+        assertTrue(Math.abs(1000d - naive) > 1e-12);
+    }
+
+    @Test
+    public void testSumDoubleChunksEmpty() {
+        MathObservable.sumDoubleChunks(Observable.<double[]>empty()).subscribe(wd);
+
+        verify(wd).onNext(0.0d);
+        verify(wd, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testSumIntegerToLong() {
+        Observable<Integer> src = Observable.just(Integer.MAX_VALUE, Integer.MAX_VALUE, 2);
+        MathObservable.sumIntegerToLong(src).subscribe(wl);
+
+        verify(wl).onNext(2L * Integer.MAX_VALUE + 2);
+        verify(wl, never()).onError(any(Throwable.class));
+        verify(wl, times(1)).onCompleted();
+    }
+
+    @Test
+    public void testSumLongExactWithoutOverflow() {
+        TestSubscriber<BigInteger> ts = new TestSubscriber<BigInteger>();
+        MathObservable.sumLongExact(Observable.just(1L, 2L, -4L)).subscribe(ts);
+
+        ts.assertValue(BigInteger.valueOf(-1));
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testSumLongExactOverflow() {
+        TestSubscriber<BigInteger> ts = new TestSubscriber<BigInteger>();
+        MathObservable.sumLongExact(Observable.just(Long.MAX_VALUE, Long.MAX_VALUE, 3L, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE))
+        .subscribe(ts);
+
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        ts.assertValue(max.add(max).add(BigInteger.valueOf(3)).add(min).add(min).add(min));
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testSumLongExactEmpty() {
+        TestSubscriber<BigInteger> ts = new TestSubscriber<BigInteger>();
+        MathObservable.sumLongExact(Observable.<Long>empty()).subscribe(ts);
+
+        ts.assertValue(BigInteger.ZERO);
+    }
+
+    @Test
+    public void testSumLongExactPrimitiveSelectorEmpty() {
+        ToLongFunc1<String> length = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        };
+        TestSubscriber<BigInteger> ts = new TestSubscriber<BigInteger>();
+        MathObservable.from(Observable.<String>empty()).sumLongExact(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEventsAfterCompletionAreIgnored() {
+        TestSubscriber<Integer> ts = new TestSubscriber<Integer>();
+        sumIntegers(Observable.create(new Observable.OnSubscribe<Integer>() {
+            @Override
+            public void call(Subscriber<? super Integer> s) {
+                s.onNext(1);
+                s.onCompleted();
+                s.onNext(2);
+                s.onCompleted();
+            }
+        })).subscribe(ts);
+
+        ts.assertValue(1);
+        ts.assertCompleted();
+        ts.assertNoErrors();
+    }
+
+    @Test
+    public void testSumDoubleChunksNullChunk() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        PublishSubject<double[]> ps = PublishSubject.create();
+        sumDoubleChunks(ps).subscribe(ts);
+
+        ps.onNext(new double[] { 1d, 2d });
+        ps.onNext(null);
+        ps.onNext(new double[] { 3d });
+        ps.onCompleted();
+
+        ts.assertNoValues();
+        ts.assertError(NullPointerException.class);
+        assertFalse(ps.hasObservers());
+    }
+
     static class CustomException extends RuntimeException {
         private static final long serialVersionUID = 8825937249852675778L;
     }
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorSummaryTest {
+
+    @Test
+    public void testSummarizeIntegers() {
+        TestSubscriber<IntSummary> ts = new TestSubscriber<IntSummary>();
+        MathObservable.summarizeInt(Observable.just(3, -1, Integer.MAX_VALUE, 5)).subscribe(ts);
+
+        ts.assertValueCount(1);
+        ts.assertCompleted();
+        IntSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(4, s.getCount());
+        assertEquals(7L + Integer.MAX_VALUE, s.getSum());
+        assertEquals(-1, s.getMin());
+        assertEquals(Integer.MAX_VALUE, s.getMax());
+        assertEquals((7d + Integer.MAX_VALUE) / 4, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testSummarizeLongs() {
+        TestSubscriber<LongSummary> ts = new TestSubscriber<LongSummary>();
+        MathObservable.summarizeLong(Observable.just(10L, 20L, 30L)).subscribe(ts);
+
+        LongSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(3, s.getCount());
+        assertEquals(60L, s.getSum());
+        assertEquals(10L, s.getMin());
+        assertEquals(30L, s.getMax());
+        assertEquals(20d, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testSummarizeDoubles() {
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.summarizeDouble(Observable.just(1e16, 1.0d, -1e16, 2.0d)).subscribe(ts);
+
+        DoubleSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(4, s.getCount());
+        assertEquals(3.0d, s.getSum(), 0d);
+        assertEquals(-1e16, s.getMin(), 0d);
+        assertEquals(1e16, s.getMax(), 0d);
+        assertEquals(0.75d, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testSummarizeDoublesNaN() {
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.summarizeDouble(Observable.just(1.0d, Double.NaN, 2.0d)).subscribe(ts);
+
+        DoubleSummary s = ts.getOnNextEvents().get(0);
+        assertTrue(Double.isNaN(s.getMin()));
+        assertTrue(Double.isNaN(s.getMax()));
+        assertTrue(Double.isNaN(s.getSum()));
+    }
+
+    @Test
+    public void testSummarizeEmpty() {
+        TestSubscriber<IntSummary> ts = new TestSubscriber<IntSummary>();
+        MathObservable.summarizeInt(Observable.<Integer>empty()).subscribe(ts);
+
+        ts.assertValueCount(1);
+        ts.assertCompleted();
+        IntSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(0, s.getCount());
+        assertEquals(0L, s.getSum());
+        assertEquals(Integer.MAX_VALUE, s.getMin());
+        assertEquals(Integer.MIN_VALUE, s.getMax());
+        assertEquals(0d, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testSummarizePrimitiveSelector() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.from(Observable.just("a", "bb", "ccc", "dddd")).summarizeDouble(length).subscribe(ts);
+
+        DoubleSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(4, s.getCount());
+        assertEquals(10d, s.getSum(), 0d);
+        assertEquals(1d, s.getMin(), 0d);
+        assertEquals(4d, s.getMax(), 0d);
+        assertEquals(2.5d, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testSummarizePrimitiveSelectorThrows() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.from(Observable.just("a", "bb")).summarizeDouble(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testSummaryEmittedOnlyWhenRequested() {
+        TestSubscriber<LongSummary> ts = new TestSubscriber<LongSummary>(0);
+        MathObservable.summarizeLong(Observable.just(1L, 2L)).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertNoTerminalEvent();
+
+        ts.requestMore(1);
+
+        ts.assertValueCount(1);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testLongSummaryDoesNotOverflow() {
+        LongSummary s = MathObservable.summarizeLong(Observable.just(Long.MAX_VALUE, Long.MAX_VALUE, 1L))
+                .toBlocking().single();
+
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.ONE);
+        assertTrue(s.isSumOverflow());
+        assertEquals(expected, s.getExactSum());
+        assertEquals(expected.longValue(), s.getSum());
+        assertEquals(expected.doubleValue() / 3, s.getAverage(), 0d);
+    }
+
+    @Test
+    public void testLongSummaryOverflowCancelsOut() {
+        LongSummary s = MathObservable.summarizeLong(Observable.just(Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE))
+                .toBlocking().single();
+
+        assertFalse(s.isSumOverflow());
+        assertEquals(Long.MAX_VALUE, s.getSum());
+        assertEquals(Long.MAX_VALUE / 3d, s.getAverage(), 1d);
+    }
+}
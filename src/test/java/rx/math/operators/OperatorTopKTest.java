@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorTopK.*;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorTopKTest {
+
+    static final Func1<String, Integer> LENGTH = new Func1<String, Integer>() {
+        @Override
+        public Integer call(String t1) {
+            return t1.length();
+        }
+    };
+
+    @Test
+    public void testTopK() {
+        assertEquals(Arrays.asList(9, 8, 7), topK(Observable.just(5, 9, 1, 7, 3, 8, 2), 3).toBlocking().single());
+    }
+
+    @Test
+    public void testBottomK() {
+        assertEquals(Arrays.asList(1, 2, 3), bottomK(Observable.just(5, 9, 1, 7, 3, 8, 2), 3).toBlocking().single());
+    }
+
+    @Test
+    public void testFewerItemsThanK() {
+        assertEquals(Arrays.asList(9, 5, 1), MathObservable.topK(Observable.just(5, 9, 1), 10).toBlocking().single());
+    }
+
+    @Test
+    public void testEmptyAndZero() {
+        assertEquals(Collections.<Integer>emptyList(), topK(Observable.<Integer>empty(), 3).toBlocking().single());
+        assertEquals(Collections.<Integer>emptyList(), topK(Observable.just(1, 2), 0).toBlocking().single());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        topK(Observable.just(1), -1);
+    }
+
+    @Test
+    public void testTopKWithComparator() {
+        Comparator<Integer> reverse = Collections.reverseOrder();
+
+        List<Integer> list = MathObservable.from(Observable.just(5, 9, 1, 7)).topK(2, reverse).toBlocking().single();
+
+        assertEquals(Arrays.asList(1, 5), list);
+    }
+
+    @Test
+    public void testTopKByKeepsArrivalOrderOfTies() {
+        Observable<String> source = Observable.just("bb", "a", "ccc", "dd", "eee", "f", "gg");
+
+        assertEquals(Arrays.asList("ccc", "eee", "bb", "dd"),
+                MathObservable.from(source).topKBy(4, LENGTH).toBlocking().single());
+        assertEquals(Arrays.asList("a", "f", "bb"),
+                MathObservable.from(source).bottomKBy(3, LENGTH).toBlocking().single());
+    }
+
+    @Test
+    public void testTopKBySelectorCalledOncePerItem() {
+        final int[] calls = { 0 };
+        Func1<Integer, Integer> key = new Func1<Integer, Integer>() {
+            @Override
+            public Integer call(Integer t1) {
+                calls[0]++;
+                return -t1;
+            }
+        };
+
+        List<Integer> list = topKBy(Observable.range(1, 1000), 5, key).toBlocking().single();
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+        assertEquals(1000, calls[0]);
+    }
+
+    @Test
+    public void testTopKMatchesSorting() {
+        Random random = new Random(1);
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            values.add(random.nextInt(5000));
+        }
+        List<Integer> sorted = new ArrayList<Integer>(values);
+        Collections.sort(sorted, Collections.reverseOrder());
+
+        assertEquals(sorted.subList(0, 100), topK(Observable.from(values), 100).toBlocking().single());
+        Collections.reverse(sorted);
+        assertEquals(sorted.subList(0, 100), bottomK(Observable.from(values), 100).toBlocking().single());
+    }
+
+    @Test
+    public void testSelectorThrows() {
+        Func1<String, Integer> fail = new Func1<String, Integer>() {
+            @Override
+            public Integer call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<List<String>> ts = new TestSubscriber<List<String>>();
+        MathObservable.from(Observable.just("a", "bb")).topKBy(1, fail).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,376 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+import static rx.math.operators.OperatorTumbling.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.functions.*;
+import rx.math.functions.*;
+import rx.math.statistics.*;
+import rx.observables.MathObservable;
+import rx.exceptions.MissingBackpressureException;
+import rx.observers.TestSubscriber;
+import rx.schedulers.*;
+import rx.subjects.PublishSubject;
+
+public class OperatorTumblingTest {
+
+    @Test
+    public void testSumDoublesEvery() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        sumDoublesEvery(Observable.just(1d, 2d, 3d, 4d, 5d), 2).subscribe(ts);
+
+        ts.assertValues(3d, 7d, 5d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testAverageDoublesEvery() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.averageDoubleEvery(Observable.just(1d, 2d, 3d, 4d, 5d), 3).subscribe(ts);
+
+        ts.assertValues(2d, 4.5d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testSumLongsEveryMatchesBuffer() {
+        Random random = new Random(1);
+        List<Long> values = new ArrayList<Long>();
+        for (int i = 0; i < 1001; i++) {
+            values.add((long) random.nextInt(1000));
+        }
+        Func1<List<Long>, Long> sum = new Func1<List<Long>, Long>() {
+            @Override
+            public Long call(List<Long> t) {
+                long s = 0L;
+                for (Long v : t) {
+                    s += v;
+                }
+                return s;
+            }
+        };
+        List<Long> expected = Observable.from(values).buffer(10).map(sum).toList().toBlocking().single();
+
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        MathObservable.sumLongEvery(Observable.from(values), 10).subscribe(ts);
+
+        assertEquals(expected, ts.getOnNextEvents());
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testMinMaxEvery() {
+        TestSubscriber<LongMinMax> ts = new TestSubscriber<LongMinMax>();
+        minMaxLongsEvery(Observable.just(3L, 1L, 2L, 5L, 4L), 3).subscribe(ts);
+
+        ts.assertValues(new LongMinMax(1L, 3L), new LongMinMax(4L, 5L));
+        ts.assertCompleted();
+
+        TestSubscriber<DoubleMinMax> tsd = new TestSubscriber<DoubleMinMax>();
+        minMaxDoublesEvery(Observable.just(-0.0d, 0.0d, Double.NaN, 1d), 2).subscribe(tsd);
+
+        tsd.assertValues(new DoubleMinMax(-0.0d, 0.0d), new DoubleMinMax(Double.NaN, Double.NaN));
+    }
+
+    @Test
+    public void testSummarizeEvery() {
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        summarizeDoublesEvery(Observable.just(1d, 3d, 5d, 10d), 3).subscribe(ts);
+
+        ts.assertValueCount(2);
+        DoubleSummary first = ts.getOnNextEvents().get(0);
+        assertEquals(3, first.getCount());
+        assertEquals(9d, first.getSum(), 0d);
+        assertEquals(1d, first.getMin(), 0d);
+        assertEquals(5d, first.getMax(), 0d);
+        DoubleSummary last = ts.getOnNextEvents().get(1);
+        assertEquals(1, last.getCount());
+        assertEquals(10d, last.getSum(), 0d);
+        assertEquals(10d, last.getMin(), 0d);
+
+        TestSubscriber<LongSummary> tsl = new TestSubscriber<LongSummary>();
+        MathObservable.from(Observable.just("a", "bb", "ccc")).summarizeLongEvery(new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                return t1.length();
+            }
+        }, 2).subscribe(tsl);
+
+        tsl.assertValueCount(2);
+        assertEquals(3L, tsl.getOnNextEvents().get(0).getSum());
+        assertEquals(2L, tsl.getOnNextEvents().get(0).getMax());
+        assertEquals(3L, tsl.getOnNextEvents().get(1).getMin());
+    }
+
+    @Test
+    public void testBackpressure() {
+        final List<Long> requests = new ArrayList<Long>();
+        Observable<Double> source = Observable.just(1d, 2d, 3d, 4d, 5d, 6d, 7d).doOnRequest(new Action1<Long>() {
+            @Override
+            public void call(Long t) {
+                if (t != 0L) {
+                    requests.add(t);
+                }
+            }
+        });
+        TestSubscriber<Double> ts = new TestSubscriber<Double>(0L);
+        sumDoublesEvery(source, 3).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.requestMore(1);
+        ts.assertValues(6d);
+        ts.assertNotCompleted();
+        ts.requestMore(2);
+        ts.assertValues(6d, 15d, 7d);
+        ts.assertCompleted();
+        assertEquals(Arrays.asList(3L, 6L), requests);
+    }
+
+    @Test
+    public void testUnboundedRequest() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        sumDoublesEvery(Observable.range(1, 10).map(new Func1<Integer, Double>() {
+            @Override
+            public Double call(Integer t) {
+                return t.doubleValue();
+            }
+        }), Integer.MAX_VALUE).subscribe(ts);
+
+        ts.assertValues(55d);
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testEmpty() {
+        TestSubscriber<LongSummary> ts = new TestSubscriber<LongSummary>();
+        summarizeLongsEvery(Observable.<Long>empty(), 2).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertCompleted();
+    }
+
+    @Test
+    public void testSelectorThrows() {
+        ToLongFunc1<String> fail = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                if (t1.length() > 1) {
+                    throw new IllegalStateException();
+                }
+                return 1L;
+            }
+        };
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        MathObservable.from(Observable.just("a", "b", "cc", "d")).sumLongEvery(fail, 2).subscribe(ts);
+
+        ts.assertValues(2L);
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        sumDoublesEvery(Observable.just(1d), 0);
+    }
+
+    @Test
+    public void testTimedSumAndCount() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Double> ps = PublishSubject.create();
+        TestSubscriber<Double> sums = new TestSubscriber<Double>();
+        sumDoublesEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(sums);
+        TestSubscriber<Long> counts = new TestSubscriber<Long>();
+        MathObservable.countEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(counts);
+
+        ps.onNext(1d);
+        ps.onNext(2d);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        sums.assertValues(3d);
+        counts.assertValues(2L);
+
+        ps.onNext(4d);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        sums.assertValues(3d, 4d, 0d);
+        counts.assertValues(2L, 1L, 0L);
+
+        ps.onNext(5d);
+        ps.onCompleted();
+        sums.assertValues(3d, 4d, 0d, 5d);
+        sums.assertCompleted();
+        counts.assertValues(2L, 1L, 0L, 1L);
+        counts.assertCompleted();
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        sums.assertValueCount(4);
+    }
+
+    @Test
+    public void testTimedAverageAndMinMaxSkipEmptyPeriods() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<LongMinMax> ts = new TestSubscriber<LongMinMax>();
+        minMaxLongsEvery(ps, 100, TimeUnit.MILLISECONDS, scheduler).subscribe(ts);
+        TestSubscriber<Double> avg = new TestSubscriber<Double>();
+        MathObservable.from(ps).averageDoubleEvery(new ToDoubleFunc1<Long>() {
+            @Override
+            public double call(Long t1) {
+                return t1;
+            }
+        }, 100, TimeUnit.MILLISECONDS, scheduler).subscribe(avg);
+
+        ps.onNext(3L);
+        ps.onNext(1L);
+        scheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+        ps.onNext(7L);
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        ts.assertValues(new LongMinMax(1L, 3L), new LongMinMax(7L, 7L));
+        avg.assertValues(2d, 7d);
+        ps.onCompleted();
+        ts.assertCompleted();
+        ts.assertValueCount(2);
+    }
+
+    @Test
+    public void testTimedSummary() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Double> ps = PublishSubject.create();
+        TestSubscriber<DoubleSummary> ts = new TestSubscriber<DoubleSummary>();
+        MathObservable.summarizeDoubleEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(2d);
+        ps.onNext(4d);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+
+        ts.assertValueCount(2);
+        DoubleSummary first = ts.getOnNextEvents().get(0);
+        assertEquals(2, first.getCount());
+        assertEquals(3d, first.getAverage(), 0d);
+        assertEquals(2d, first.getMin(), 0d);
+        assertEquals(4d, first.getMax(), 0d);
+        assertEquals(0, ts.getOnNextEvents().get(1).getCount());
+    }
+
+    @Test
+    public void testTimedMissingBackpressure() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<Long> ts = new TestSubscriber<Long>(1L);
+        sumLongsEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertValues(1L);
+        ts.assertNoErrors();
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertError(MissingBackpressureException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test
+    public void testTimedErrorAndUnsubscribe() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Long> ps = PublishSubject.create();
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        sumLongsEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext(1L);
+        ps.onError(new IllegalStateException());
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+
+        ts = new TestSubscriber<Long>();
+        sumLongsEvery(ps, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+        ts.unsubscribe();
+        assertFalse(ps.hasObservers());
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        ts.assertNoValues();
+    }
+
+    @Test
+    public void testTimedSelectorThrows() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<String> ps = PublishSubject.create();
+        ToLongFunc1<String> fail = new ToLongFunc1<String>() {
+            @Override
+            public long call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        MathObservable.from(ps).sumLongEvery(fail, 1, TimeUnit.SECONDS, scheduler).subscribe(ts);
+
+        ps.onNext("a");
+        ts.assertError(IllegalStateException.class);
+        assertFalse(ps.hasObservers());
+    }
+
+    @Test
+    public void testTimedConcurrentTicksKeepEveryValue() {
+        final int n = 1000000;
+        TestSubscriber<Long> ts = new TestSubscriber<Long>();
+        sumLongsEvery(Observable.range(0, n).map(new Func1<Integer, Long>() {
+            @Override
+            public Long call(Integer t) {
+                return 1L;
+            }
+        }).subscribeOn(Schedulers.newThread()), 100, TimeUnit.MICROSECONDS, Schedulers.computation()).subscribe(ts);
+
+        ts.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        ts.assertNoErrors();
+        ts.assertCompleted();
+        long total = 0L;
+        for (Long v : ts.getOnNextEvents()) {
+            total += v;
+        }
+        assertEquals(n, total);
+    }
+
+    @Test
+    public void testTimedCompletionRacingTicksKeepsQueuedValues() {
+        for (int i = 0; i < 2000; i++) {
+            TestSubscriber<Long> ts = new TestSubscriber<Long>();
+            countEvery(Observable.just(1, 2, 3).subscribeOn(Schedulers.newThread()),
+                    1, TimeUnit.MICROSECONDS, Schedulers.computation()).subscribe(ts);
+
+            ts.awaitTerminalEvent(5, TimeUnit.SECONDS);
+            ts.assertNoErrors();
+            ts.assertCompleted();
+            long total = 0L;
+            for (Long v : ts.getOnNextEvents()) {
+                total += v;
+            }
+            assertEquals("round " + i, 3L, total);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimedInvalidTime() {
+        countEvery(Observable.just(1), 0, TimeUnit.SECONDS, Schedulers.immediate());
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2016 Netflix, Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package rx.math.operators;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.math.functions.ToDoubleFunc1;
+import rx.math.statistics.VarianceSummary;
+import rx.observables.MathObservable;
+import rx.observers.TestSubscriber;
+
+public class OperatorVarianceTest {
+
+    static final Observable<Double> SOURCE = Observable.just(2d, 4d, 4d, 4d, 5d, 5d, 7d, 9d);
+
+    @Test
+    public void testPopulationVariance() {
+        assertEquals(4d, MathObservable.varianceDouble(SOURCE).toBlocking().single(), 1e-12);
+    }
+
+    @Test
+    public void testSampleVariance() {
+        assertEquals(32d / 7, MathObservable.sampleVarianceDouble(SOURCE).toBlocking().single(), 1e-12);
+    }
+
+    @Test
+    public void testPopulationStdDev() {
+        assertEquals(2d, MathObservable.stdDevDouble(SOURCE).toBlocking().single(), 1e-12);
+    }
+
+    @Test
+    public void testSampleStdDev() {
+        assertEquals(Math.sqrt(32d / 7), MathObservable.sampleStdDevDouble(SOURCE).toBlocking().single(), 1e-12);
+    }
+
+    @Test
+    public void testSampleVarianceOfSingleItemIsNaN() {
+        assertTrue(Double.isNaN(MathObservable.sampleVarianceDouble(Observable.just(1d)).toBlocking().single()));
+    }
+
+    @Test
+    public void testVarianceEmpty() {
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.varianceDouble(Observable.<Double>empty()).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testVarianceIsNumericallyStable() {
+        Observable<Double> src = Observable.just(1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16);
+
+        assertEquals(30d, MathObservable.sampleVarianceDouble(src).toBlocking().single(), 1e-6);
+    }
+
+    @Test
+    public void testVariancePrimitiveSelector() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                return t1.length();
+            }
+        };
+
+        Observable<Double> o = MathObservable.from(Observable.just("a", "bbb")).varianceDouble(length);
+
+        assertEquals(1d, o.toBlocking().single(), 1e-12);
+    }
+
+    @Test
+    public void testVariancePrimitiveSelectorThrows() {
+        ToDoubleFunc1<String> length = new ToDoubleFunc1<String>() {
+            @Override
+            public double call(String t1) {
+                throw new IllegalStateException();
+            }
+        };
+        TestSubscriber<Double> ts = new TestSubscriber<Double>();
+        MathObservable.from(Observable.just("a", "bbb")).stdDevDouble(length).subscribe(ts);
+
+        ts.assertNoValues();
+        ts.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testVarianceSummary() {
+        TestSubscriber<VarianceSummary> ts = new TestSubscriber<VarianceSummary>();
+        MathObservable.varianceSummaryDouble(SOURCE).subscribe(ts);
+
+        VarianceSummary s = ts.getOnNextEvents().get(0);
+        assertEquals(8, s.getCount());
+        assertEquals(5d, s.getMean(), 1e-12);
+        assertEquals(32d, s.getSumOfSquaredDeviations(), 1e-12);
+        assertEquals(4d, s.getPopulationVariance(), 1e-12);
+        assertEquals(32d / 7, s.getSampleVariance(), 1e-12);
+        assertEquals(0.4d, s.getCoefficientOfVariation(), 1e-12);
+    }
+
+    @Test
+    public void testVarianceSummaryEmpty() {
+        TestSubscriber<VarianceSummary> ts = new TestSubscriber<VarianceSummary>();
+        MathObservable.varianceSummaryDouble(Observable.<Double>empty()).subscribe(ts);
+
+        ts.assertValue(VarianceSummary.EMPTY);
+        assertTrue(Double.isNaN(VarianceSummary.EMPTY.getPopulationVariance()));
+    }
+
+    @Test
+    public void testVarianceSummaryMerge() {
+        TestSubscriber<VarianceSummary> ts1 = new TestSubscriber<VarianceSummary>();
+        TestSubscriber<VarianceSummary> ts2 = new TestSubscriber<VarianceSummary>();
+        MathObservable.varianceSummaryDouble(SOURCE.take(3)).subscribe(ts1);
+        MathObservable.varianceSummaryDouble(SOURCE.skip(3)).subscribe(ts2);
+
+        VarianceSummary s = ts1.getOnNextEvents().get(0).merge(ts2.getOnNextEvents().get(0));
+
+        assertEquals(8, s.getCount());
+        assertEquals(5d, s.getMean(), 1e-12);
+        assertEquals(4d, s.getPopulationVariance(), 1e-12);
+        assertSame(s, s.merge(VarianceSummary.EMPTY));
+        assertSame(s, VarianceSummary.EMPTY.merge(s));
+    }
+}